@@ -0,0 +1,255 @@
+package org.dominokit.jacksonapt.benchmarks;
+
+import org.dominokit.jacksonapt.benchmarks.model.Circle;
+import org.dominokit.jacksonapt.benchmarks.model.ContainersBean;
+import org.dominokit.jacksonapt.benchmarks.model.DatesBean;
+import org.dominokit.jacksonapt.benchmarks.model.Drawing;
+import org.dominokit.jacksonapt.benchmarks.model.Graph;
+import org.dominokit.jacksonapt.benchmarks.model.LargeBean;
+import org.dominokit.jacksonapt.benchmarks.model.MediumBean;
+import org.dominokit.jacksonapt.benchmarks.model.Node;
+import org.dominokit.jacksonapt.benchmarks.model.Polygon;
+import org.dominokit.jacksonapt.benchmarks.model.PrimitiveArraysBean;
+import org.dominokit.jacksonapt.benchmarks.model.Rectangle;
+import org.dominokit.jacksonapt.benchmarks.model.Shape;
+import org.dominokit.jacksonapt.benchmarks.model.SmallBean;
+import org.dominokit.jacksonapt.benchmarks.model.Status;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds the beans used by the benchmarks. The values only depend on the arguments so every run measures the same
+ * documents.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public final class BenchmarkData {
+
+    /**
+     * Number of elements of the lists, maps and arrays.
+     */
+    public static final int SIZE = 20;
+
+    private static final long EPOCH = 1546300800000L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * <p>smallBean</p>
+     *
+     * @param i seed of the values
+     * @return a {@link org.dominokit.jacksonapt.benchmarks.model.SmallBean} object.
+     */
+    public static SmallBean smallBean(int i) {
+        SmallBean bean = new SmallBean();
+        bean.setId(i);
+        bean.setName("small bean " + i);
+        bean.setActive(i % 2 == 0);
+        return bean;
+    }
+
+    /**
+     * <p>mediumBean</p>
+     *
+     * @param i seed of the values
+     * @return a {@link org.dominokit.jacksonapt.benchmarks.model.MediumBean} object.
+     */
+    public static MediumBean mediumBean(int i) {
+        MediumBean bean = new MediumBean();
+        bean.setId(1000000L + i);
+        bean.setFirstName("First" + i);
+        bean.setLastName("Last" + i);
+        bean.setEmail("first.last" + i + "@example.com");
+        bean.setAge(20 + i % 50);
+        bean.setScore(i * 1.25);
+        bean.setVerified(i % 3 == 0);
+        bean.setStatus(Status.values()[i % Status.values().length]);
+        bean.setTags(Arrays.asList("tag" + i, "tag" + (i + 1), "tag" + (i + 2)));
+        bean.setOwner(smallBean(i));
+        return bean;
+    }
+
+    /**
+     * <p>largeBean</p>
+     *
+     * @param i seed of the values
+     * @return a {@link org.dominokit.jacksonapt.benchmarks.model.LargeBean} object.
+     */
+    public static LargeBean largeBean(int i) {
+        LargeBean bean = new LargeBean();
+        bean.setId("large-" + i);
+        bean.setTitle("A large bean with many properties");
+        bean.setDescription("Measures the property lookups, the nested beans and the \"escaped\" strings\n");
+        bean.setVersion(i);
+        bean.setCreatedBy(123456789012L + i);
+        bean.setAmount(98765.4321 + i);
+        bean.setRatio(0.75f);
+        bean.setPriority((short) (i % 10));
+        bean.setLevel((byte) (i % 5));
+        bean.setGrade((char) ('A' + i % 5));
+        bean.setPublished(true);
+        bean.setArchived(false);
+        bean.setStatus(Status.ACTIVE);
+        bean.setRevision(i * 7);
+        bean.setPrimary(mediumBean(i));
+        List<MediumBean> items = new ArrayList<>(SIZE);
+        for (int j = 0; j < SIZE; j++) {
+            items.add(mediumBean(i + j));
+        }
+        bean.setItems(items);
+        Map<String, String> attributes = new LinkedHashMap<>();
+        for (int j = 0; j < 5; j++) {
+            attributes.put("key" + j, "value" + (i + j));
+        }
+        bean.setAttributes(attributes);
+        return bean;
+    }
+
+    /**
+     * <p>drawing</p>
+     *
+     * @return a {@link org.dominokit.jacksonapt.benchmarks.model.Drawing} object.
+     */
+    public static Drawing drawing() {
+        List<Shape> shapes = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            Shape shape;
+            switch (i % 3) {
+                case 0:
+                    Circle circle = new Circle();
+                    circle.setX(i);
+                    circle.setY(i * 2);
+                    circle.setRadius(i + 0.5);
+                    shape = circle;
+                    break;
+                case 1:
+                    Rectangle rectangle = new Rectangle();
+                    rectangle.setX(i);
+                    rectangle.setY(i * 2);
+                    rectangle.setWidth(i * 1.5);
+                    rectangle.setHeight(i * 0.5);
+                    shape = rectangle;
+                    break;
+                default:
+                    Polygon polygon = new Polygon();
+                    polygon.setPoints(new double[]{0, 0, i, 0, i, i});
+                    polygon.setClosed(true);
+                    shape = polygon;
+            }
+            shape.setColor(i % 2 == 0 ? "red" : "blue");
+            shapes.add(shape);
+        }
+        Drawing drawing = new Drawing();
+        drawing.setName("drawing");
+        drawing.setShapes(shapes);
+        return drawing;
+    }
+
+    /**
+     * <p>containersBean</p>
+     *
+     * @return a {@link org.dominokit.jacksonapt.benchmarks.model.ContainersBean} object.
+     */
+    public static ContainersBean containersBean() {
+        Map<String, Integer> counters = new LinkedHashMap<>();
+        Map<Integer, SmallBean> beansById = new LinkedHashMap<>();
+        List<Integer> numbers = new ArrayList<>(SIZE);
+        List<SmallBean> beans = new ArrayList<>(SIZE);
+        Set<String> labels = new LinkedHashSet<>();
+        for (int i = 0; i < SIZE; i++) {
+            counters.put("counter" + i, i * 31);
+            beansById.put(i, smallBean(i));
+            numbers.add(i * 1000);
+            beans.add(smallBean(i + SIZE));
+            labels.add("label" + i);
+        }
+        ContainersBean bean = new ContainersBean();
+        bean.setCounters(counters);
+        bean.setBeansById(beansById);
+        bean.setNumbers(numbers);
+        bean.setBeans(beans);
+        bean.setLabels(labels);
+        return bean;
+    }
+
+    /**
+     * <p>primitiveArraysBean</p>
+     *
+     * @return a {@link org.dominokit.jacksonapt.benchmarks.model.PrimitiveArraysBean} object.
+     */
+    public static PrimitiveArraysBean primitiveArraysBean() {
+        int length = SIZE * 5;
+        int[] ints = new int[length];
+        long[] longs = new long[length];
+        double[] doubles = new double[length];
+        float[] floats = new float[length];
+        short[] shorts = new short[length];
+        byte[] bytes = new byte[length * 10];
+        for (int i = 0; i < length; i++) {
+            ints[i] = i * 12345;
+            longs[i] = i * 1234567890123L;
+            doubles[i] = i * 3.14159;
+            floats[i] = i * 2.5f;
+            shorts[i] = (short) (i * 100);
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        PrimitiveArraysBean bean = new PrimitiveArraysBean();
+        bean.setInts(ints);
+        bean.setLongs(longs);
+        bean.setDoubles(doubles);
+        bean.setFloats(floats);
+        bean.setShorts(shorts);
+        bean.setBytes(bytes);
+        return bean;
+    }
+
+    /**
+     * <p>datesBean</p>
+     *
+     * @return a {@link org.dominokit.jacksonapt.benchmarks.model.DatesBean} object.
+     */
+    public static DatesBean datesBean() {
+        List<Date> history = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            history.add(new Date(EPOCH + i * 86400000L));
+        }
+        DatesBean bean = new DatesBean();
+        bean.setCreated(new Date(EPOCH));
+        bean.setHistory(history);
+        bean.setUpdated(new Date(EPOCH + 3723004L));
+        bean.setDay(new Date(EPOCH));
+        return bean;
+    }
+
+    /**
+     * Nodes linked to their next two nodes in a ring, every node after the first occurrence is written as a reference.
+     *
+     * @return a {@link org.dominokit.jacksonapt.benchmarks.model.Graph} object.
+     */
+    public static Graph graph() {
+        List<Node> nodes = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            Node node = new Node();
+            node.setId(i);
+            node.setLabel("node" + i);
+            nodes.add(node);
+        }
+        for (int i = 0; i < SIZE; i++) {
+            nodes.get(i).setLinks(Arrays.asList(nodes.get((i + 1) % SIZE), nodes.get((i + 2) % SIZE)));
+        }
+        Graph graph = new Graph();
+        graph.setNodes(nodes);
+        return graph;
+    }
+}
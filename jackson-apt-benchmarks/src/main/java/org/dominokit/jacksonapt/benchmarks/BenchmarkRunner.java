@@ -0,0 +1,40 @@
+package org.dominokit.jacksonapt.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks selected by the JMH command line with the {@link org.openjdk.jmh.profile.GCProfiler}, so the
+ * throughput of every benchmark is reported with its {@code gc.alloc.rate.norm}, the bytes allocated per operation.
+ * <pre>
+ *   mvn -Pbenchmarks -pl jackson-apt-benchmarks -am package
+ *   java -jar jackson-apt-benchmarks/target/benchmarks.jar [JMH options] [benchmark regexp]
+ * </pre>
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public class BenchmarkRunner {
+
+    /**
+     * <p>main</p>
+     *
+     * @param args the JMH command line options
+     * @throws java.lang.Exception if the options are invalid or a benchmark fails
+     */
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        Options options = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,140 @@
+package org.dominokit.jacksonapt.benchmarks;
+
+import org.dominokit.jacksonapt.DefaultJsonDeserializationContext;
+import org.dominokit.jacksonapt.FieldMask;
+import org.dominokit.jacksonapt.benchmarks.model.ContainersBean;
+import org.dominokit.jacksonapt.benchmarks.model.ContainersBean_MapperImpl;
+import org.dominokit.jacksonapt.benchmarks.model.DatesBean;
+import org.dominokit.jacksonapt.benchmarks.model.DatesBean_MapperImpl;
+import org.dominokit.jacksonapt.benchmarks.model.Drawing;
+import org.dominokit.jacksonapt.benchmarks.model.Drawing_MapperImpl;
+import org.dominokit.jacksonapt.benchmarks.model.Graph;
+import org.dominokit.jacksonapt.benchmarks.model.Graph_MapperImpl;
+import org.dominokit.jacksonapt.benchmarks.model.LargeBean;
+import org.dominokit.jacksonapt.benchmarks.model.LargeBean_MapperImpl;
+import org.dominokit.jacksonapt.benchmarks.model.MediumBean;
+import org.dominokit.jacksonapt.benchmarks.model.MediumBean_MapperImpl;
+import org.dominokit.jacksonapt.benchmarks.model.PrimitiveArraysBean;
+import org.dominokit.jacksonapt.benchmarks.model.PrimitiveArraysBean_MapperImpl;
+import org.dominokit.jacksonapt.benchmarks.model.SmallBean;
+import org.dominokit.jacksonapt.benchmarks.model.SmallBean_MapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the generated mappers reading JSON strings. The {@code *Baseline} benchmarks read the same JSON with
+ * the hand written {@link StreamMappers}, {@link #largeBeanSkip()} only tokenizes it and {@link #largeBeanProjection()}
+ * reads three of its properties.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReadBenchmark {
+
+    private String smallBean;
+    private String mediumBean;
+    private String largeBean;
+    private String drawing;
+    private String containers;
+    private String primitiveArrays;
+    private String dates;
+    private String graph;
+
+    private DefaultJsonDeserializationContext.Configuration projection;
+
+    @Setup
+    public void setUp() {
+        smallBean = SmallBean_MapperImpl.INSTANCE.write(BenchmarkData.smallBean(1));
+        mediumBean = MediumBean_MapperImpl.INSTANCE.write(BenchmarkData.mediumBean(1));
+        largeBean = LargeBean_MapperImpl.INSTANCE.write(BenchmarkData.largeBean(1));
+        drawing = Drawing_MapperImpl.INSTANCE.write(BenchmarkData.drawing());
+        containers = ContainersBean_MapperImpl.INSTANCE.write(BenchmarkData.containersBean());
+        primitiveArrays = PrimitiveArraysBean_MapperImpl.INSTANCE.write(BenchmarkData.primitiveArraysBean());
+        dates = DatesBean_MapperImpl.INSTANCE.write(BenchmarkData.datesBean());
+        graph = Graph_MapperImpl.INSTANCE.write(BenchmarkData.graph());
+        projection = DefaultJsonDeserializationContext.builder()
+                .fieldMask(FieldMask.parse("id,amount,primary.email"))
+                .buildConfiguration();
+    }
+
+    @Benchmark
+    public SmallBean smallBean() {
+        return SmallBean_MapperImpl.INSTANCE.read(smallBean);
+    }
+
+    @Benchmark
+    public SmallBean smallBeanBaseline() {
+        return StreamMappers.readSmallBean(smallBean);
+    }
+
+    @Benchmark
+    public MediumBean mediumBean() {
+        return MediumBean_MapperImpl.INSTANCE.read(mediumBean);
+    }
+
+    @Benchmark
+    public MediumBean mediumBeanBaseline() {
+        return StreamMappers.readMediumBean(mediumBean);
+    }
+
+    @Benchmark
+    public LargeBean largeBean() {
+        return LargeBean_MapperImpl.INSTANCE.read(largeBean);
+    }
+
+    @Benchmark
+    public LargeBean largeBeanBaseline() {
+        return StreamMappers.readLargeBean(largeBean);
+    }
+
+    @Benchmark
+    public int largeBeanSkip() {
+        return StreamMappers.skip(largeBean);
+    }
+
+    @Benchmark
+    public LargeBean largeBeanProjection() {
+        return LargeBean_MapperImpl.INSTANCE.read(largeBean, projection.newContext());
+    }
+
+    @Benchmark
+    public Drawing polymorphic() {
+        return Drawing_MapperImpl.INSTANCE.read(drawing);
+    }
+
+    @Benchmark
+    public ContainersBean mapsAndCollections() {
+        return ContainersBean_MapperImpl.INSTANCE.read(containers);
+    }
+
+    @Benchmark
+    public PrimitiveArraysBean primitiveArrays() {
+        return PrimitiveArraysBean_MapperImpl.INSTANCE.read(primitiveArrays);
+    }
+
+    @Benchmark
+    public DatesBean dates() {
+        return DatesBean_MapperImpl.INSTANCE.read(dates);
+    }
+
+    @Benchmark
+    public Graph identityReferences() {
+        return Graph_MapperImpl.INSTANCE.read(graph);
+    }
+}
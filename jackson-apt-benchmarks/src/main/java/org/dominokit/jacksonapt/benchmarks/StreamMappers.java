@@ -0,0 +1,333 @@
+package org.dominokit.jacksonapt.benchmarks;
+
+import org.dominokit.jacksonapt.benchmarks.model.LargeBean;
+import org.dominokit.jacksonapt.benchmarks.model.MediumBean;
+import org.dominokit.jacksonapt.benchmarks.model.SmallBean;
+import org.dominokit.jacksonapt.benchmarks.model.Status;
+import org.dominokit.jacksonapt.stream.JsonReader;
+import org.dominokit.jacksonapt.stream.JsonToken;
+import org.dominokit.jacksonapt.stream.JsonWriter;
+import org.dominokit.jacksonapt.stream.impl.FastJsonWriter;
+import org.dominokit.jacksonapt.stream.impl.NonBufferedJsonReader;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hand written mappers of the small, medium and large beans, working straight on the
+ * {@link org.dominokit.jacksonapt.stream.impl.NonBufferedJsonReader} and
+ * {@link org.dominokit.jacksonapt.stream.impl.FastJsonWriter}. Like the default contexts used by the mapper benchmarks,
+ * they create a new reader or writer for each call. They read and write the same JSON as the generated mappers, the
+ * difference with them is the cost of the generated code and of the contexts.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public final class StreamMappers {
+
+    private StreamMappers() {
+    }
+
+    /**
+     * <p>writeSmallBean</p>
+     *
+     * @param bean the bean to write
+     * @return the JSON
+     */
+    public static String writeSmallBean(SmallBean bean) {
+        FastJsonWriter writer = newWriter();
+        writeSmallBean(writer, bean);
+        return writer.getOutput();
+    }
+
+    /**
+     * <p>writeMediumBean</p>
+     *
+     * @param bean the bean to write
+     * @return the JSON
+     */
+    public static String writeMediumBean(MediumBean bean) {
+        FastJsonWriter writer = newWriter();
+        writeMediumBean(writer, bean);
+        return writer.getOutput();
+    }
+
+    /**
+     * <p>writeLargeBean</p>
+     *
+     * @param bean the bean to write
+     * @return the JSON
+     */
+    public static String writeLargeBean(LargeBean bean) {
+        FastJsonWriter writer = newWriter();
+        writeLargeBean(writer, bean);
+        return writer.getOutput();
+    }
+
+    /**
+     * <p>readSmallBean</p>
+     *
+     * @param json the JSON to read
+     * @return the read bean
+     */
+    public static SmallBean readSmallBean(String json) {
+        NonBufferedJsonReader reader = newReader(json);
+        return readSmallBean(reader);
+    }
+
+    /**
+     * <p>readMediumBean</p>
+     *
+     * @param json the JSON to read
+     * @return the read bean
+     */
+    public static MediumBean readMediumBean(String json) {
+        NonBufferedJsonReader reader = newReader(json);
+        return readMediumBean(reader);
+    }
+
+    /**
+     * <p>readLargeBean</p>
+     *
+     * @param json the JSON to read
+     * @return the read bean
+     */
+    public static LargeBean readLargeBean(String json) {
+        NonBufferedJsonReader reader = newReader(json);
+        return readLargeBean(reader);
+    }
+
+    /**
+     * Reads every token of the JSON without creating anything, the lowest cost of reading a document.
+     *
+     * @param json the JSON to read
+     * @return the column the reader stopped at, returned so that the scan cannot be eliminated
+     */
+    public static int skip(String json) {
+        NonBufferedJsonReader reader = newReader(json);
+        reader.skipValue();
+        return reader.getColumnNumber();
+    }
+
+    private static NonBufferedJsonReader newReader(String json) {
+        // the same reader as DefaultJsonDeserializationContext.newJsonReader(String)
+        NonBufferedJsonReader reader = new NonBufferedJsonReader(json);
+        reader.setLenient(true);
+        return reader;
+    }
+
+    private static FastJsonWriter newWriter() {
+        // the same writer as DefaultJsonSerializationContext.newJsonWriter()
+        FastJsonWriter writer = new FastJsonWriter(new StringBuilder());
+        writer.setLenient(true);
+        return writer;
+    }
+
+    private static void writeSmallBean(JsonWriter writer, SmallBean bean) {
+        writer.beginObject();
+        writer.name("id").value(bean.getId());
+        writer.name("name").value(bean.getName());
+        writer.name("active").value(bean.isActive());
+        writer.endObject();
+    }
+
+    private static void writeMediumBean(JsonWriter writer, MediumBean bean) {
+        writer.beginObject();
+        writer.name("id").value(bean.getId());
+        writer.name("firstName").value(bean.getFirstName());
+        writer.name("lastName").value(bean.getLastName());
+        writer.name("email").value(bean.getEmail());
+        writer.name("age").value(bean.getAge());
+        writer.name("score").value(bean.getScore());
+        writer.name("verified").value(bean.isVerified());
+        writer.name("status").value(bean.getStatus().name());
+        writer.name("tags").beginArray();
+        for (String tag : bean.getTags()) {
+            writer.value(tag);
+        }
+        writer.endArray();
+        writer.name("owner");
+        writeSmallBean(writer, bean.getOwner());
+        writer.endObject();
+    }
+
+    private static void writeLargeBean(JsonWriter writer, LargeBean bean) {
+        writer.beginObject();
+        writer.name("id").value(bean.getId());
+        writer.name("title").value(bean.getTitle());
+        writer.name("description").value(bean.getDescription());
+        writer.name("version").value(bean.getVersion());
+        writer.name("createdBy").value(bean.getCreatedBy());
+        writer.name("amount").value(bean.getAmount());
+        writer.name("ratio").value((Number) bean.getRatio());
+        writer.name("priority").value(bean.getPriority());
+        writer.name("level").value(bean.getLevel());
+        writer.name("grade").value(String.valueOf(bean.getGrade()));
+        writer.name("published").value(bean.isPublished());
+        writer.name("archived").value(bean.isArchived());
+        writer.name("status").value(bean.getStatus().name());
+        writer.name("revision").value(bean.getRevision().longValue());
+        writer.name("primary");
+        writeMediumBean(writer, bean.getPrimary());
+        writer.name("items").beginArray();
+        for (MediumBean item : bean.getItems()) {
+            writeMediumBean(writer, item);
+        }
+        writer.endArray();
+        writer.name("attributes").beginObject();
+        for (Map.Entry<String, String> attribute : bean.getAttributes().entrySet()) {
+            writer.name(attribute.getKey()).value(attribute.getValue());
+        }
+        writer.endObject();
+        writer.endObject();
+    }
+
+    private static SmallBean readSmallBean(JsonReader reader) {
+        SmallBean bean = new SmallBean();
+        reader.beginObject();
+        while (JsonToken.NAME == reader.peek()) {
+            switch (reader.nextName()) {
+                case "id":
+                    bean.setId(reader.nextInt());
+                    break;
+                case "name":
+                    bean.setName(reader.nextString());
+                    break;
+                case "active":
+                    bean.setActive(reader.nextBoolean());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return bean;
+    }
+
+    private static MediumBean readMediumBean(JsonReader reader) {
+        MediumBean bean = new MediumBean();
+        reader.beginObject();
+        while (JsonToken.NAME == reader.peek()) {
+            switch (reader.nextName()) {
+                case "id":
+                    bean.setId(reader.nextLong());
+                    break;
+                case "firstName":
+                    bean.setFirstName(reader.nextString());
+                    break;
+                case "lastName":
+                    bean.setLastName(reader.nextString());
+                    break;
+                case "email":
+                    bean.setEmail(reader.nextString());
+                    break;
+                case "age":
+                    bean.setAge(reader.nextInt());
+                    break;
+                case "score":
+                    bean.setScore(reader.nextDouble());
+                    break;
+                case "verified":
+                    bean.setVerified(reader.nextBoolean());
+                    break;
+                case "status":
+                    bean.setStatus(Status.valueOf(reader.nextString()));
+                    break;
+                case "tags":
+                    List<String> tags = new ArrayList<>();
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        tags.add(reader.nextString());
+                    }
+                    reader.endArray();
+                    bean.setTags(tags);
+                    break;
+                case "owner":
+                    bean.setOwner(readSmallBean(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return bean;
+    }
+
+    private static LargeBean readLargeBean(JsonReader reader) {
+        LargeBean bean = new LargeBean();
+        reader.beginObject();
+        while (JsonToken.NAME == reader.peek()) {
+            switch (reader.nextName()) {
+                case "id":
+                    bean.setId(reader.nextString());
+                    break;
+                case "title":
+                    bean.setTitle(reader.nextString());
+                    break;
+                case "description":
+                    bean.setDescription(reader.nextString());
+                    break;
+                case "version":
+                    bean.setVersion(reader.nextInt());
+                    break;
+                case "createdBy":
+                    bean.setCreatedBy(reader.nextLong());
+                    break;
+                case "amount":
+                    bean.setAmount(reader.nextDouble());
+                    break;
+                case "ratio":
+                    bean.setRatio(reader.nextFloat());
+                    break;
+                case "priority":
+                    bean.setPriority((short) reader.nextInt());
+                    break;
+                case "level":
+                    bean.setLevel((byte) reader.nextInt());
+                    break;
+                case "grade":
+                    bean.setGrade(reader.nextString().charAt(0));
+                    break;
+                case "published":
+                    bean.setPublished(reader.nextBoolean());
+                    break;
+                case "archived":
+                    bean.setArchived(reader.nextBoolean());
+                    break;
+                case "status":
+                    bean.setStatus(Status.valueOf(reader.nextString()));
+                    break;
+                case "revision":
+                    bean.setRevision(reader.nextInt());
+                    break;
+                case "primary":
+                    bean.setPrimary(readMediumBean(reader));
+                    break;
+                case "items":
+                    List<MediumBean> items = new ArrayList<>();
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        items.add(readMediumBean(reader));
+                    }
+                    reader.endArray();
+                    bean.setItems(items);
+                    break;
+                case "attributes":
+                    Map<String, String> attributes = new LinkedHashMap<>();
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        attributes.put(reader.nextName(), reader.nextString());
+                    }
+                    reader.endObject();
+                    bean.setAttributes(attributes);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return bean;
+    }
+}
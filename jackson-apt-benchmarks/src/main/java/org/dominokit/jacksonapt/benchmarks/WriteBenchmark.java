@@ -0,0 +1,136 @@
+package org.dominokit.jacksonapt.benchmarks;
+
+import org.dominokit.jacksonapt.DefaultJsonSerializationContext;
+import org.dominokit.jacksonapt.FieldMask;
+import org.dominokit.jacksonapt.JsonSerializationContext;
+import org.dominokit.jacksonapt.benchmarks.model.ContainersBean;
+import org.dominokit.jacksonapt.benchmarks.model.ContainersBean_MapperImpl;
+import org.dominokit.jacksonapt.benchmarks.model.DatesBean;
+import org.dominokit.jacksonapt.benchmarks.model.DatesBean_MapperImpl;
+import org.dominokit.jacksonapt.benchmarks.model.Drawing;
+import org.dominokit.jacksonapt.benchmarks.model.Drawing_MapperImpl;
+import org.dominokit.jacksonapt.benchmarks.model.Graph;
+import org.dominokit.jacksonapt.benchmarks.model.Graph_MapperImpl;
+import org.dominokit.jacksonapt.benchmarks.model.LargeBean;
+import org.dominokit.jacksonapt.benchmarks.model.LargeBean_MapperImpl;
+import org.dominokit.jacksonapt.benchmarks.model.MediumBean;
+import org.dominokit.jacksonapt.benchmarks.model.MediumBean_MapperImpl;
+import org.dominokit.jacksonapt.benchmarks.model.PrimitiveArraysBean;
+import org.dominokit.jacksonapt.benchmarks.model.PrimitiveArraysBean_MapperImpl;
+import org.dominokit.jacksonapt.benchmarks.model.SmallBean;
+import org.dominokit.jacksonapt.benchmarks.model.SmallBean_MapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the generated mappers writing JSON strings. The {@code *Baseline} benchmarks write the same JSON with
+ * the hand written {@link StreamMappers}, and {@link #largeBeanSparseFieldset()} writes a few of the properties selected
+ * per serialization like a {@code ?fields=} request parameter.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WriteBenchmark {
+
+    private SmallBean smallBean;
+    private MediumBean mediumBean;
+    private LargeBean largeBean;
+    private Drawing drawing;
+    private ContainersBean containers;
+    private PrimitiveArraysBean primitiveArrays;
+    private DatesBean dates;
+    private Graph graph;
+
+    private DefaultJsonSerializationContext.Configuration configuration;
+
+    @Setup
+    public void setUp() {
+        smallBean = BenchmarkData.smallBean(1);
+        mediumBean = BenchmarkData.mediumBean(1);
+        largeBean = BenchmarkData.largeBean(1);
+        drawing = BenchmarkData.drawing();
+        containers = BenchmarkData.containersBean();
+        primitiveArrays = BenchmarkData.primitiveArraysBean();
+        dates = BenchmarkData.datesBean();
+        graph = BenchmarkData.graph();
+        configuration = DefaultJsonSerializationContext.builder().buildConfiguration();
+    }
+
+    @Benchmark
+    public String smallBean() {
+        return SmallBean_MapperImpl.INSTANCE.write(smallBean);
+    }
+
+    @Benchmark
+    public String smallBeanBaseline() {
+        return StreamMappers.writeSmallBean(smallBean);
+    }
+
+    @Benchmark
+    public String mediumBean() {
+        return MediumBean_MapperImpl.INSTANCE.write(mediumBean);
+    }
+
+    @Benchmark
+    public String mediumBeanBaseline() {
+        return StreamMappers.writeMediumBean(mediumBean);
+    }
+
+    @Benchmark
+    public String largeBean() {
+        return LargeBean_MapperImpl.INSTANCE.write(largeBean);
+    }
+
+    @Benchmark
+    public String largeBeanBaseline() {
+        return StreamMappers.writeLargeBean(largeBean);
+    }
+
+    @Benchmark
+    public String largeBeanSparseFieldset() {
+        JsonSerializationContext ctx = configuration.newContext();
+        ctx.setFieldMask(FieldMask.parse("id,title,amount,items.email"));
+        return LargeBean_MapperImpl.INSTANCE.write(largeBean, ctx);
+    }
+
+    @Benchmark
+    public String polymorphic() {
+        return Drawing_MapperImpl.INSTANCE.write(drawing);
+    }
+
+    @Benchmark
+    public String mapsAndCollections() {
+        return ContainersBean_MapperImpl.INSTANCE.write(containers);
+    }
+
+    @Benchmark
+    public String primitiveArrays() {
+        return PrimitiveArraysBean_MapperImpl.INSTANCE.write(primitiveArrays);
+    }
+
+    @Benchmark
+    public String dates() {
+        return DatesBean_MapperImpl.INSTANCE.write(dates);
+    }
+
+    @Benchmark
+    public String identityReferences() {
+        return Graph_MapperImpl.INSTANCE.write(graph);
+    }
+}
@@ -0,0 +1,38 @@
+package org.dominokit.jacksonapt.benchmarks.model;
+
+/**
+ * <p>Circle class.</p>
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public class Circle extends Shape {
+
+    private double x;
+    private double y;
+    private double radius;
+
+    public double getX() {
+        return x;
+    }
+
+    public void setX(double x) {
+        this.x = x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public void setY(double y) {
+        this.y = y;
+    }
+
+    public double getRadius() {
+        return radius;
+    }
+
+    public void setRadius(double radius) {
+        this.radius = radius;
+    }
+}
@@ -0,0 +1,63 @@
+package org.dominokit.jacksonapt.benchmarks.model;
+
+import org.dominokit.jacksonapt.annotation.JSONMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maps and collections of scalars and of beans.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+@JSONMapper
+public class ContainersBean {
+
+    private Map<String, Integer> counters;
+    private Map<Integer, SmallBean> beansById;
+    private List<Integer> numbers;
+    private List<SmallBean> beans;
+    private Set<String> labels;
+
+    public Map<String, Integer> getCounters() {
+        return counters;
+    }
+
+    public void setCounters(Map<String, Integer> counters) {
+        this.counters = counters;
+    }
+
+    public Map<Integer, SmallBean> getBeansById() {
+        return beansById;
+    }
+
+    public void setBeansById(Map<Integer, SmallBean> beansById) {
+        this.beansById = beansById;
+    }
+
+    public List<Integer> getNumbers() {
+        return numbers;
+    }
+
+    public void setNumbers(List<Integer> numbers) {
+        this.numbers = numbers;
+    }
+
+    public List<SmallBean> getBeans() {
+        return beans;
+    }
+
+    public void setBeans(List<SmallBean> beans) {
+        this.beans = beans;
+    }
+
+    public Set<String> getLabels() {
+        return labels;
+    }
+
+    public void setLabels(Set<String> labels) {
+        this.labels = labels;
+    }
+}
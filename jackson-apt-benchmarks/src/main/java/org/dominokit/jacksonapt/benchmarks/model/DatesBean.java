@@ -0,0 +1,57 @@
+package org.dominokit.jacksonapt.benchmarks.model;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import org.dominokit.jacksonapt.annotation.JSONMapper;
+import org.dominokit.jacksonapt.utils.DatePatterns;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Dates written as timestamps and as formatted strings.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+@JSONMapper
+public class DatesBean {
+
+    private Date created;
+    private List<Date> history;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = DatePatterns.ISO8601)
+    private Date updated;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = DatePatterns.SHORT)
+    private Date day;
+
+    public Date getCreated() {
+        return created;
+    }
+
+    public void setCreated(Date created) {
+        this.created = created;
+    }
+
+    public List<Date> getHistory() {
+        return history;
+    }
+
+    public void setHistory(List<Date> history) {
+        this.history = history;
+    }
+
+    public Date getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(Date updated) {
+        this.updated = updated;
+    }
+
+    public Date getDay() {
+        return day;
+    }
+
+    public void setDay(Date day) {
+        this.day = day;
+    }
+}
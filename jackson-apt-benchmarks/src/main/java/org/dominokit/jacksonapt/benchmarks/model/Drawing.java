@@ -0,0 +1,34 @@
+package org.dominokit.jacksonapt.benchmarks.model;
+
+import org.dominokit.jacksonapt.annotation.JSONMapper;
+
+import java.util.List;
+
+/**
+ * A list of {@link Shape}, measures the dispatch to the subtype (de)serializers.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+@JSONMapper
+public class Drawing {
+
+    private String name;
+    private List<Shape> shapes;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<Shape> getShapes() {
+        return shapes;
+    }
+
+    public void setShapes(List<Shape> shapes) {
+        this.shapes = shapes;
+    }
+}
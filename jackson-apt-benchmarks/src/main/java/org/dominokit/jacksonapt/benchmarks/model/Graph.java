@@ -0,0 +1,25 @@
+package org.dominokit.jacksonapt.benchmarks.model;
+
+import org.dominokit.jacksonapt.annotation.JSONMapper;
+
+import java.util.List;
+
+/**
+ * Nodes linked to each other, measures the identity references.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+@JSONMapper
+public class Graph {
+
+    private List<Node> nodes;
+
+    public List<Node> getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(List<Node> nodes) {
+        this.nodes = nodes;
+    }
+}
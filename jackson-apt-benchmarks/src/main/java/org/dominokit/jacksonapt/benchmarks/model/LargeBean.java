@@ -0,0 +1,171 @@
+package org.dominokit.jacksonapt.benchmarks.model;
+
+import org.dominokit.jacksonapt.annotation.JSONMapper;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bean with many properties of every primitive type and a list of {@link MediumBean}, measures the cost of the
+ * property lookups and of the nested beans.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+@JSONMapper
+public class LargeBean {
+
+    private String id;
+    private String title;
+    private String description;
+    private int version;
+    private long createdBy;
+    private double amount;
+    private float ratio;
+    private short priority;
+    private byte level;
+    private char grade;
+    private boolean published;
+    private boolean archived;
+    private Status status;
+    private Integer revision;
+    private MediumBean primary;
+    private List<MediumBean> items;
+    private Map<String, String> attributes;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    public long getCreatedBy() {
+        return createdBy;
+    }
+
+    public void setCreatedBy(long createdBy) {
+        this.createdBy = createdBy;
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+
+    public void setAmount(double amount) {
+        this.amount = amount;
+    }
+
+    public float getRatio() {
+        return ratio;
+    }
+
+    public void setRatio(float ratio) {
+        this.ratio = ratio;
+    }
+
+    public short getPriority() {
+        return priority;
+    }
+
+    public void setPriority(short priority) {
+        this.priority = priority;
+    }
+
+    public byte getLevel() {
+        return level;
+    }
+
+    public void setLevel(byte level) {
+        this.level = level;
+    }
+
+    public char getGrade() {
+        return grade;
+    }
+
+    public void setGrade(char grade) {
+        this.grade = grade;
+    }
+
+    public boolean isPublished() {
+        return published;
+    }
+
+    public void setPublished(boolean published) {
+        this.published = published;
+    }
+
+    public boolean isArchived() {
+        return archived;
+    }
+
+    public void setArchived(boolean archived) {
+        this.archived = archived;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Integer getRevision() {
+        return revision;
+    }
+
+    public void setRevision(Integer revision) {
+        this.revision = revision;
+    }
+
+    public MediumBean getPrimary() {
+        return primary;
+    }
+
+    public void setPrimary(MediumBean primary) {
+        this.primary = primary;
+    }
+
+    public List<MediumBean> getItems() {
+        return items;
+    }
+
+    public void setItems(List<MediumBean> items) {
+        this.items = items;
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    public void setAttributes(Map<String, String> attributes) {
+        this.attributes = attributes;
+    }
+}
@@ -0,0 +1,106 @@
+package org.dominokit.jacksonapt.benchmarks.model;
+
+import org.dominokit.jacksonapt.annotation.JSONMapper;
+
+import java.util.List;
+
+/**
+ * A bean with the common property types, a nested bean and a list of strings.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+@JSONMapper
+public class MediumBean {
+
+    private long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private int age;
+    private double score;
+    private boolean verified;
+    private Status status;
+    private List<String> tags;
+    private SmallBean owner;
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public void setAge(int age) {
+        this.age = age;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public boolean isVerified() {
+        return verified;
+    }
+
+    public void setVerified(boolean verified) {
+        this.verified = verified;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public SmallBean getOwner() {
+        return owner;
+    }
+
+    public void setOwner(SmallBean owner) {
+        this.owner = owner;
+    }
+}
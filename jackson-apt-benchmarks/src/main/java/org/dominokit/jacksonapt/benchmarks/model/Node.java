@@ -0,0 +1,44 @@
+package org.dominokit.jacksonapt.benchmarks.model;
+
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+
+import java.util.List;
+
+/**
+ * A node of a {@link Graph}, it is written once and then referenced by its id.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+@JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+public class Node {
+
+    private int id;
+    private String label;
+    private List<Node> links;
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    public List<Node> getLinks() {
+        return links;
+    }
+
+    public void setLinks(List<Node> links) {
+        this.links = links;
+    }
+}
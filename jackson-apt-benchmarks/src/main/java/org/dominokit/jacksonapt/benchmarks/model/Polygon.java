@@ -0,0 +1,29 @@
+package org.dominokit.jacksonapt.benchmarks.model;
+
+/**
+ * <p>Polygon class.</p>
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public class Polygon extends Shape {
+
+    private double[] points;
+    private boolean closed;
+
+    public double[] getPoints() {
+        return points;
+    }
+
+    public void setPoints(double[] points) {
+        this.points = points;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public void setClosed(boolean closed) {
+        this.closed = closed;
+    }
+}
@@ -0,0 +1,68 @@
+package org.dominokit.jacksonapt.benchmarks.model;
+
+import org.dominokit.jacksonapt.annotation.JSONMapper;
+
+/**
+ * Arrays of primitives, and bytes written in base64.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+@JSONMapper
+public class PrimitiveArraysBean {
+
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+    private float[] floats;
+    private short[] shorts;
+    private byte[] bytes;
+
+    public int[] getInts() {
+        return ints;
+    }
+
+    public void setInts(int[] ints) {
+        this.ints = ints;
+    }
+
+    public long[] getLongs() {
+        return longs;
+    }
+
+    public void setLongs(long[] longs) {
+        this.longs = longs;
+    }
+
+    public double[] getDoubles() {
+        return doubles;
+    }
+
+    public void setDoubles(double[] doubles) {
+        this.doubles = doubles;
+    }
+
+    public float[] getFloats() {
+        return floats;
+    }
+
+    public void setFloats(float[] floats) {
+        this.floats = floats;
+    }
+
+    public short[] getShorts() {
+        return shorts;
+    }
+
+    public void setShorts(short[] shorts) {
+        this.shorts = shorts;
+    }
+
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    public void setBytes(byte[] bytes) {
+        this.bytes = bytes;
+    }
+}
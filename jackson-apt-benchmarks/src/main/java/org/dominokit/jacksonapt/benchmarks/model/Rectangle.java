@@ -0,0 +1,47 @@
+package org.dominokit.jacksonapt.benchmarks.model;
+
+/**
+ * <p>Rectangle class.</p>
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public class Rectangle extends Shape {
+
+    private double x;
+    private double y;
+    private double width;
+    private double height;
+
+    public double getX() {
+        return x;
+    }
+
+    public void setX(double x) {
+        this.x = x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public void setY(double y) {
+        this.y = y;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public void setWidth(double width) {
+        this.width = width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    public void setHeight(double height) {
+        this.height = height;
+    }
+}
@@ -0,0 +1,11 @@
+package org.dominokit.jacksonapt.benchmarks.model;
+
+/**
+ * <p>Status class.</p>
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public enum Status {
+    ACTIVE, SUSPENDED, CLOSED
+}
@@ -72,10 +72,12 @@ public abstract class AbstractJsonMapperGenerator {
      */
     protected void generate() throws IOException {
         MethodSpec constructor = MethodSpec.constructorBuilder().addModifiers(Modifier.PUBLIC).build();
+        ClassName className = ClassName.get(packageName, Type.stringifyType(beanType) + namePostfix());
 
-        final TypeSpec.Builder builder = TypeSpec.classBuilder(Type.stringifyType(beanType) + namePostfix())
+        final TypeSpec.Builder builder = TypeSpec.classBuilder(className)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .superclass(superClass())
+                .addField(instanceField(className))
                 .addMethod(constructor)
                 .addMethod(targetTypeMethod());
 
@@ -92,6 +94,19 @@ public abstract class AbstractJsonMapperGenerator {
         JavaFile.builder(packageName, builder.build()).build().writeTo(filer);
     }
 
+    /**
+     * The instance shared by every property, subtype and mapper referencing the bean. The property and subtype
+     * (de)serializers are created lazily, only a builder deserializer takes the instance of its builder in its constructor,
+     * and a builder deserializer does not reference the bean it builds, so the instances of recursive beans can be created
+     * in any order.
+     */
+    private FieldSpec instanceField(ClassName className) {
+        return FieldSpec.builder(className, "INSTANCE")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new $T()", className)
+                .build();
+    }
+
     private MethodSpec targetTypeMethod() {
         return MethodSpec.methodBuilder(targetTypeMethodName())
                 .addModifiers(Modifier.PUBLIC)
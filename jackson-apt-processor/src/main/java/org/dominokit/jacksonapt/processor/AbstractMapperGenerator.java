@@ -106,8 +106,8 @@ public abstract class AbstractMapperGenerator implements MapperGenerator {
      * <p>makeNewDeserializerMethod.</p>
      * <p>
      * Creates method for build corresponding deserializer for  given beanType. If beanType is
-     * basic type, generated code utilize existing deserializers. Otherwise, it creates instances
-     * of newly generated ones.
+     * basic type, generated code utilize existing deserializers. Otherwise, it uses the shared
+     * instance of the newly generated one.
      *
      * @param element
      * @param beanType
@@ -118,7 +118,7 @@ public abstract class AbstractMapperGenerator implements MapperGenerator {
         if (Type.isBasicType(typeUtils.erasure(beanType))) {
             builder.addStatement("return $L", new FieldDeserializersChainBuilder(packageName, getElementType(element)).getInstance(getElementType(element)));
         } else {
-            builder.addStatement("return new " + deserializerName(beanType));
+            builder.addStatement("return " + deserializerName(beanType));
         }
 
         return MethodSpec.methodBuilder("newDeserializer")
@@ -135,8 +135,8 @@ public abstract class AbstractMapperGenerator implements MapperGenerator {
      * <p>makeNewSerializerMethod.</p>
      * <p>
      * Creates method for build corresponding serializer for  given beanType. If beanType is
-     * basic type, generated code utilize existing serializers. Otherwise, it creates instances
-     * of newly generated ones.
+     * basic type, generated code utilize existing serializers. Otherwise, it uses the shared
+     * instance of the newly generated one.
      *
      * @param beanType
      * @return
@@ -146,7 +146,7 @@ public abstract class AbstractMapperGenerator implements MapperGenerator {
         if (Type.isBasicType(typeUtils.erasure(beanType))) {
             builder.addStatement("return $L", new FieldSerializerChainBuilder(packageName, beanType).getInstance(beanType));
         } else {
-            builder.addStatement("return new " + serializerName(beanType));
+            builder.addStatement("return " + serializerName(beanType));
         }
 
         return MethodSpec.methodBuilder("newSerializer")
@@ -158,27 +158,27 @@ public abstract class AbstractMapperGenerator implements MapperGenerator {
     }
 
     /**
-     * Create deserializer name based on given TypeMirror.
+     * Create the reference to the shared deserializer instance based on given TypeMirror.
      * <p>
      * The package, containing the deserializer is NOT returned as part of the result.
      *
      * @param type TypeMirror of the bean, deserializerr corresponds to
-     * @return deserializer name as String
+     * @return deserializer instance as String
      */
     private String deserializerName(TypeMirror type) {
-        return Type.stringifyType(type) + "BeanJsonDeserializerImpl()";
+        return Type.stringifyType(type) + "BeanJsonDeserializerImpl.INSTANCE";
     }
 
     /**
-     * Create serializer name based on given TypeMirror.
+     * Create the reference to the shared serializer instance based on given TypeMirror.
      * <p>
      * The package, containing the serializer is NOT returned as part of the result.
      *
      * @param type TypeMirror of the bean, serializerr corresponds to
-     * @return serializer name as String
+     * @return serializer instance as String
      */
     private String serializerName(TypeMirror type) {
-        return Type.stringifyType(type) + "BeanJsonSerializerImpl()";
+        return Type.stringifyType(type) + "BeanJsonSerializerImpl.INSTANCE";
     }
 
     /**
@@ -17,6 +17,7 @@ package org.dominokit.jacksonapt.processor;
 
 import com.fasterxml.jackson.annotation.*;
 import com.squareup.javapoet.TypeName;
+import org.dominokit.jacksonapt.Lazy;
 import org.dominokit.jacksonapt.annotation.JSONMapper;
 
 import javax.lang.model.element.*;
@@ -206,6 +207,16 @@ public class Type {
         return !Type.isPrimitive(typeMirror) && isAssignableFrom(typeMirror, Map.class);
     }
 
+    /**
+     * <p>isLazy.</p>
+     *
+     * @param typeMirror a {@link javax.lang.model.type.TypeMirror} object.
+     * @return a boolean.
+     */
+    public static boolean isLazy(TypeMirror typeMirror) {
+        return !Type.isPrimitive(typeMirror) && isAssignableFrom(typeMirror, Lazy.class);
+    }
+
     /**
      * <p>firstTypeArgument.</p>
      *
@@ -711,6 +722,7 @@ public class Type {
                         !Type.isCollection(t)
                                 && !Type.isIterable(t)
                                 && !Type.isMap(t)
+                                && !Type.isLazy(t)
                                 && !Type.isEnum(t);
 
                 return t.getTypeArguments().stream()
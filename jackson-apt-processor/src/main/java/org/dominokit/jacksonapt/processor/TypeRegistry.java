@@ -38,6 +38,7 @@ import org.dominokit.jacksonapt.ser.array.*;
 import org.dominokit.jacksonapt.ser.array.dd.*;
 import org.dominokit.jacksonapt.ser.map.MapJsonSerializer;
 import org.dominokit.jacksonapt.ser.map.key.*;
+import org.dominokit.jacksonapt.stream.RawJson;
 
 import javax.lang.model.type.TypeMirror;
 import java.io.Serializable;
@@ -142,6 +143,12 @@ public final class TypeRegistry {
                 .deserializer(UUIDJsonDeserializer.class)
                 .register(simpleTypes);
 
+        MAPPER
+                .forType(RawJson.class)
+                .serializer(RawJsonJsonSerializer.class)
+                .deserializer(RawJsonJsonDeserializer.class)
+                .register(simpleTypes);
+
         MAPPER
                 .forType(Void.class)
                 .serializer(VoidJsonSerializer.class)
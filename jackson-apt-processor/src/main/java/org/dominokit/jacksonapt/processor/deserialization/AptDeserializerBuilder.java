@@ -34,6 +34,7 @@ import org.dominokit.jacksonapt.processor.BeanIdentityInfo;
 import org.dominokit.jacksonapt.processor.Type;
 import org.dominokit.jacksonapt.stream.JsonReader;
 import org.dominokit.jacksonapt.stream.JsonToken;
+import org.dominokit.jacksonapt.stream.PropertyNameIndex;
 
 import javax.annotation.processing.Filer;
 import javax.lang.model.element.*;
@@ -147,7 +148,7 @@ public class AptDeserializerBuilder extends AbstractJsonMapperGenerator {
                                 .addModifiers(Modifier.PROTECTED)
                                 .addAnnotation(Override.class)
                                 .returns(ParameterizedTypeName.get(ClassName.get(JsonDeserializer.class), WildcardTypeName.subtypeOf(Object.class)))
-                                .addStatement("return new $T()", ClassName.bestGuess(Type.deserializerName(packageName, subtypeEntry.getValue())))
+                                .addStatement("return $T.INSTANCE", ClassName.bestGuess(Type.deserializerName(packageName, subtypeEntry.getValue())))
                                 .build()
                         ).build();
 
@@ -191,6 +192,11 @@ public class AptDeserializerBuilder extends AbstractJsonMapperGenerator {
             methods.add(buildInitIdentityInfoMethod(beanIdentityInfo.get()));
         }
 
+        MethodSpec initPropertyNamesMethod = buildInitPropertyNamesMethod();
+        if (nonNull(initPropertyNamesMethod)) {
+            methods.add(initPropertyNamesMethod);
+        }
+
         return methods;
     }
 
@@ -352,7 +358,7 @@ public class AptDeserializerBuilder extends AbstractJsonMapperGenerator {
         boolean useBuilder = isUseBuilder();
         if (useBuilder) {
             TypeElement builderElement = getBuilderElement();
-            initInstanceMethodBuilder.addStatement("final $T builderDeserializer = new $T()",
+            initInstanceMethodBuilder.addStatement("final $T builderDeserializer = $T.INSTANCE",
                     ParameterizedTypeName.get(ClassName.get(AbstractBeanJsonDeserializer.class), ClassName.get(builderElement)),
                     builderDeserializerName(builderElement));
             try {
@@ -416,6 +422,11 @@ public class AptDeserializerBuilder extends AbstractJsonMapperGenerator {
                 .addMethod(newInstanceMethod(beanType, createMethod, useBuilder))
                 .addMethod(getDeserializerMethod());
 
+        MethodSpec warmUpMethod = buildInstanceBuilderWarmUpMethod(useBuilder);
+        if (nonNull(warmUpMethod)) {
+            builder.addMethod(warmUpMethod);
+        }
+
         if (!useBuilder) {
             builder.addMethod(createMethod);
         }
@@ -462,7 +473,7 @@ public class AptDeserializerBuilder extends AbstractJsonMapperGenerator {
         for (ParameterDeserializerBuilder parameterBuilder : parameterBuilders) {
             String paramName = parameterBuilder.getParameterName();
             builder.beginControlFlow("if($S.equals(nextName))", paramName);
-            builder.addStatement("$L = $L.deserialize(reader, ctx)", paramName + "Property", paramName + "Deserializer");
+            builder.addStatement("$L = $L.deserialize($S, reader, ctx)", paramName + "Property", paramName + "Deserializer", paramName);
             builder.addStatement("continue");
             builder.endControlFlow();
         }
@@ -479,6 +490,32 @@ public class AptDeserializerBuilder extends AbstractJsonMapperGenerator {
                 argumentsString);
     }
 
+    /**
+     * @param useBuilder
+     * @return MethodSpec warming up the deserializers of the creator parameters and of the builder. if there are none return
+     * null;
+     */
+    private MethodSpec buildInstanceBuilderWarmUpMethod(boolean useBuilder) {
+        boolean useJsonCreator = isUseJsonCreator();
+        if (!useBuilder && !useJsonCreator) {
+            return null;
+        }
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("warmUp")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(Override.class)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Set.class),
+                        ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class))), "warmedUp");
+        if (useJsonCreator) {
+            for (ParameterDeserializerBuilder parameterBuilder : parameterBuilders) {
+                builder.addStatement("deserializers.get($S).warmUp(warmedUp)", parameterBuilder.getParameterName());
+            }
+        }
+        if (useBuilder) {
+            builder.addStatement("builderDeserializer.warmUp(warmedUp)");
+        }
+        return builder.build();
+    }
+
     private MethodSpec getDeserializerMethod() {
         return MethodSpec.methodBuilder("getParametersDeserializer")
                 .addModifiers(Modifier.PUBLIC)
@@ -513,6 +550,33 @@ public class AptDeserializerBuilder extends AbstractJsonMapperGenerator {
         return builder.build();
     }
 
+    /**
+     * @return MethodSpec for the index of the names of the properties put in initDeserializers, used by the deserializer to
+     * match the properties without creating their names. if there are no properties return null;
+     */
+    private MethodSpec buildInitPropertyNamesMethod() {
+        if (isUseBuilder() || isUseJsonCreator()) {
+            return null;
+        }
+        List<String> propertyNames = orderedFields().keySet().stream()
+                .filter(this::isEligibleForSerializationDeserialization)
+                .map(this::getPropertyName)
+                .collect(Collectors.toList());
+        if (propertyNames.isEmpty()) {
+            return null;
+        }
+
+        CodeBlock names = propertyNames.stream()
+                .map(name -> CodeBlock.of("$S", name))
+                .collect(CodeBlock.joining(", "));
+        return MethodSpec.methodBuilder("initPropertyNames")
+                .addModifiers(Modifier.PROTECTED)
+                .addAnnotation(Override.class)
+                .returns(PropertyNameIndex.class)
+                .addStatement("return new $T($L)", PropertyNameIndex.class, names)
+                .build();
+    }
+
     /**
      * @param field
      * @return the field provided in the {@link JsonProperty} as long as the provided name is not JsonProperty.USE_DEFAULT_NAME otherwise return the field simple name
@@ -22,6 +22,7 @@ import org.dominokit.jacksonapt.JsonDeserializationContext;
 import org.dominokit.jacksonapt.JsonDeserializer;
 import org.dominokit.jacksonapt.JsonDeserializerParameters;
 import org.dominokit.jacksonapt.deser.bean.BeanPropertyDeserializer;
+import org.dominokit.jacksonapt.deser.bean.PrimitiveBeanPropertyDeserializer;
 import org.dominokit.jacksonapt.processor.AbstractJsonMapperGenerator.AccessorInfo;
 import org.dominokit.jacksonapt.processor.AccessorsFilter;
 import org.dominokit.jacksonapt.processor.ObjectMapperProcessor;
@@ -54,24 +55,29 @@ class DeserializerBuilder extends AccessorsFilter {
         final String paramValue = "value";
         final String paramBean = "bean";
 
-        TypeSpec.Builder builder = TypeSpec.anonymousClassBuilder("")
-                .superclass(ParameterizedTypeName
-                        .get(ClassName.get(BeanPropertyDeserializer.class), TypeName.get(beanType), Type.wrapperType(fieldType)));
+        ClassName primitiveDeserializer = getPrimitiveDeserializer();
 
-        builder.addMethod(buildDeserializerMethod());
+        TypeSpec.Builder builder = TypeSpec.anonymousClassBuilder("");
+        if (nonNull(primitiveDeserializer)) {
+            builder.superclass(ParameterizedTypeName.get(primitiveDeserializer, TypeName.get(beanType)));
+        } else {
+            builder.superclass(ParameterizedTypeName
+                    .get(ClassName.get(BeanPropertyDeserializer.class), TypeName.get(beanType), Type.wrapperType(fieldType)));
+            builder.addMethod(buildDeserializerMethod());
+        }
 
         if(nonNull(field.getAnnotation(JsonFormat.class))){
             builder.addMethod(buildParametersMethod());
         }
 
-        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("setValue")
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(nonNull(primitiveDeserializer) ? "setPrimitiveValue" : "setValue")
                 .addModifiers(Modifier.PUBLIC)
                 .addAnnotation(Override.class)
                 .addParameter(ClassName.get(beanType), paramBean);
 
         AccessorInfo accessorInfo = setterInfo(field);
 
-        methodBuilder.addParameter(Type.wrapperType(fieldType), paramValue)
+        methodBuilder.addParameter(nonNull(primitiveDeserializer) ? TypeName.get(fieldType) : Type.wrapperType(fieldType), paramValue)
                 .addParameter(JsonDeserializationContext.class, "ctx")
                 .addStatement("$L", paramBean + "." + accessorInfo.getName() + (accessorInfo.method.isPresent() ? "(" : "=") + paramValue + (accessorInfo.method.isPresent() ? ")" : ""));
 
@@ -80,6 +86,28 @@ class DeserializerBuilder extends AccessorsFilter {
         return builder.build();
     }
 
+    /**
+     * The primitive types that are read straight from the reader without boxing, same set as the serialization side.
+     */
+    private ClassName getPrimitiveDeserializer() {
+        switch (fieldType.getKind()) {
+            case BOOLEAN:
+                return ClassName.get(PrimitiveBeanPropertyDeserializer.BooleanBeanPropertyDeserializer.class);
+            case BYTE:
+                return ClassName.get(PrimitiveBeanPropertyDeserializer.ByteBeanPropertyDeserializer.class);
+            case SHORT:
+                return ClassName.get(PrimitiveBeanPropertyDeserializer.ShortBeanPropertyDeserializer.class);
+            case INT:
+                return ClassName.get(PrimitiveBeanPropertyDeserializer.IntBeanPropertyDeserializer.class);
+            case LONG:
+                return ClassName.get(PrimitiveBeanPropertyDeserializer.LongBeanPropertyDeserializer.class);
+            case DOUBLE:
+                return ClassName.get(PrimitiveBeanPropertyDeserializer.DoubleBeanPropertyDeserializer.class);
+            default:
+                return null;
+        }
+    }
+
     private MethodSpec buildDeserializerMethod() {
         return MethodSpec.methodBuilder("newDeserializer")
                 .addModifiers(Modifier.PROTECTED)
@@ -19,6 +19,7 @@ import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.TypeName;
 import org.dominokit.jacksonapt.deser.EnumJsonDeserializer;
+import org.dominokit.jacksonapt.deser.LazyJsonDeserializer;
 import org.dominokit.jacksonapt.deser.array.ArrayJsonDeserializer;
 import org.dominokit.jacksonapt.deser.array.dd.Array2dJsonDeserializer;
 import org.dominokit.jacksonapt.processor.MappersChainBuilder;
@@ -43,6 +44,7 @@ import static java.util.Objects.nonNull;
 public class FieldDeserializersChainBuilder implements MappersChainBuilder {
     private static final String GET_INSTANCE = "$T.getInstance()";
     private static final String NEW_INSTANCE = "$T.newInstance(";
+    private static final String INSTANCE = "$T.INSTANCE";
     private boolean rootGenerated;
 
     private CodeBlock.Builder builder = CodeBlock.builder();
@@ -119,6 +121,8 @@ public class FieldDeserializersChainBuilder implements MappersChainBuilder {
     private String getFieldDeserializer(TypeMirror typeMirror) {
         typeMirror = Type.removeOuterWildCards(typeMirror);
 
+        if (Type.isLazy(typeMirror))
+            return getLazyDeserializer(typeMirror);
         if (Type.isIterable(typeMirror))
             return getIterableDeserializer(typeMirror);
         if (Type.isMap(typeMirror))
@@ -148,7 +152,7 @@ public class FieldDeserializersChainBuilder implements MappersChainBuilder {
                 rootGenerated = true;
             }
         }
-        return "new $T()";
+        return INSTANCE;
     }
 
     private String getPackageName(TypeMirror typeMirror) {
@@ -169,6 +173,11 @@ public class FieldDeserializersChainBuilder implements MappersChainBuilder {
         return deserializerName;
     }
 
+    private String getLazyDeserializer(TypeMirror typeMirror) {
+        deserializers.addLast(TypeName.get(LazyJsonDeserializer.class));
+        return NEW_INSTANCE + getFieldDeserializer(Type.firstTypeArgument(typeMirror)) + ")";
+    }
+
     private String getEnumDeserializer(TypeMirror typeMirror) {
         deserializers.addLast(TypeName.get(EnumJsonDeserializer.class));
         deserializers.addLast(TypeName.get(typeMirror));
@@ -241,7 +241,7 @@ public class AptSerializerBuilder extends AbstractJsonMapperGenerator {
                                 .addModifiers(Modifier.PROTECTED)
                                 .addAnnotation(Override.class)
                                 .returns(ParameterizedTypeName.get(ClassName.get(JsonSerializer.class), WildcardTypeName.subtypeOf(Object.class)))
-                                .addStatement("return new $T()", ClassName.bestGuess(Type.serializerName(packageName, subtypeEntry.getValue())))
+                                .addStatement("return $T.INSTANCE", ClassName.bestGuess(Type.serializerName(packageName, subtypeEntry.getValue())))
                                 .build()
                         ).build();
 
@@ -24,6 +24,7 @@ import org.dominokit.jacksonapt.processor.TypeRegistry;
 import org.dominokit.jacksonapt.ser.CollectionJsonSerializer;
 import org.dominokit.jacksonapt.ser.EnumJsonSerializer;
 import org.dominokit.jacksonapt.ser.IterableJsonSerializer;
+import org.dominokit.jacksonapt.ser.LazyJsonSerializer;
 import org.dominokit.jacksonapt.ser.array.ArrayJsonSerializer;
 import org.dominokit.jacksonapt.ser.array.dd.Array2dJsonSerializer;
 import org.dominokit.jacksonapt.ser.map.MapJsonSerializer;
@@ -46,6 +47,7 @@ public class FieldSerializerChainBuilder implements MappersChainBuilder {
 
     private static final String GET_INSTANCE = "$T.getInstance()";
     private static final String NEW_INSTANCE = "$T.newInstance(";
+    private static final String INSTANCE = "$T.INSTANCE";
     private boolean rootGenerated = true;
 
     private CodeBlock.Builder builder = CodeBlock.builder();
@@ -119,6 +121,8 @@ public class FieldSerializerChainBuilder implements MappersChainBuilder {
     private String getFieldSerializer(TypeMirror typeMirror) {
     	typeMirror = Type.removeOuterWildCards(typeMirror);
     	
+        if (Type.isLazy(typeMirror))
+            return getLazySerializer(typeMirror);
         if (Type.isCollection(typeMirror))
             return getCollectionSerializer(typeMirror);
         if (Type.isIterable(typeMirror))
@@ -150,7 +154,7 @@ public class FieldSerializerChainBuilder implements MappersChainBuilder {
                 this.rootGenerated = true;
             }
         }
-        return "new $T()";
+        return INSTANCE;
     }
 
     private String getPackageName(TypeMirror typeMirror) {
@@ -200,6 +204,11 @@ public class FieldSerializerChainBuilder implements MappersChainBuilder {
         return NEW_INSTANCE + getFieldSerializer(Type.firstTypeArgument(typeMirror)) + ")";
     }
 
+    private String getLazySerializer(TypeMirror typeMirror) {
+        serializers.addLast(TypeName.get(LazyJsonSerializer.class));
+        return NEW_INSTANCE + getFieldSerializer(Type.firstTypeArgument(typeMirror)) + ")";
+    }
+
     private String getIterableSerializer(TypeMirror typeMirror) {
         serializers.addLast(TypeName.get(IterableJsonSerializer.class));
         return NEW_INSTANCE + getFieldSerializer(Type.firstTypeArgument(typeMirror)) + ")";
@@ -27,6 +27,7 @@ import org.dominokit.jacksonapt.processor.AccessorsFilter;
 import org.dominokit.jacksonapt.processor.ObjectMapperProcessor;
 import org.dominokit.jacksonapt.processor.Type;
 import org.dominokit.jacksonapt.ser.bean.BeanPropertySerializer;
+import org.dominokit.jacksonapt.ser.bean.PrimitiveBeanPropertySerializer;
 import org.dominokit.jacksonapt.stream.impl.DefaultJsonWriter;
 
 import javax.lang.model.element.Element;
@@ -58,19 +59,23 @@ class SerializerBuilder extends AccessorsFilter {
 
     TypeSpec buildSerializer() {
         final String paramBean = "bean";
-
-        TypeSpec.Builder builder = TypeSpec.anonymousClassBuilder("\"$L\"", DefaultJsonWriter.encodeString(getPropertyName(field)))
-                .superclass(ParameterizedTypeName
-                        .get(ClassName.get(BeanPropertySerializer.class), TypeName.get(beanType), Type.wrapperType(fieldType)));
-
-        builder.addMethod(buildSerializerMethod());
+        ClassName primitiveSerializer = getPrimitiveSerializer();
+
+        TypeSpec.Builder builder = TypeSpec.anonymousClassBuilder("\"$L\"", DefaultJsonWriter.encodeString(getPropertyName(field)));
+        if (nonNull(primitiveSerializer)) {
+            builder.superclass(ParameterizedTypeName.get(primitiveSerializer, TypeName.get(beanType)));
+        } else {
+            builder.superclass(ParameterizedTypeName
+                    .get(ClassName.get(BeanPropertySerializer.class), TypeName.get(beanType), Type.wrapperType(fieldType)));
+            builder.addMethod(buildSerializerMethod());
+        }
 
         if (shouldAddParametersMethod()) {
             builder.addMethod(buildParametersMethod());
         }
 
-        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("getValue")
-                .returns(Type.wrapperType(fieldType))
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(nonNull(primitiveSerializer) ? "getPrimitiveValue" : "getValue")
+                .returns(nonNull(primitiveSerializer) ? TypeName.get(fieldType) : Type.wrapperType(fieldType))
                 .addModifiers(Modifier.PUBLIC)
                 .addAnnotation(Override.class)
                 .addParameter(ClassName.get(beanType), paramBean);
@@ -85,6 +90,29 @@ class SerializerBuilder extends AccessorsFilter {
         return builder.build();
     }
 
+    /**
+     * The primitive types that are written straight to the writer without boxing, float and char keep the boxed
+     * serializer as their format differs from the one of the widened type.
+     */
+    private ClassName getPrimitiveSerializer() {
+        switch (fieldType.getKind()) {
+            case BOOLEAN:
+                return ClassName.get(PrimitiveBeanPropertySerializer.BooleanBeanPropertySerializer.class);
+            case BYTE:
+                return ClassName.get(PrimitiveBeanPropertySerializer.ByteBeanPropertySerializer.class);
+            case SHORT:
+                return ClassName.get(PrimitiveBeanPropertySerializer.ShortBeanPropertySerializer.class);
+            case INT:
+                return ClassName.get(PrimitiveBeanPropertySerializer.IntBeanPropertySerializer.class);
+            case LONG:
+                return ClassName.get(PrimitiveBeanPropertySerializer.LongBeanPropertySerializer.class);
+            case DOUBLE:
+                return ClassName.get(PrimitiveBeanPropertySerializer.DoubleBeanPropertySerializer.class);
+            default:
+                return null;
+        }
+    }
+
     private boolean shouldAddParametersMethod() {
         return nonNull(field.getAnnotation(JsonFormat.class)) || nonNull(field.getAnnotation(JsonInclude.class)) || hasTypeJsonInclude();
     }
@@ -625,7 +625,7 @@ public class DeserializerInstanceBuilderTest extends BaseInstanceBuilderTest {
 
         ClassName deserializer = ClassName.bestGuess("org.dominokit.jacksonapt.processor.TestBeanBeanJsonDeserializerImpl");
         TypeRegistry.registerSerializer("org.dominokit.jacksonapt.processor.TestBean", deserializer);
-        addFieldTest("testBean", result -> assertEquals(buildTestString("new $T()", deserializer), result));
+        addFieldTest("testBean", result -> assertEquals(buildTestString("$T.INSTANCE", deserializer), result));
 
         runTests();
     }
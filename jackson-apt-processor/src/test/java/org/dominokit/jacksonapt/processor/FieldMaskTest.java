@@ -0,0 +1,166 @@
+package org.dominokit.jacksonapt.processor;
+
+import org.dominokit.jacksonapt.DefaultJsonDeserializationContext;
+import org.dominokit.jacksonapt.DefaultJsonSerializationContext;
+import org.dominokit.jacksonapt.FieldMask;
+import org.dominokit.jacksonapt.JsonDeserializationContext;
+import org.dominokit.jacksonapt.JsonSerializationContext;
+import org.dominokit.jacksonapt.processor.bean.Order;
+import org.dominokit.jacksonapt.processor.bean.Order_MapperImpl;
+import org.dominokit.jacksonapt.processor.bean.Shipment;
+import org.dominokit.jacksonapt.processor.bean.Shipment_MapperImpl;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class FieldMaskTest {
+
+    private static final String JSON = "{\"id\":7,\"customer\":\"acme\",\"total\":12.5,\"notes\":\"n\","
+            + "\"main\":{\"sku\":\"a\",\"quantity\":1,\"price\":2.5},"
+            + "\"lines\":[{\"sku\":\"b\",\"quantity\":2,\"price\":3.5},{\"sku\":\"c\",\"quantity\":3,\"price\":4.5}]}";
+
+    private static JsonDeserializationContext context(String fields) {
+        return DefaultJsonDeserializationContext.builder().fieldMask(FieldMask.parse(fields)).build();
+    }
+
+    @Test
+    public void parse() {
+        assertEquals("id,main,lines.sku,lines.price", FieldMask.parse(" id, main.sku ,lines.sku,main,lines.price ").toString());
+        assertEquals("a.b", FieldMask.of("a.b").toString());
+        assertSame(FieldMask.ALL, FieldMask.parse("a").get("a"));
+        assertNull(FieldMask.parse("a").get("b"));
+        assertSame(FieldMask.ALL, FieldMask.ALL.get("a"));
+        assertEquals("", FieldMask.parse("").toString());
+    }
+
+    @Test
+    public void equality() {
+        assertEquals(FieldMask.parse("a,b.c,b.d"), FieldMask.parse("b.d,a,b.c"));
+        assertEquals(FieldMask.parse("a,b.c,b.d").hashCode(), FieldMask.parse("b.d,a,b.c").hashCode());
+        assertEquals(FieldMask.parse("a,b"), FieldMask.parse("a,b.c,b"));
+        assertNotEquals(FieldMask.parse("a,b"), FieldMask.parse("a,b.c"));
+        assertNotEquals(FieldMask.ALL, FieldMask.parse("a"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parse_empty_path() {
+        FieldMask.parse("a,,b");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parse_empty_name() {
+        FieldMask.parse("a..b");
+    }
+
+    @Test
+    public void read_top_level_properties() {
+        Order order = Order_MapperImpl.INSTANCE.read(JSON, context("id,total"));
+        assertEquals(7, order.getId());
+        assertEquals(12.5, order.getTotal(), 0);
+        assertNull(order.getCustomer());
+        assertNull(order.getNotes());
+        assertNull(order.getMain());
+        assertNull(order.getLines());
+    }
+
+    @Test
+    public void read_nested_properties() {
+        Order order = Order_MapperImpl.INSTANCE.read(JSON, context("customer,main.sku,lines.price"));
+        assertEquals("acme", order.getCustomer());
+        assertEquals("a", order.getMain().getSku());
+        assertEquals(0, order.getMain().getQuantity());
+        assertEquals(2, order.getLines().size());
+        assertNull(order.getLines().get(0).getSku());
+        assertEquals(3.5, order.getLines().get(0).getPrice(), 0);
+        assertEquals(4.5, order.getLines().get(1).getPrice(), 0);
+    }
+
+    @Test
+    public void read_whole_property() {
+        Order order = Order_MapperImpl.INSTANCE.read(JSON, context("main"));
+        assertEquals("a", order.getMain().getSku());
+        assertEquals(1, order.getMain().getQuantity());
+        assertEquals(2.5, order.getMain().getPrice(), 0);
+        assertNull(order.getLines());
+    }
+
+    @Test
+    public void skipped_values_are_not_decoded() {
+        // the excluded and unknown values do not match their types, they are only skipped
+        String json = "{\"id\":{\"not\":\"a number\"},\"unknown\":[1,2],\"customer\":\"acme\",\"main\":{\"sku\":\"a\",\"price\":\"x\"}}";
+        Order order = Order_MapperImpl.INSTANCE.read(json, context("customer,main.sku"));
+        assertEquals("acme", order.getCustomer());
+        assertEquals("a", order.getMain().getSku());
+    }
+
+    @Test
+    public void read_bytes() {
+        Order order = Order_MapperImpl.INSTANCE.read(JSON.getBytes(StandardCharsets.UTF_8), context("lines.quantity"));
+        assertEquals(2, order.getLines().get(0).getQuantity());
+        assertEquals(3, order.getLines().get(1).getQuantity());
+        assertNull(order.getCustomer());
+    }
+
+    @Test
+    public void read_creator_parameters() {
+        String json = "{\"reference\":\"r1\",\"line\":{\"sku\":\"a\",\"quantity\":1,\"price\":2.5}}";
+
+        Shipment shipment = Shipment_MapperImpl.INSTANCE.read(json, context("line"));
+        assertNull(shipment.getReference());
+        assertEquals("a", shipment.getLine().getSku());
+        assertEquals(1, shipment.getLine().getQuantity());
+        assertEquals(2.5, shipment.getLine().getPrice(), 0);
+
+        shipment = Shipment_MapperImpl.INSTANCE.read(json, context("reference,line.sku"));
+        assertEquals("r1", shipment.getReference());
+        assertEquals("a", shipment.getLine().getSku());
+        assertEquals(0, shipment.getLine().getQuantity());
+
+        shipment = Shipment_MapperImpl.INSTANCE.read(json, context("line.price"));
+        assertNull(shipment.getLine().getSku());
+        assertEquals(2.5, shipment.getLine().getPrice(), 0);
+
+        shipment = Shipment_MapperImpl.INSTANCE.read(json, context("reference"));
+        assertEquals("r1", shipment.getReference());
+        assertNull(shipment.getLine());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void read_null_mask() {
+        DefaultJsonDeserializationContext.builder().build().setFieldMask(null);
+    }
+
+    @Test
+    public void write_selected_properties() {
+        Order order = Order_MapperImpl.INSTANCE.read(JSON);
+        assertEquals("{\"id\":7,\"main\":{\"sku\":\"a\",\"quantity\":1,\"price\":2.5},\"lines\":[{\"sku\":\"b\"},{\"sku\":\"c\"}]}",
+                Order_MapperImpl.INSTANCE.write(order, writeContext("main,id,lines.sku")));
+        assertEquals("{\"total\":12.5}", Order_MapperImpl.INSTANCE.write(order, writeContext("total,unknown.name")));
+        assertEquals(JSON, Order_MapperImpl.INSTANCE.write(order));
+    }
+
+    @Test
+    public void write_with_mask_per_operation() {
+        DefaultJsonSerializationContext.Configuration configuration = DefaultJsonSerializationContext.builder().buildConfiguration();
+        Order order = Order_MapperImpl.INSTANCE.read(JSON);
+        for (int i = 0; i < 3; i++) {
+            JsonSerializationContext ctx = configuration.newContext();
+            ctx.setFieldMask(FieldMask.parse("customer"));
+            assertEquals("{\"customer\":\"acme\"}", Order_MapperImpl.INSTANCE.write(order, ctx));
+
+            ctx = configuration.newContext();
+            ctx.setFieldMask(FieldMask.parse("main.price"));
+            assertEquals("{\"main\":{\"price\":2.5}}", Order_MapperImpl.INSTANCE.write(order, ctx));
+        }
+        assertEquals(JSON, Order_MapperImpl.INSTANCE.write(order, configuration.newContext()));
+    }
+
+    private static JsonSerializationContext writeContext(String fields) {
+        return DefaultJsonSerializationContext.builder().fieldMask(FieldMask.parse(fields)).build();
+    }
+}
@@ -0,0 +1,121 @@
+package org.dominokit.jacksonapt.processor;
+
+import org.dominokit.jacksonapt.DefaultJsonDeserializationContext;
+import org.dominokit.jacksonapt.DefaultJsonSerializationContext;
+import org.dominokit.jacksonapt.FieldMask;
+import org.dominokit.jacksonapt.JsonDeserializationContext;
+import org.dominokit.jacksonapt.JsonSerializationContext;
+import org.dominokit.jacksonapt.Lazy;
+import org.dominokit.jacksonapt.exception.JsonDeserializationException;
+import org.dominokit.jacksonapt.processor.bean.Order;
+import org.dominokit.jacksonapt.processor.bean.OrderLine;
+import org.dominokit.jacksonapt.processor.bean.Snapshot;
+import org.dominokit.jacksonapt.processor.bean.Snapshot_MapperImpl;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LazyTest {
+
+    private static final String ORDER = "{\"id\":7,\"customer\":\"acme\",\"total\":12.5,\"notes\":null,"
+            + "\"main\":{\"sku\":\"a\",\"quantity\":1,\"price\":2.5},\"lines\":[]}";
+
+    private static final String JSON = "{\"name\":\"snapshot\",\"order\":" + ORDER
+            + ",\"lines\":[{\"sku\":\"b\",\"quantity\":2,\"price\":3.5}]}";
+
+    @Test
+    public void decode_on_access() {
+        Snapshot snapshot = Snapshot_MapperImpl.INSTANCE.read(JSON);
+        assertEquals("snapshot", snapshot.getName());
+        assertFalse(snapshot.getOrder().isDecoded());
+        assertEquals(ORDER, snapshot.getOrder().getRawJson().toString());
+
+        Order order = snapshot.getOrder().get();
+        assertTrue(snapshot.getOrder().isDecoded());
+        assertNull(snapshot.getOrder().getRawJson());
+        assertEquals(7, order.getId());
+        assertEquals("a", order.getMain().getSku());
+        assertEquals(order, snapshot.getOrder().get());
+
+        assertEquals(3.5, snapshot.getLines().get().get(0).getPrice(), 0);
+    }
+
+    @Test
+    public void decode_from_bytes() {
+        Snapshot snapshot = Snapshot_MapperImpl.INSTANCE.read(JSON.getBytes(StandardCharsets.UTF_8));
+        assertEquals("acme", snapshot.getOrder().get().getCustomer());
+        assertEquals("b", snapshot.getLines().get().get(0).getSku());
+    }
+
+    @Test
+    public void errors_on_access() {
+        Snapshot snapshot = Snapshot_MapperImpl.INSTANCE.read("{\"name\":\"snapshot\",\"order\":{\"id\":\"x\",\"unknown\":1}}");
+        assertEquals("snapshot", snapshot.getName());
+        try {
+            snapshot.getOrder().get();
+            throw new AssertionError("the order is invalid");
+        } catch (JsonDeserializationException expected) {
+        }
+    }
+
+    @Test
+    public void decode_with_field_mask() {
+        Snapshot snapshot = Snapshot_MapperImpl.INSTANCE.read(JSON, DefaultJsonDeserializationContext.builder()
+                .fieldMask(FieldMask.parse("order.customer")).build());
+        assertNull(snapshot.getName());
+        assertNull(snapshot.getLines());
+        assertEquals("acme", snapshot.getOrder().get().getCustomer());
+        assertNull(snapshot.getOrder().get().getMain());
+    }
+
+    @Test
+    public void decode_apart_from_the_read_context() throws Exception {
+        FieldMask fieldMask = FieldMask.parse("order.customer,lines.sku");
+        JsonDeserializationContext ctx = DefaultJsonDeserializationContext.builder().fieldMask(fieldMask).build();
+        Snapshot snapshot = Snapshot_MapperImpl.INSTANCE.read(JSON, ctx);
+        ctx.setFieldMask(FieldMask.parse("name"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Order> order = executor.submit(() -> snapshot.getOrder().get());
+            Future<List<OrderLine>> lines = executor.submit(() -> snapshot.getLines().get());
+            assertEquals("acme", order.get().getCustomer());
+            assertNull(order.get().getMain());
+            assertEquals("b", lines.get().get(0).getSku());
+            assertEquals(0, lines.get().get(0).getQuantity());
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(FieldMask.parse("name"), ctx.getFieldMask());
+    }
+
+    @Test
+    public void write() {
+        Snapshot snapshot = Snapshot_MapperImpl.INSTANCE.read(JSON);
+        assertEquals(JSON, Snapshot_MapperImpl.INSTANCE.write(snapshot));
+
+        snapshot.getOrder().get().setCustomer("other");
+        assertEquals(JSON.replace("acme", "other"), Snapshot_MapperImpl.INSTANCE.write(snapshot));
+
+        JsonSerializationContext ctx = DefaultJsonSerializationContext.builder().build();
+        ctx.setFieldMask(FieldMask.parse("lines.sku"));
+        assertEquals("{\"lines\":[{\"sku\":\"b\"}]}", Snapshot_MapperImpl.INSTANCE.write(snapshot, ctx));
+
+        OrderLine line = new OrderLine();
+        line.setSku("c");
+        snapshot.setLines(Lazy.of(Collections.singletonList(line)));
+        snapshot.setOrder(null);
+        assertEquals("{\"name\":\"snapshot\",\"order\":null,\"lines\":[{\"sku\":\"c\",\"quantity\":0,\"price\":0.0}]}",
+                Snapshot_MapperImpl.INSTANCE.write(snapshot));
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 
 import java.io.File;
 import java.io.PrintWriter;
+import java.io.StringReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileAttribute;
@@ -61,6 +62,26 @@ public class PolymorphicTest {
 		assertEquals(pcc2.ii, ((PolymorphicChildClass2)pcc_processed).ii);
 	}
 	
+	@Test
+	public void testTypeInfoAfterProperties() {
+		String json = "{\"str\":\"first\",\"i\":7,\"@type\":\"childclass\"}";
+		PolymorphicChildClass fromString = (PolymorphicChildClass) BASEMAPPERINSTANCE.read(json);
+		assertEquals("first", fromString.str);
+		assertEquals(7, fromString.i);
+
+		// a stream reader cannot go back, the properties before the type info are buffered
+		PolymorphicChildClass fromReader = (PolymorphicChildClass) BASEMAPPERINSTANCE.read(new StringReader(json));
+		assertEquals("first", fromReader.str);
+		assertEquals(7, fromReader.i);
+
+		PolymorphicGenericClass<PolymorphicBaseInterface> pgc = POLYMORPHICMAPPER.read("{\"dataList\":[{\"ii\":3,\"@type\":\"childclass2\"," +
+				"\"i\":4}],\"data\":{\"i\":1,\"@type\":\"childclass\",\"str\":\"nested\"}}");
+		assertEquals("nested", ((PolymorphicChildClass) pgc.data).str);
+		assertEquals(1, ((PolymorphicChildClass) pgc.data).i);
+		assertEquals(3, ((PolymorphicChildClass2) pgc.dataList.get(0)).ii);
+		assertEquals(4, ((PolymorphicChildClass2) pgc.dataList.get(0)).i);
+	}
+
 	@Test
 	public void testSubtypesWithList() {
 		List<PolymorphicBaseInterface> list = new ArrayList<>();
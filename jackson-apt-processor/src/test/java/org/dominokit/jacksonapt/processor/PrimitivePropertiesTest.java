@@ -0,0 +1,59 @@
+package org.dominokit.jacksonapt.processor;
+
+import org.dominokit.jacksonapt.processor.bean.PrimitivesSample;
+import org.dominokit.jacksonapt.processor.bean.PrimitivesSample_MapperImpl;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class PrimitivePropertiesTest {
+
+    @Test
+    public void primitive_properties() {
+        PrimitivesSample sample = new PrimitivesSample();
+        sample.setBooleanValue(true);
+        sample.setByteValue((byte) -8);
+        sample.setShortValue((short) 300);
+        sample.setIntValue(Integer.MIN_VALUE);
+        sample.setLongValue(Long.MAX_VALUE);
+        sample.setFloatValue(1.1f);
+        sample.setDoubleValue(-0.5d);
+        sample.setCharValue('c');
+        sample.setNonDefaultInt(7);
+        sample.setNonDefaultDouble(2.5d);
+        sample.setNonDefaultBoolean(true);
+        String json = PrimitivesSample_MapperImpl.INSTANCE.write(sample);
+
+        assertEquals("{\"booleanValue\":true,\"byteValue\":-8,\"shortValue\":300,\"intValue\":-2147483648," +
+                "\"longValue\":9223372036854775807,\"floatValue\":1.1,\"doubleValue\":-0.5,\"charValue\":\"c\"," +
+                "\"nonDefaultInt\":7,\"nonDefaultDouble\":2.5,\"nonDefaultBoolean\":true}", json);
+
+        PrimitivesSample read = PrimitivesSample_MapperImpl.INSTANCE.read(json);
+        assertEquals(json, PrimitivesSample_MapperImpl.INSTANCE.write(read));
+    }
+
+    @Test
+    public void primitive_properties_non_default() {
+        String json = PrimitivesSample_MapperImpl.INSTANCE.write(new PrimitivesSample());
+
+        assertEquals("{\"booleanValue\":false,\"byteValue\":0,\"shortValue\":0,\"intValue\":0,\"longValue\":0," +
+                "\"floatValue\":0.0,\"doubleValue\":0.0,\"charValue\":\"\\u0000\"}", json);
+    }
+
+    @Test
+    public void read_primitive_properties() {
+        PrimitivesSample sample = PrimitivesSample_MapperImpl.INSTANCE.read("{\"booleanValue\":\"true\",\"byteValue\":12," +
+                "\"shortValue\":\"-300\",\"intValue\":\"42\",\"longValue\":-9223372036854775808,\"doubleValue\":1.5e3," +
+                "\"nonDefaultBoolean\":1,\"nonDefaultInt\":null,\"nonDefaultDouble\":null}");
+
+        assertEquals(true, sample.isBooleanValue());
+        assertEquals(12, sample.getByteValue());
+        assertEquals(-300, sample.getShortValue());
+        assertEquals(42, sample.getIntValue());
+        assertEquals(Long.MIN_VALUE, sample.getLongValue());
+        assertEquals(1500d, sample.getDoubleValue(), 0d);
+        assertEquals(true, sample.isNonDefaultBoolean());
+        assertEquals(0, sample.getNonDefaultInt());
+        assertEquals(0d, sample.getNonDefaultDouble(), 0d);
+    }
+}
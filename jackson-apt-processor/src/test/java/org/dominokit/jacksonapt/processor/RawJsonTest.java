@@ -0,0 +1,36 @@
+package org.dominokit.jacksonapt.processor;
+
+import org.dominokit.jacksonapt.processor.bean.GatewayMessage;
+import org.dominokit.jacksonapt.processor.bean.GatewayMessage_MapperImpl;
+import org.dominokit.jacksonapt.stream.RawJson;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class RawJsonTest {
+
+    @Test
+    public void payload_is_passed_through() {
+        String payload = "{ \"items\": [1, 2.50, \"\\u0041\"], \"nested\": {\"ok\": true} }";
+        String json = "{\"id\":\"m1\",\"payload\":" + payload + "}";
+
+        GatewayMessage message = GatewayMessage_MapperImpl.INSTANCE.read(json);
+
+        assertEquals("m1", message.getId());
+        assertEquals(payload, message.getPayload().toString());
+        assertEquals(json, GatewayMessage_MapperImpl.INSTANCE.write(message));
+    }
+
+    @Test
+    public void scalar_and_null_payloads() {
+        GatewayMessage message = GatewayMessage_MapperImpl.INSTANCE.read("{\"id\":\"m2\",\"payload\":-12}");
+        assertEquals(RawJson.of("-12"), message.getPayload());
+
+        message = GatewayMessage_MapperImpl.INSTANCE.read("{\"id\":\"m3\",\"payload\":null}");
+        assertNull(message.getPayload());
+
+        message.setPayload(RawJson.of("[\"a\",\"b\"]"));
+        assertEquals("{\"id\":\"m3\",\"payload\":[\"a\",\"b\"]}", GatewayMessage_MapperImpl.INSTANCE.write(message));
+    }
+}
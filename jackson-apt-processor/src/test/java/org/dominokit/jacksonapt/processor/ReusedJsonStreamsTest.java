@@ -0,0 +1,65 @@
+package org.dominokit.jacksonapt.processor;
+
+import org.dominokit.jacksonapt.DefaultJsonDeserializationContext;
+import org.dominokit.jacksonapt.DefaultJsonSerializationContext;
+import org.dominokit.jacksonapt.JsonDeserializationContext;
+import org.dominokit.jacksonapt.JsonSerializationContext;
+import org.dominokit.jacksonapt.processor.bean.PrimitivesSample;
+import org.dominokit.jacksonapt.processor.bean.PrimitivesSample_MapperImpl;
+import org.dominokit.jacksonapt.stream.JsonReader;
+import org.dominokit.jacksonapt.stream.JsonWriter;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.fail;
+
+public class ReusedJsonStreamsTest {
+
+    private final JsonSerializationContext serializationContext = DefaultJsonSerializationContext.builder()
+            .reuseJsonWriters(true).build();
+
+    private final JsonDeserializationContext deserializationContext = DefaultJsonDeserializationContext.builder()
+            .reuseJsonReaders(true).build();
+
+    @Test
+    public void reused_streams() {
+        for (int i = 0; i < 3; i++) {
+            PrimitivesSample sample = new PrimitivesSample();
+            sample.setIntValue(i);
+            sample.setLongValue(i * 100000000000L);
+            String json = PrimitivesSample_MapperImpl.INSTANCE.write(sample, serializationContext);
+            PrimitivesSample read = PrimitivesSample_MapperImpl.INSTANCE.read(json, deserializationContext);
+            assertEquals(i, read.getIntValue());
+            assertEquals(i * 100000000000L, read.getLongValue());
+            assertEquals(json, PrimitivesSample_MapperImpl.INSTANCE.write(read));
+        }
+    }
+
+    @Test
+    public void reused_reader_after_failure() {
+        try {
+            PrimitivesSample_MapperImpl.INSTANCE.read("{\"intValue\":", deserializationContext);
+            fail();
+        } catch (RuntimeException expected) {
+        }
+        assertEquals(5, PrimitivesSample_MapperImpl.INSTANCE.read("{\"intValue\":5}", deserializationContext).getIntValue());
+    }
+
+    @Test
+    public void release_only_acquired_streams() {
+        // the streams not acquired from the cache, whatever their type, are not given back to it
+        JsonReader reader = deserializationContext.newJsonReader("{}");
+        deserializationContext.releaseJsonReader(reader);
+        deserializationContext.releaseJsonReader(deserializationContext.newJsonReader(new StringReader("{}")));
+        assertNotSame(reader, deserializationContext.acquireJsonReader("{}"));
+
+        JsonWriter writer = serializationContext.newJsonWriter();
+        serializationContext.releaseJsonWriter(writer);
+        serializationContext.releaseJsonWriter(serializationContext.newJsonWriter(new ByteArrayOutputStream()));
+        assertNotSame(writer, serializationContext.acquireJsonWriter());
+    }
+}
@@ -336,7 +336,7 @@ public class SerializerInstanceBuilderTest extends BaseInstanceBuilderTest {
 
         ClassName serializer = ClassName.bestGuess("org.dominokit.jacksonapt.processor.TestBeanBeanJsonSerializerImpl");
         TypeRegistry.registerSerializer("org.dominokit.jacksonapt.processor.TestBean", serializer);
-        addFieldTest("testBean", result -> assertEquals(buildTestString("new $T()", serializer), result));
+        addFieldTest("testBean", result -> assertEquals(buildTestString("$T.INSTANCE", serializer), result));
 
         runTests();
     }
@@ -0,0 +1,55 @@
+package org.dominokit.jacksonapt.processor;
+
+import org.dominokit.jacksonapt.DefaultJsonDeserializationContext;
+import org.dominokit.jacksonapt.DefaultJsonSerializationContext;
+import org.dominokit.jacksonapt.processor.bean.PrimitivesSample;
+import org.dominokit.jacksonapt.processor.bean.PrimitivesSample_MapperImpl;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+public class SharedConfigurationTest {
+
+    private static final DefaultJsonSerializationContext.Configuration SERIALIZATION = DefaultJsonSerializationContext.builder()
+            .serializeNulls(false).buildConfiguration();
+
+    private static final DefaultJsonDeserializationContext.Configuration DESERIALIZATION = DefaultJsonDeserializationContext.builder()
+            .failOnUnknownProperties(false).buildConfiguration();
+
+    @Test
+    public void new_context_per_operation() {
+        assertNotSame(SERIALIZATION.newContext(), SERIALIZATION.newContext());
+        assertEquals(false, SERIALIZATION.newContext().isSerializeNulls());
+        assertEquals(false, DESERIALIZATION.newContext().isFailOnUnknownProperties());
+    }
+
+    @Test
+    public void configuration_shared_between_threads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                final int value = i;
+                results.add(executor.submit(() -> {
+                    PrimitivesSample sample = new PrimitivesSample();
+                    sample.setIntValue(value);
+                    String json = PrimitivesSample_MapperImpl.INSTANCE.write(sample, SERIALIZATION.newContext());
+                    json = json.replace("{", "{\"unknown\":1,");
+                    return PrimitivesSample_MapperImpl.INSTANCE.read(json, DESERIALIZATION.newContext()).getIntValue();
+                }));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(i, (int) results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
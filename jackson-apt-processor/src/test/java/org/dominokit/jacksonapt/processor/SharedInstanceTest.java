@@ -0,0 +1,101 @@
+package org.dominokit.jacksonapt.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.common.truth.StringSubject;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+
+public class SharedInstanceTest {
+
+    private static final JavaFileObject PARENT = JavaFileObjects.forSourceLines("test.Parent",
+            "package test;",
+            "",
+            "import org.dominokit.jacksonapt.annotation.JSONMapper;",
+            "import java.util.List;",
+            "",
+            "@JSONMapper",
+            "public class Parent {",
+            "    public Child child;",
+            "    public List<Child> children;",
+            "    public Parent parent;",
+            "}");
+
+    private static final JavaFileObject CHILD = JavaFileObjects.forSourceLines("test.Child",
+            "package test;",
+            "",
+            "import com.fasterxml.jackson.databind.annotation.JsonDeserialize;",
+            "",
+            "@JsonDeserialize(builder = ChildBuilder.class)",
+            "public class Child {",
+            "    public String name;",
+            "}");
+
+    private static final JavaFileObject CHILD_BUILDER = JavaFileObjects.forSourceLines("test.ChildBuilder",
+            "package test;",
+            "",
+            "public class ChildBuilder {",
+            "    private String name;",
+            "",
+            "    public ChildBuilder setName(String name) {",
+            "        this.name = name;",
+            "        return this;",
+            "    }",
+            "",
+            "    public Child build() {",
+            "        Child child = new Child();",
+            "        child.name = name;",
+            "        return child;",
+            "    }",
+            "}");
+
+    private static Compilation compilation;
+
+    private static StringSubject generatedSource(String qualifiedName) {
+        if (null == compilation) {
+            compilation = javac().withProcessors(new ObjectMapperProcessor()).compile(PARENT, CHILD, CHILD_BUILDER);
+            assertThat(compilation).succeeded();
+        }
+        return assertThat(compilation).generatedSourceFile(qualifiedName).contentsAsUtf8String();
+    }
+
+    @Test
+    public void generated_deserializers_share_their_instance() {
+        StringSubject parent = generatedSource("test.ParentBeanJsonDeserializerImpl");
+        parent.contains("public static final ParentBeanJsonDeserializerImpl INSTANCE = new ParentBeanJsonDeserializerImpl();");
+        parent.contains("return ChildBeanJsonDeserializerImpl.INSTANCE;");
+        parent.contains("return ListJsonDeserializer.newInstance(ChildBeanJsonDeserializerImpl.INSTANCE);");
+        parent.contains("return ParentBeanJsonDeserializerImpl.INSTANCE;");
+        parent.doesNotContain("new ChildBeanJsonDeserializerImpl()");
+
+        // the builder deserializer is the only INSTANCE referenced from a constructor
+        StringSubject child = generatedSource("test.ChildBeanJsonDeserializerImpl");
+        child.contains("public static final ChildBeanJsonDeserializerImpl INSTANCE = new ChildBeanJsonDeserializerImpl();");
+        child.contains("builderDeserializer = ChildBuilderBeanJsonDeserializerImpl.INSTANCE;");
+        generatedSource("test.ChildBuilderBeanJsonDeserializerImpl")
+                .contains("public static final ChildBuilderBeanJsonDeserializerImpl INSTANCE = new ChildBuilderBeanJsonDeserializerImpl();");
+    }
+
+    @Test
+    public void generated_serializers_share_their_instance() {
+        StringSubject parent = generatedSource("test.ParentBeanJsonSerializerImpl");
+        parent.contains("public static final ParentBeanJsonSerializerImpl INSTANCE = new ParentBeanJsonSerializerImpl();");
+        parent.contains("return ChildBeanJsonSerializerImpl.INSTANCE;");
+        parent.contains("return CollectionJsonSerializer.newInstance(ChildBeanJsonSerializerImpl.INSTANCE);");
+        parent.contains("return ParentBeanJsonSerializerImpl.INSTANCE;");
+        parent.doesNotContain("new ChildBeanJsonSerializerImpl()");
+        generatedSource("test.ChildBeanJsonSerializerImpl")
+                .contains("public static final ChildBeanJsonSerializerImpl INSTANCE = new ChildBeanJsonSerializerImpl();");
+    }
+
+    @Test
+    public void mapper_uses_the_shared_instances() {
+        StringSubject mapper = generatedSource("test.Parent_MapperImpl");
+        mapper.contains("return ParentBeanJsonDeserializerImpl.INSTANCE;");
+        mapper.contains("return ParentBeanJsonSerializerImpl.INSTANCE;");
+    }
+}
@@ -0,0 +1,77 @@
+package org.dominokit.jacksonapt.processor;
+
+import org.dominokit.jacksonapt.processor.bean.OrderLine;
+import org.dominokit.jacksonapt.processor.bean.Shipment;
+import org.dominokit.jacksonapt.processor.bean.Shipment_MapperImpl;
+import org.dominokit.jacksonapt.processor.bean.Student;
+import org.dominokit.jacksonapt.processor.bean.TreeNode;
+import org.dominokit.jacksonapt.processor.bean.TreeNode_MapperImpl;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class WarmUpTest {
+
+    private static final String JSON = "{\"name\":\"root\",\"children\":[{\"name\":\"leaf\",\"children\":[],\"owner\":null}]," +
+            "\"owner\":{\"id\":7,\"name\":\"owner\"}}";
+
+    @Test
+    public void warm_up_recursive_type() {
+        TreeNode_MapperImpl mapper = new TreeNode_MapperImpl();
+        mapper.warmUp();
+        assertSame(mapper.getSerializer(), mapper.getSerializer());
+        assertSame(mapper.getDeserializer(), mapper.getDeserializer());
+
+        TreeNode root = mapper.read(JSON);
+        assertEquals("leaf", root.getChildren().get(0).getName());
+        assertEquals(7, root.getOwner().getId());
+        assertEquals(JSON, mapper.write(root));
+    }
+
+    @Test
+    public void warm_up_reaches_nested_beans() {
+        Set<Class<?>> warmedUp = new HashSet<>();
+        new TreeNode_MapperImpl().getDeserializer().warmUp(warmedUp);
+        assertTrue(warmedUp.contains(TreeNode.class));
+        assertTrue(warmedUp.contains(Student.class));
+    }
+
+    @Test
+    public void warm_up_creator_parameters() {
+        Set<Class<?>> warmedUp = new HashSet<>();
+        new Shipment_MapperImpl().getDeserializer().warmUp(warmedUp);
+        assertTrue(warmedUp.contains(Shipment.class));
+        assertTrue(warmedUp.contains(OrderLine.class));
+
+        Shipment shipment = Shipment_MapperImpl.INSTANCE.read("{\"reference\":\"S1\",\"line\":{\"sku\":\"A\",\"quantity\":2,\"price\":1.5}}");
+        assertEquals("S1", shipment.getReference());
+        assertEquals("A", shipment.getLine().getSku());
+    }
+
+    @Test
+    public void concurrent_first_use() throws Exception {
+        TreeNode_MapperImpl mapper = new TreeNode_MapperImpl();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                results.add(executor.submit(() -> mapper.write(mapper.read(JSON))));
+            }
+            for (Future<String> result : results) {
+                assertEquals(JSON, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
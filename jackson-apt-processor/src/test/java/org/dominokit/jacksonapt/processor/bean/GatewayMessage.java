@@ -0,0 +1,27 @@
+package org.dominokit.jacksonapt.processor.bean;
+
+import org.dominokit.jacksonapt.annotation.JSONMapper;
+import org.dominokit.jacksonapt.stream.RawJson;
+
+@JSONMapper
+public class GatewayMessage {
+
+    private String id;
+    private RawJson payload;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public RawJson getPayload() {
+        return payload;
+    }
+
+    public void setPayload(RawJson payload) {
+        this.payload = payload;
+    }
+}
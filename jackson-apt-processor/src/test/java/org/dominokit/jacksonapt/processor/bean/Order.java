@@ -0,0 +1,64 @@
+package org.dominokit.jacksonapt.processor.bean;
+
+import org.dominokit.jacksonapt.annotation.JSONMapper;
+
+import java.util.List;
+
+@JSONMapper
+public class Order {
+
+    private long id;
+    private String customer;
+    private double total;
+    private String notes;
+    private OrderLine main;
+    private List<OrderLine> lines;
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(String customer) {
+        this.customer = customer;
+    }
+
+    public double getTotal() {
+        return total;
+    }
+
+    public void setTotal(double total) {
+        this.total = total;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+
+    public OrderLine getMain() {
+        return main;
+    }
+
+    public void setMain(OrderLine main) {
+        this.main = main;
+    }
+
+    public List<OrderLine> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<OrderLine> lines) {
+        this.lines = lines;
+    }
+}
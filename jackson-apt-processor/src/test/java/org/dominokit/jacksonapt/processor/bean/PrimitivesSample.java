@@ -0,0 +1,110 @@
+package org.dominokit.jacksonapt.processor.bean;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.dominokit.jacksonapt.annotation.JSONMapper;
+
+@JSONMapper
+public class PrimitivesSample {
+    private boolean booleanValue;
+    private byte byteValue;
+    private short shortValue;
+    private int intValue;
+    private long longValue;
+    private float floatValue;
+    private double doubleValue;
+    private char charValue;
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private int nonDefaultInt;
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private double nonDefaultDouble;
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private boolean nonDefaultBoolean;
+
+    public boolean isBooleanValue() {
+        return booleanValue;
+    }
+
+    public void setBooleanValue(boolean booleanValue) {
+        this.booleanValue = booleanValue;
+    }
+
+    public byte getByteValue() {
+        return byteValue;
+    }
+
+    public void setByteValue(byte byteValue) {
+        this.byteValue = byteValue;
+    }
+
+    public short getShortValue() {
+        return shortValue;
+    }
+
+    public void setShortValue(short shortValue) {
+        this.shortValue = shortValue;
+    }
+
+    public int getIntValue() {
+        return intValue;
+    }
+
+    public void setIntValue(int intValue) {
+        this.intValue = intValue;
+    }
+
+    public long getLongValue() {
+        return longValue;
+    }
+
+    public void setLongValue(long longValue) {
+        this.longValue = longValue;
+    }
+
+    public float getFloatValue() {
+        return floatValue;
+    }
+
+    public void setFloatValue(float floatValue) {
+        this.floatValue = floatValue;
+    }
+
+    public double getDoubleValue() {
+        return doubleValue;
+    }
+
+    public void setDoubleValue(double doubleValue) {
+        this.doubleValue = doubleValue;
+    }
+
+    public char getCharValue() {
+        return charValue;
+    }
+
+    public void setCharValue(char charValue) {
+        this.charValue = charValue;
+    }
+
+    public int getNonDefaultInt() {
+        return nonDefaultInt;
+    }
+
+    public void setNonDefaultInt(int nonDefaultInt) {
+        this.nonDefaultInt = nonDefaultInt;
+    }
+
+    public double getNonDefaultDouble() {
+        return nonDefaultDouble;
+    }
+
+    public void setNonDefaultDouble(double nonDefaultDouble) {
+        this.nonDefaultDouble = nonDefaultDouble;
+    }
+
+    public boolean isNonDefaultBoolean() {
+        return nonDefaultBoolean;
+    }
+
+    public void setNonDefaultBoolean(boolean nonDefaultBoolean) {
+        this.nonDefaultBoolean = nonDefaultBoolean;
+    }
+}
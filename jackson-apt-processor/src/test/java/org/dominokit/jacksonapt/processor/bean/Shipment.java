@@ -0,0 +1,26 @@
+package org.dominokit.jacksonapt.processor.bean;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.dominokit.jacksonapt.annotation.JSONMapper;
+
+@JSONMapper
+public class Shipment {
+
+    private final String reference;
+    private final OrderLine line;
+
+    @JsonCreator
+    public Shipment(@JsonProperty("reference") String reference, @JsonProperty("line") OrderLine line) {
+        this.reference = reference;
+        this.line = line;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public OrderLine getLine() {
+        return line;
+    }
+}
@@ -0,0 +1,38 @@
+package org.dominokit.jacksonapt.processor.bean;
+
+import org.dominokit.jacksonapt.Lazy;
+import org.dominokit.jacksonapt.annotation.JSONMapper;
+
+import java.util.List;
+
+@JSONMapper
+public class Snapshot {
+
+    private String name;
+    private Lazy<Order> order;
+    private Lazy<List<OrderLine>> lines;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Lazy<Order> getOrder() {
+        return order;
+    }
+
+    public void setOrder(Lazy<Order> order) {
+        this.order = order;
+    }
+
+    public Lazy<List<OrderLine>> getLines() {
+        return lines;
+    }
+
+    public void setLines(Lazy<List<OrderLine>> lines) {
+        this.lines = lines;
+    }
+}
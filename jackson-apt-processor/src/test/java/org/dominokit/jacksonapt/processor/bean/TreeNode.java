@@ -0,0 +1,44 @@
+package org.dominokit.jacksonapt.processor.bean;
+
+import org.dominokit.jacksonapt.annotation.JSONMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@JSONMapper
+public class TreeNode {
+    private String name;
+    private List<TreeNode> children = new ArrayList<>();
+    private Student owner;
+
+    public TreeNode() {
+    }
+
+    public TreeNode(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<TreeNode> getChildren() {
+        return children;
+    }
+
+    public void setChildren(List<TreeNode> children) {
+        this.children = children;
+    }
+
+    public Student getOwner() {
+        return owner;
+    }
+
+    public void setOwner(Student owner) {
+        this.owner = owner;
+    }
+}
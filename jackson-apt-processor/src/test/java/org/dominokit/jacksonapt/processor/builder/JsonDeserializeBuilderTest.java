@@ -4,8 +4,12 @@ import org.dominokit.jacksonapt.ObjectMapper;
 import org.dominokit.jacksonapt.annotation.JSONMapper;
 import org.junit.Test;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 public class JsonDeserializeBuilderTest {
 
@@ -38,4 +42,13 @@ public class JsonDeserializeBuilderTest {
         assertEquals("name", result.getName());
         assertNull(result.getAddress());
     }
+
+    @Test
+    public void test_builder_warm_up() {
+        Set<Class<?>> warmedUp = new HashSet<>();
+        SimpleBeanMapper.MAPPER.getDeserializer().warmUp(warmedUp);
+
+        assertTrue(warmedUp.contains(SimpleBean.class));
+        assertTrue(warmedUp.contains(SimpleBeanBuilder.class));
+    }
 }
@@ -23,6 +23,15 @@ import org.dominokit.jacksonapt.stream.JsonReader;
 import org.dominokit.jacksonapt.stream.JsonToken;
 import org.dominokit.jacksonapt.stream.JsonWriter;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+
 /**
  * Base implementation of {@link org.dominokit.jacksonapt.ObjectMapper}. It delegates the serialization/deserialization to a serializer/deserializer.
  *
@@ -33,9 +42,13 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
 
     private final String rootName;
 
-    private JsonDeserializer<T> deserializer;
+    /*
+     * Created on first use with a double-checked lock, so the serializer and deserializer graphs are built once per
+     * mapper and safely published, see warmUp() to build them beforehand.
+     */
+    private volatile JsonDeserializer<T> deserializer;
 
-    private JsonSerializer<T> serializer;
+    private volatile JsonSerializer<T> serializer;
 
     /**
      * <p>Constructor for AbstractObjectMapper.</p>
@@ -51,15 +64,94 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
      */
     @Override
     public T read(String in) throws JsonDeserializationException {
-        return read(in, DefaultJsonDeserializationContext.builder().build());
+        return read(in, DefaultJsonDeserializationContext.Configuration.DEFAULT.newContext());
     }
 
     /**
      * {@inheritDoc}
      */
     public T read(String in, JsonDeserializationContext ctx) throws JsonDeserializationException {
-        JsonReader reader = ctx.newJsonReader(in);
+        JsonReader reader = ctx.acquireJsonReader(in);
+        try {
+            return read(reader, ctx);
+        } finally {
+            ctx.releaseJsonReader(reader);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @GwtIncompatible
+    @Override
+    public T read(byte[] in) throws JsonDeserializationException {
+        return read(in, DefaultJsonDeserializationContext.Configuration.DEFAULT.newContext());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @GwtIncompatible
+    @Override
+    public T read(byte[] in, JsonDeserializationContext ctx) throws JsonDeserializationException {
+        return read(ByteBuffer.wrap(in), ctx);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @GwtIncompatible
+    @Override
+    public T read(ByteBuffer in) throws JsonDeserializationException {
+        return read(in, DefaultJsonDeserializationContext.Configuration.DEFAULT.newContext());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @GwtIncompatible
+    @Override
+    public T read(ByteBuffer in, JsonDeserializationContext ctx) throws JsonDeserializationException {
+        return read(ctx.newJsonReader(in), ctx);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @GwtIncompatible
+    @Override
+    public T read(InputStream in) throws JsonDeserializationException {
+        return read(in, DefaultJsonDeserializationContext.Configuration.DEFAULT.newContext());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @GwtIncompatible
+    @Override
+    public T read(InputStream in, JsonDeserializationContext ctx) throws JsonDeserializationException {
+        return read(new InputStreamReader(in, StandardCharsets.UTF_8), ctx);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @GwtIncompatible
+    @Override
+    public T read(Reader in) throws JsonDeserializationException {
+        return read(in, DefaultJsonDeserializationContext.Configuration.DEFAULT.newContext());
+    }
 
+    /**
+     * {@inheritDoc}
+     */
+    @GwtIncompatible
+    @Override
+    public T read(Reader in, JsonDeserializationContext ctx) throws JsonDeserializationException {
+        return read(ctx.newJsonReader(in), ctx);
+    }
+
+    private T read(JsonReader reader, JsonDeserializationContext ctx) throws JsonDeserializationException {
         try {
 
             if (ctx.isUnwrapRootValue()) {
@@ -99,7 +191,7 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
      */
     @Override
     public T[] readArray(String input, ArrayJsonDeserializer.ArrayCreator<T> arrayCreator) throws JsonDeserializationException {
-        return readArray(input, DefaultJsonDeserializationContext.builder().build(), arrayCreator);
+        return readArray(input, DefaultJsonDeserializationContext.Configuration.DEFAULT.newContext(), arrayCreator);
     }
 
     /**
@@ -108,7 +200,12 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
     @Override
     public T[] readArray(String input, JsonDeserializationContext ctx, ArrayJsonDeserializer.ArrayCreator<T> arrayCreator) throws JsonDeserializationException {
         ArrayJsonDeserializer<T> jsonDeserializer = ArrayJsonDeserializer.newInstance(getDeserializer(), arrayCreator);
-        return jsonDeserializer.deserialize(ctx.newJsonReader(input), ctx);
+        JsonReader reader = ctx.acquireJsonReader(input);
+        try {
+            return jsonDeserializer.deserialize(reader, ctx);
+        } finally {
+            ctx.releaseJsonReader(reader);
+        }
     }
 
     /**
@@ -118,10 +215,17 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
      */
     @Override
     public JsonDeserializer<T> getDeserializer() {
-        if (null == deserializer) {
-            deserializer = newDeserializer();
+        JsonDeserializer<T> result = deserializer;
+        if (null == result) {
+            synchronized (this) {
+                result = deserializer;
+                if (null == result) {
+                    result = newDeserializer();
+                    deserializer = result;
+                }
+            }
         }
-        return deserializer;
+        return result;
     }
 
     /**
@@ -136,14 +240,63 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
      */
     @Override
     public String write(T value) throws JsonSerializationException {
-        return write(value, DefaultJsonSerializationContext.builder().build());
+        return write(value, DefaultJsonSerializationContext.Configuration.DEFAULT.newContext());
     }
 
     /**
      * {@inheritDoc}
      */
     public String write(T value, JsonSerializationContext ctx) throws JsonSerializationException {
-        JsonWriter writer = ctx.newJsonWriter();
+        JsonWriter writer = ctx.acquireJsonWriter();
+        try {
+            write(value, writer, ctx);
+            return writer.getOutput();
+        } finally {
+            ctx.releaseJsonWriter(writer);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @GwtIncompatible
+    @Override
+    public void write(T value, OutputStream output) throws JsonSerializationException {
+        write(value, output, DefaultJsonSerializationContext.Configuration.DEFAULT.newContext());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @GwtIncompatible
+    @Override
+    public void write(T value, OutputStream output, JsonSerializationContext ctx) throws JsonSerializationException {
+        JsonWriter writer = ctx.newJsonWriter(output);
+        write(value, writer, ctx);
+        writer.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @GwtIncompatible
+    @Override
+    public void write(T value, WritableByteChannel output) throws JsonSerializationException {
+        write(value, output, DefaultJsonSerializationContext.Configuration.DEFAULT.newContext());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @GwtIncompatible
+    @Override
+    public void write(T value, WritableByteChannel output, JsonSerializationContext ctx) throws JsonSerializationException {
+        JsonWriter writer = ctx.newJsonWriter(output);
+        write(value, writer, ctx);
+        writer.flush();
+    }
+
+    private void write(T value, JsonWriter writer, JsonSerializationContext ctx) throws JsonSerializationException {
         try {
             if (ctx.isWrapRootValue()) {
                 writer.beginObject();
@@ -153,7 +306,6 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
             } else {
                 getSerializer().serialize(writer, value, ctx);
             }
-            return writer.getOutput();
         } catch (JsonSerializationException e) {
             // already logged, we just throw it
             throw e;
@@ -169,10 +321,26 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
      */
     @Override
     public JsonSerializer<T> getSerializer() {
-        if (null == serializer) {
-            serializer = (JsonSerializer<T>) newSerializer();
+        JsonSerializer<T> result = serializer;
+        if (null == result) {
+            synchronized (this) {
+                result = serializer;
+                if (null == result) {
+                    result = (JsonSerializer<T>) newSerializer();
+                    serializer = result;
+                }
+            }
         }
-        return serializer;
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void warmUp() {
+        getDeserializer().warmUp(new HashSet<Class<?>>());
+        getSerializer().warmUp(new HashSet<Class<?>>());
     }
 
     /**
@@ -16,6 +16,8 @@
 
 package org.dominokit.jacksonapt;
 
+import java.util.HashSet;
+
 /**
  * Base implementation of {@link org.dominokit.jacksonapt.ObjectReader}. Extends {@link org.dominokit.jacksonapt.AbstractObjectMapper} to avoid code duplication, trying to write with this
  * reader will result in an {@link java.lang.UnsupportedOperationException}.
@@ -39,4 +41,10 @@ public abstract class AbstractObjectReader<T> extends AbstractObjectMapper<T> im
     protected final JsonSerializer<?> newSerializer() {
         throw new UnsupportedOperationException("ObjectReader doesn't support serialization");
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public void warmUp() {
+        getDeserializer().warmUp(new HashSet<Class<?>>());
+    }
 }
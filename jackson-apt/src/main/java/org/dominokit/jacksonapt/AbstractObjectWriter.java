@@ -16,6 +16,8 @@
 
 package org.dominokit.jacksonapt;
 
+import java.util.HashSet;
+
 /**
  * Base implementation of {@link org.dominokit.jacksonapt.ObjectWriter}. Extends {@link org.dominokit.jacksonapt.AbstractObjectMapper} to avoid code duplication, trying to read with this
  * writer will result in an {@link java.lang.UnsupportedOperationException}.
@@ -39,4 +41,10 @@ public abstract class AbstractObjectWriter<T> extends AbstractObjectMapper<T> im
     protected final JsonDeserializer<T> newDeserializer() {
         throw new UnsupportedOperationException("ObjectWriter doesn't support deserialization");
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public void warmUp() {
+        getSerializer().warmUp(new HashSet<Class<?>>());
+    }
 }
@@ -19,8 +19,14 @@ package org.dominokit.jacksonapt;
 import com.fasterxml.jackson.annotation.ObjectIdGenerator.IdKey;
 import org.dominokit.jacksonapt.exception.JsonDeserializationException;
 import org.dominokit.jacksonapt.stream.JsonReader;
+import org.dominokit.jacksonapt.stream.RawJson;
+import org.dominokit.jacksonapt.stream.impl.DefaultJsonReader;
 import org.dominokit.jacksonapt.stream.impl.NonBufferedJsonReader;
+import org.dominokit.jacksonapt.stream.impl.StreamReader;
+import org.dominokit.jacksonapt.stream.impl.Utf8ByteBufferReader;
 
+import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Level;
@@ -63,6 +69,12 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
 
         protected boolean useBrowserTimezone = false;
 
+        protected int readBufferSize = DefaultJsonReader.DEFAULT_BUFFER_SIZE;
+
+        protected boolean reuseJsonReaders = false;
+
+        protected FieldMask fieldMask = FieldMask.ALL;
+
         /**
          * @deprecated Use {@link DefaultJsonDeserializationContext#builder()} instead. This constructor will be made protected in v1.0.
          */
@@ -191,9 +203,70 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
             return this;
         }
 
+        /**
+         * Size of the character buffer used when reading a byte or streamed input. Only this many characters of the input are held
+         * in memory at once, numbers longer than the buffer are read as strings.
+         * <p>
+         * Default is {@link DefaultJsonReader#DEFAULT_BUFFER_SIZE}.
+         * </p>
+         *
+         * @param readBufferSize the size of the buffer, at least {@link DefaultJsonReader#MIN_BUFFER_SIZE}
+         * @return the builder
+         */
+        public Builder readBufferSize(int readBufferSize) {
+            if (readBufferSize < DefaultJsonReader.MIN_BUFFER_SIZE) {
+                throw new IllegalArgumentException("readBufferSize must be at least " + DefaultJsonReader.MIN_BUFFER_SIZE);
+            }
+            this.readBufferSize = readBufferSize;
+            return this;
+        }
+
+        /**
+         * Feature that determines whether the mappers read their {@link java.lang.String} inputs with a reader cached per
+         * thread, reset for each input, instead of creating a new reader every time.
+         * <br>
+         * <br>
+         * Feature is disabled by default.
+         *
+         * @param reuseJsonReaders true if should reuseJsonReaders
+         * @return the builder
+         */
+        public Builder reuseJsonReaders(boolean reuseJsonReaders) {
+            this.reuseJsonReaders = reuseJsonReaders;
+            return this;
+        }
+
+        /**
+         * Selects the properties to read, the values of the other properties are skipped without being decoded nor
+         * allocated. Unknown properties outside of the mask are skipped too, even when
+         * {@link #failOnUnknownProperties(boolean)} is enabled.
+         * <p>
+         * Default is {@link FieldMask#ALL}.
+         * </p>
+         *
+         * @param fieldMask the properties to read, see {@link FieldMask#parse(String)}
+         * @return the builder
+         */
+        public Builder fieldMask(FieldMask fieldMask) {
+            if (null == fieldMask) {
+                throw new IllegalArgumentException("fieldMask == null");
+            }
+            this.fieldMask = fieldMask;
+            return this;
+        }
+
+        /**
+         * <p>buildConfiguration</p>
+         *
+         * @return the options of this builder, to be shared by many deserializations
+         */
+        public final Configuration buildConfiguration() {
+            return new Configuration(failOnUnknownProperties, unwrapRootValue, acceptSingleValueAsArray, wrapExceptions,
+                    useSafeEval, readUnknownEnumValuesAsNull, useBrowserTimezone, readBufferSize, reuseJsonReaders, fieldMask);
+        }
+
         public final JsonDeserializationContext build() {
-            return new DefaultJsonDeserializationContext(failOnUnknownProperties, unwrapRootValue, acceptSingleValueAsArray, wrapExceptions,
-                    useSafeEval, readUnknownEnumValuesAsNull, useBrowserTimezone);
+            return buildConfiguration().newContext();
         }
     }
 
@@ -204,6 +277,63 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
 
     }
 
+    /**
+     * Immutable options of the deserialization, built once by {@link Builder#buildConfiguration()} and shared between
+     * threads. Each operation reads with a new context, holding only its own state, from {@link #newContext()}.
+     */
+    public static final class Configuration {
+
+        /**
+         * The default options, used by the mappers when no context is given.
+         */
+        public static final Configuration DEFAULT = builder().buildConfiguration();
+
+        private final boolean failOnUnknownProperties;
+
+        private final boolean unwrapRootValue;
+
+        private final boolean acceptSingleValueAsArray;
+
+        private final boolean wrapExceptions;
+
+        private final boolean useSafeEval;
+
+        private final boolean readUnknownEnumValuesAsNull;
+
+        private final boolean useBrowserTimezone;
+
+        private final int readBufferSize;
+
+        private final boolean reuseJsonReaders;
+
+        private final FieldMask fieldMask;
+
+        private Configuration(boolean failOnUnknownProperties, boolean unwrapRootValue, boolean acceptSingleValueAsArray,
+                              boolean wrapExceptions, boolean useSafeEval, boolean readUnknownEnumValuesAsNull,
+                              boolean useBrowserTimezone, int readBufferSize, boolean reuseJsonReaders,
+                              FieldMask fieldMask) {
+            this.failOnUnknownProperties = failOnUnknownProperties;
+            this.unwrapRootValue = unwrapRootValue;
+            this.acceptSingleValueAsArray = acceptSingleValueAsArray;
+            this.wrapExceptions = wrapExceptions;
+            this.useSafeEval = useSafeEval;
+            this.readUnknownEnumValuesAsNull = readUnknownEnumValuesAsNull;
+            this.useBrowserTimezone = useBrowserTimezone;
+            this.readBufferSize = readBufferSize;
+            this.reuseJsonReaders = reuseJsonReaders;
+            this.fieldMask = fieldMask;
+        }
+
+        /**
+         * <p>newContext</p>
+         *
+         * @return a new {@link org.dominokit.jacksonapt.JsonDeserializationContext} for a single deserialization
+         */
+        public JsonDeserializationContext newContext() {
+            return new DefaultJsonDeserializationContext(this);
+        }
+    }
+
     /**
      * <p>builder</p>
      *
@@ -215,35 +345,23 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
 
     private static final Logger logger = Logger.getLogger("JsonDeserialization");
 
-    private Map<IdKey, Object> idToObject;
+    private final Configuration configuration;
 
     /*
-     * Deserialization options
+     * Per-operation state
      */
-    private final boolean failOnUnknownProperties;
-
-    private final boolean unwrapRootValue;
-
-    private final boolean acceptSingleValueAsArray;
-
-    private final boolean wrapExceptions;
-
-    private final boolean useSafeEval;
+    private Map<IdKey, Object> idToObject;
 
-    private final boolean readUnknownEnumValuesAsNull;
+    private FieldMask fieldMask;
 
-    private final boolean useBrowserTimezone;
+    /**
+     * The reader acquired from the cache, only this one is given back to the cache on release
+     */
+    private NonBufferedJsonReader acquiredReader;
 
-    private DefaultJsonDeserializationContext(boolean failOnUnknownProperties, boolean unwrapRootValue, boolean acceptSingleValueAsArray,
-                                              boolean wrapExceptions, boolean useSafeEval, boolean readUnknownEnumValuesAsNull,
-                                              boolean useBrowserTimezone) {
-        this.failOnUnknownProperties = failOnUnknownProperties;
-        this.unwrapRootValue = unwrapRootValue;
-        this.acceptSingleValueAsArray = acceptSingleValueAsArray;
-        this.wrapExceptions = wrapExceptions;
-        this.useSafeEval = useSafeEval;
-        this.readUnknownEnumValuesAsNull = readUnknownEnumValuesAsNull;
-        this.useBrowserTimezone = useBrowserTimezone;
+    private DefaultJsonDeserializationContext(Configuration configuration) {
+        this.configuration = configuration;
+        this.fieldMask = configuration.fieldMask;
     }
 
     /** {@inheritDoc} */
@@ -260,7 +378,7 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
      */
     @Override
     public boolean isFailOnUnknownProperties() {
-        return failOnUnknownProperties;
+        return configuration.failOnUnknownProperties;
     }
 
     /**
@@ -271,7 +389,7 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
      */
     @Override
     public boolean isUnwrapRootValue() {
-        return unwrapRootValue;
+        return configuration.unwrapRootValue;
     }
 
     /**
@@ -282,7 +400,7 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
      */
     @Override
     public boolean isAcceptSingleValueAsArray() {
-        return acceptSingleValueAsArray;
+        return configuration.acceptSingleValueAsArray;
     }
 
     /**
@@ -293,7 +411,7 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
      */
     @Override
     public boolean isUseSafeEval() {
-        return useSafeEval;
+        return configuration.useSafeEval;
     }
 
     /**
@@ -304,7 +422,7 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
      */
     @Override
     public boolean isReadUnknownEnumValuesAsNull() {
-        return readUnknownEnumValuesAsNull;
+        return configuration.readUnknownEnumValuesAsNull;
     }
 
     /**
@@ -315,7 +433,7 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
      */
     @Override
     public boolean isUseBrowserTimezone() {
-        return useBrowserTimezone;
+        return configuration.useBrowserTimezone;
     }
 
     /**
@@ -330,6 +448,75 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
         return reader;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>newJsonReader</p>
+     */
+    @Override
+    public JsonReader newJsonReader(RawJson input) {
+        JsonReader reader = new NonBufferedJsonReader(input.getSource(), input.getStart(), input.getEnd());
+        reader.setLenient(true);
+        return reader;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>acquireJsonReader</p>
+     * @see Builder#reuseJsonReaders(boolean)
+     */
+    @Override
+    public JsonReader acquireJsonReader(String input) {
+        if (!configuration.reuseJsonReaders) {
+            return newJsonReader(input);
+        }
+        NonBufferedJsonReader reader = JacksonContextProvider.get().jsonStreamCache().acquireReader(input);
+        reader.setLenient(true);
+        acquiredReader = reader;
+        return reader;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>releaseJsonReader</p>
+     */
+    @Override
+    public void releaseJsonReader(JsonReader reader) {
+        if (null != acquiredReader && acquiredReader == reader) {
+            NonBufferedJsonReader released = acquiredReader;
+            acquiredReader = null;
+            JacksonContextProvider.get().jsonStreamCache().releaseReader(released);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>newJsonReader</p>
+     */
+    @GwtIncompatible
+    @Override
+    public JsonReader newJsonReader(ByteBuffer input) {
+        JsonReader reader = new DefaultJsonReader(new Utf8ByteBufferReader(input), configuration.readBufferSize);
+        reader.setLenient(true);
+        return reader;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>newJsonReader</p>
+     */
+    @GwtIncompatible
+    @Override
+    public JsonReader newJsonReader(Reader input) {
+        JsonReader reader = new DefaultJsonReader(new StreamReader(input), configuration.readBufferSize);
+        reader.setLenient(true);
+        return reader;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -360,7 +547,7 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
     @Override
     public RuntimeException traceError(RuntimeException cause) {
         getLogger().log(Level.SEVERE, "Error during deserialization", cause);
-        if (wrapExceptions) {
+        if (configuration.wrapExceptions) {
             return new JsonDeserializationException(cause);
         } else {
             return cause;
@@ -389,6 +576,34 @@ public class DefaultJsonDeserializationContext implements JsonDeserializationCon
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>getFieldMask</p>
+     * @see Builder#fieldMask(FieldMask)
+     */
+    @Override
+    public FieldMask getFieldMask() {
+        return fieldMask;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setFieldMask(FieldMask fieldMask) {
+        if (null == fieldMask) {
+            throw new IllegalArgumentException("fieldMask == null");
+        }
+        this.fieldMask = fieldMask;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public JsonDeserializationContext newContext(FieldMask fieldMask) {
+        JsonDeserializationContext ctx = configuration.newContext();
+        ctx.setFieldMask(fieldMask);
+        return ctx;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -21,8 +21,12 @@ import org.dominokit.jacksonapt.exception.JsonSerializationException;
 import org.dominokit.jacksonapt.ser.bean.AbstractBeanJsonSerializer;
 import org.dominokit.jacksonapt.ser.bean.ObjectIdSerializer;
 import org.dominokit.jacksonapt.stream.JsonWriter;
+import org.dominokit.jacksonapt.stream.impl.DefaultJsonWriter;
 import org.dominokit.jacksonapt.stream.impl.FastJsonWriter;
+import org.dominokit.jacksonapt.stream.impl.Utf8StreamWriter;
 
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -74,6 +78,10 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
 
         protected boolean wrapExceptions = true;
 
+        protected boolean reuseJsonWriters = false;
+
+        protected FieldMask fieldMask = FieldMask.ALL;
+
         /**
          * @deprecated Use {@link DefaultJsonSerializationContext#builder()} instead. This constructor will be made protected in v1.0.
          */
@@ -290,10 +298,55 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
             return this;
         }
 
-        public final JsonSerializationContext build() {
-            return new DefaultJsonSerializationContext(useEqualityForObjectId, serializeNulls, writeDatesAsTimestamps,
+        /**
+         * Feature that determines whether the mappers write their {@link java.lang.String} outputs with a writer cached per
+         * thread, reset for each output, instead of creating a new writer every time. The buffer of the cached writer keeps
+         * the capacity of the largest output written.
+         * <br>
+         * <br>
+         * Feature is disabled by default.
+         *
+         * @param reuseJsonWriters true if should reuseJsonWriters
+         * @return the builder
+         */
+        public Builder reuseJsonWriters(boolean reuseJsonWriters) {
+            this.reuseJsonWriters = reuseJsonWriters;
+            return this;
+        }
+
+        /**
+         * Selects the properties to write, the other properties are not written. A mask changing with each serialization is
+         * given to the context with {@link JsonSerializationContext#setFieldMask(FieldMask)} instead. The properties of a
+         * bean selected by a mask are resolved once per mask and bean type.
+         * <p>
+         * Default is {@link FieldMask#ALL}.
+         * </p>
+         *
+         * @param fieldMask the properties to write, see {@link FieldMask#parse(String)}
+         * @return the builder
+         */
+        public Builder fieldMask(FieldMask fieldMask) {
+            if (null == fieldMask) {
+                throw new IllegalArgumentException("fieldMask == null");
+            }
+            this.fieldMask = fieldMask;
+            return this;
+        }
+
+        /**
+         * <p>buildConfiguration</p>
+         *
+         * @return the options of this builder, to be shared by many serializations
+         */
+        public final Configuration buildConfiguration() {
+            return new Configuration(useEqualityForObjectId, serializeNulls, writeDatesAsTimestamps,
                     writeDateKeysAsTimestamps, indent, wrapRootValue, writeCharArraysAsJsonArrays, writeNullMapValues,
-                    writeEmptyJsonArrays, orderMapEntriesByKeys, writeSingleElemArraysUnwrapped, wrapExceptions);
+                    writeEmptyJsonArrays, orderMapEntriesByKeys, writeSingleElemArraysUnwrapped, wrapExceptions, reuseJsonWriters,
+                    fieldMask);
+        }
+
+        public final JsonSerializationContext build() {
+            return buildConfiguration().newContext();
         }
     }
 
@@ -305,64 +358,105 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
     }
 
     /**
-     * <p>builder</p>
-     *
-     * @return a {@link org.dominokit.jacksonapt.DefaultJsonSerializationContext.Builder} object.
+     * Immutable options of the serialization, built once by {@link Builder#buildConfiguration()} and shared between
+     * threads. Each operation writes with a new context, holding only its own state, from {@link #newContext()}.
      */
-    public static Builder builder() {
-        return new DefaultBuilder();
-    }
+    public static final class Configuration {
 
-    private static final Logger logger = Logger.getLogger("JsonSerialization");
+        /**
+         * The default options, used by the mappers when no context is given.
+         */
+        public static final Configuration DEFAULT = builder().buildConfiguration();
 
-    private Map<Object, ObjectIdSerializer<?>> mapObjectId;
+        private final boolean useEqualityForObjectId;
 
-    private List<ObjectIdGenerator<?>> generators;
+        private final boolean serializeNulls;
 
-    /*
-     * Serialization options
-     */
-    private final boolean useEqualityForObjectId;
+        private final boolean writeDatesAsTimestamps;
+
+        private final boolean writeDateKeysAsTimestamps;
+
+        private final boolean indent;
+
+        private final boolean wrapRootValue;
+
+        private final boolean writeCharArraysAsJsonArrays;
+
+        private final boolean writeNullMapValues;
+
+        private final boolean writeEmptyJsonArrays;
+
+        private final boolean orderMapEntriesByKeys;
 
-    private final boolean serializeNulls;
+        private final boolean writeSingleElemArraysUnwrapped;
 
-    private final boolean writeDatesAsTimestamps;
+        private final boolean wrapExceptions;
 
-    private final boolean writeDateKeysAsTimestamps;
+        private final boolean reuseJsonWriters;
 
-    private final boolean indent;
+        private final FieldMask fieldMask;
+
+        private Configuration(boolean useEqualityForObjectId, boolean serializeNulls, boolean writeDatesAsTimestamps,
+                              boolean writeDateKeysAsTimestamps, boolean indent, boolean wrapRootValue,
+                              boolean writeCharArraysAsJsonArrays, boolean writeNullMapValues, boolean writeEmptyJsonArrays,
+                              boolean orderMapEntriesByKeys, boolean writeSingleElemArraysUnwrapped, boolean wrapExceptions,
+                              boolean reuseJsonWriters, FieldMask fieldMask) {
+            this.useEqualityForObjectId = useEqualityForObjectId;
+            this.serializeNulls = serializeNulls;
+            this.writeDatesAsTimestamps = writeDatesAsTimestamps;
+            this.writeDateKeysAsTimestamps = writeDateKeysAsTimestamps;
+            this.indent = indent;
+            this.wrapRootValue = wrapRootValue;
+            this.writeCharArraysAsJsonArrays = writeCharArraysAsJsonArrays;
+            this.writeNullMapValues = writeNullMapValues;
+            this.writeEmptyJsonArrays = writeEmptyJsonArrays;
+            this.orderMapEntriesByKeys = orderMapEntriesByKeys;
+            this.writeSingleElemArraysUnwrapped = writeSingleElemArraysUnwrapped;
+            this.wrapExceptions = wrapExceptions;
+            this.reuseJsonWriters = reuseJsonWriters;
+            this.fieldMask = fieldMask;
+        }
+
+        /**
+         * <p>newContext</p>
+         *
+         * @return a new {@link org.dominokit.jacksonapt.JsonSerializationContext} for a single serialization
+         */
+        public JsonSerializationContext newContext() {
+            return new DefaultJsonSerializationContext(this);
+        }
+    }
 
-    private final boolean wrapRootValue;
+    /**
+     * <p>builder</p>
+     *
+     * @return a {@link org.dominokit.jacksonapt.DefaultJsonSerializationContext.Builder} object.
+     */
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
 
-    private final boolean writeCharArraysAsJsonArrays;
+    private static final Logger logger = Logger.getLogger("JsonSerialization");
 
-    private final boolean writeNullMapValues;
+    private final Configuration configuration;
 
-    private final boolean writeEmptyJsonArrays;
+    /*
+     * Per-operation state
+     */
+    private Map<Object, ObjectIdSerializer<?>> mapObjectId;
 
-    private final boolean orderMapEntriesByKeys;
+    private List<ObjectIdGenerator<?>> generators;
 
-    private final boolean writeSingleElemArraysUnwrapped;
+    private FieldMask fieldMask;
 
-    private final boolean wrapExceptions;
+    /**
+     * The writer acquired from the cache, only this one is given back to the cache on release
+     */
+    private FastJsonWriter acquiredWriter;
 
-    private DefaultJsonSerializationContext(boolean useEqualityForObjectId, boolean serializeNulls, boolean writeDatesAsTimestamps, boolean
-            writeDateKeysAsTimestamps, boolean indent, boolean wrapRootValue, boolean writeCharArraysAsJsonArrays, boolean
-                                                    writeNullMapValues, boolean writeEmptyJsonArrays, boolean orderMapEntriesByKeys, boolean
-                                                    writeSingleElemArraysUnwrapped,
-                                            boolean wrapExceptions) {
-        this.useEqualityForObjectId = useEqualityForObjectId;
-        this.serializeNulls = serializeNulls;
-        this.writeDatesAsTimestamps = writeDatesAsTimestamps;
-        this.writeDateKeysAsTimestamps = writeDateKeysAsTimestamps;
-        this.indent = indent;
-        this.wrapRootValue = wrapRootValue;
-        this.writeCharArraysAsJsonArrays = writeCharArraysAsJsonArrays;
-        this.writeNullMapValues = writeNullMapValues;
-        this.writeEmptyJsonArrays = writeEmptyJsonArrays;
-        this.orderMapEntriesByKeys = orderMapEntriesByKeys;
-        this.writeSingleElemArraysUnwrapped = writeSingleElemArraysUnwrapped;
-        this.wrapExceptions = wrapExceptions;
+    private DefaultJsonSerializationContext(Configuration configuration) {
+        this.configuration = configuration;
+        this.fieldMask = configuration.fieldMask;
     }
 
     /** {@inheritDoc} */
@@ -379,7 +473,7 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
      */
     @Override
     public boolean isSerializeNulls() {
-        return serializeNulls;
+        return configuration.serializeNulls;
     }
 
     /**
@@ -390,7 +484,7 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
      */
     @Override
     public boolean isWriteDatesAsTimestamps() {
-        return writeDatesAsTimestamps;
+        return configuration.writeDatesAsTimestamps;
     }
 
     /**
@@ -401,7 +495,7 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
      */
     @Override
     public boolean isWriteDateKeysAsTimestamps() {
-        return writeDateKeysAsTimestamps;
+        return configuration.writeDateKeysAsTimestamps;
     }
 
     /**
@@ -412,7 +506,7 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
      */
     @Override
     public boolean isWrapRootValue() {
-        return wrapRootValue;
+        return configuration.wrapRootValue;
     }
 
     /**
@@ -423,7 +517,7 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
      */
     @Override
     public boolean isWriteCharArraysAsJsonArrays() {
-        return writeCharArraysAsJsonArrays;
+        return configuration.writeCharArraysAsJsonArrays;
     }
 
     /**
@@ -434,7 +528,7 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
      */
     @Override
     public boolean isWriteNullMapValues() {
-        return writeNullMapValues;
+        return configuration.writeNullMapValues;
     }
 
     /**
@@ -445,7 +539,7 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
      */
     @Override
     public boolean isWriteEmptyJsonArrays() {
-        return writeEmptyJsonArrays;
+        return configuration.writeEmptyJsonArrays;
     }
 
     /**
@@ -456,7 +550,7 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
      */
     @Override
     public boolean isOrderMapEntriesByKeys() {
-        return orderMapEntriesByKeys;
+        return configuration.orderMapEntriesByKeys;
     }
 
     /**
@@ -467,7 +561,7 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
      */
     @Override
     public boolean isWriteSingleElemArraysUnwrapped() {
-        return writeSingleElemArraysUnwrapped;
+        return configuration.writeSingleElemArraysUnwrapped;
     }
 
     /**
@@ -477,9 +571,63 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
      */
     @Override
     public JsonWriter newJsonWriter() {
-        JsonWriter writer = new FastJsonWriter(new StringBuilder());
+        return configure(new FastJsonWriter(new StringBuilder()));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>acquireJsonWriter</p>
+     * @see Builder#reuseJsonWriters(boolean)
+     */
+    @Override
+    public JsonWriter acquireJsonWriter() {
+        if (!configuration.reuseJsonWriters) {
+            return newJsonWriter();
+        }
+        acquiredWriter = JacksonContextProvider.get().jsonStreamCache().acquireWriter();
+        return configure(acquiredWriter);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>releaseJsonWriter</p>
+     */
+    @Override
+    public void releaseJsonWriter(JsonWriter writer) {
+        if (null != acquiredWriter && acquiredWriter == writer) {
+            FastJsonWriter released = acquiredWriter;
+            acquiredWriter = null;
+            JacksonContextProvider.get().jsonStreamCache().releaseWriter(released);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>newJsonWriter</p>
+     */
+    @GwtIncompatible
+    @Override
+    public JsonWriter newJsonWriter(OutputStream output) {
+        return configure(new DefaultJsonWriter(new Utf8StreamWriter(output)));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>newJsonWriter</p>
+     */
+    @GwtIncompatible
+    @Override
+    public JsonWriter newJsonWriter(WritableByteChannel output) {
+        return configure(new DefaultJsonWriter(new Utf8StreamWriter(output)));
+    }
+
+    private JsonWriter configure(JsonWriter writer) {
         writer.setLenient(true);
-        if (indent) {
+        if (configuration.indent) {
             writer.setIndent("  ");
         }
         return writer;
@@ -516,7 +664,7 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
     @Override
     public RuntimeException traceError(Object value, RuntimeException cause) {
         getLogger().log(Level.SEVERE, "Error during serialization", cause);
-        if (wrapExceptions) {
+        if (configuration.wrapExceptions) {
             return new JsonSerializationException(cause);
         } else {
             return cause;
@@ -546,6 +694,26 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>getFieldMask</p>
+     * @see Builder#fieldMask(FieldMask)
+     */
+    @Override
+    public FieldMask getFieldMask() {
+        return fieldMask;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setFieldMask(FieldMask fieldMask) {
+        if (null == fieldMask) {
+            throw new IllegalArgumentException("fieldMask == null");
+        }
+        this.fieldMask = fieldMask;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -554,7 +722,7 @@ public class DefaultJsonSerializationContext implements JsonSerializationContext
     @Override
     public void addObjectId(Object object, ObjectIdSerializer<?> id) {
         if (null == mapObjectId) {
-            if (useEqualityForObjectId) {
+            if (configuration.useEqualityForObjectId) {
                 mapObjectId = new HashMap<Object, ObjectIdSerializer<?>>();
             } else {
                 mapObjectId = new IdentityHashMap<Object, ObjectIdSerializer<?>>();
@@ -0,0 +1,181 @@
+package org.dominokit.jacksonapt;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A compiled set of property paths, like {@code "id,owner.name,items.price"}. Each path selects a property and, with dots,
+ * the properties of its value, a property without sub path is selected with all its content.
+ * <p>
+ * Collections, arrays and maps are transparent: the path {@code items.price} selects the {@code price} of every element of
+ * {@code items}.
+ * </p>
+ * A mask is immutable and can be shared between threads. Two masks selecting the same paths are equal, whatever the order
+ * of the paths, so the work done for a mask can be cached by mask.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public final class FieldMask {
+
+    /**
+     * The mask selecting every property.
+     */
+    public static final FieldMask ALL = new FieldMask(null);
+
+    /**
+     * <p>parse</p>
+     *
+     * @param expression the comma separated paths, the blanks around the paths are ignored
+     * @return a {@link org.dominokit.jacksonapt.FieldMask} object.
+     */
+    public static FieldMask parse(String expression) {
+        if (null == expression) {
+            throw new IllegalArgumentException("expression == null");
+        }
+        FieldMask mask = new FieldMask(new LinkedHashMap<String, FieldMask>());
+        if (!expression.trim().isEmpty()) {
+            for (String path : expression.split(",")) {
+                mask.add(path.trim());
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * <p>of</p>
+     *
+     * @param paths the dotted paths of the selected properties
+     * @return a {@link org.dominokit.jacksonapt.FieldMask} object.
+     */
+    public static FieldMask of(String... paths) {
+        FieldMask mask = new FieldMask(new LinkedHashMap<String, FieldMask>());
+        for (String path : paths) {
+            mask.add(path);
+        }
+        return mask;
+    }
+
+    /**
+     * The selected properties and their masks, null when all the properties are selected.
+     */
+    private final Map<String, FieldMask> properties;
+
+    private int hash;
+
+    private FieldMask(Map<String, FieldMask> properties) {
+        this.properties = properties;
+    }
+
+    private void add(String path) {
+        if (null == path || path.isEmpty() || path.startsWith(".") || path.endsWith(".")) {
+            throw new IllegalArgumentException("Invalid property path '" + path + "'");
+        }
+        FieldMask mask = this;
+        String[] names = path.split("\\.");
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i].trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Invalid property path '" + path + "'");
+            }
+            if (i == names.length - 1) {
+                mask.properties.put(name, ALL);
+                return;
+            }
+            FieldMask child = mask.properties.get(name);
+            if (ALL == child) {
+                // the whole property is already selected
+                return;
+            }
+            if (null == child) {
+                child = new FieldMask(new LinkedHashMap<String, FieldMask>());
+                mask.properties.put(name, child);
+            }
+            mask = child;
+        }
+    }
+
+    /**
+     * <p>isAll</p>
+     *
+     * @return true if every property is selected
+     */
+    public boolean isAll() {
+        return null == properties;
+    }
+
+    /**
+     * <p>get</p>
+     *
+     * @param name the name of a property
+     * @return the mask of the value of the property, {@link #ALL} if the property is selected with all its content, or null if
+     * the property is not selected
+     */
+    public FieldMask get(String name) {
+        return null == properties ? this : properties.get(name);
+    }
+
+    /**
+     * <p>getPropertyNames</p>
+     *
+     * @return the names of the selected properties, in the order of the expression, or null if every property is selected
+     */
+    public Set<String> getPropertyNames() {
+        return null == properties ? null : Collections.unmodifiableSet(properties.keySet());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FieldMask)) {
+            return false;
+        }
+        FieldMask other = (FieldMask) o;
+        return null == properties ? null == other.properties : properties.equals(other.properties);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        // the masks are used as cache keys, the hash is computed once the mask is built
+        int result = hash;
+        if (0 == result) {
+            result = null == properties ? 1 : 31 + properties.hashCode();
+            hash = result;
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the expression of the mask, with one path per selected property
+     */
+    @Override
+    public String toString() {
+        if (null == properties) {
+            return "*";
+        }
+        StringBuilder builder = new StringBuilder();
+        appendPaths(builder, "");
+        return builder.toString();
+    }
+
+    private void appendPaths(StringBuilder builder, String prefix) {
+        for (Map.Entry<String, FieldMask> property : properties.entrySet()) {
+            if (property.getValue().isAll()) {
+                if (builder.length() > 0) {
+                    builder.append(',');
+                }
+                builder.append(prefix).append(property.getKey());
+            } else {
+                property.getValue().appendPaths(builder, prefix + property.getKey() + '.');
+            }
+        }
+    }
+}
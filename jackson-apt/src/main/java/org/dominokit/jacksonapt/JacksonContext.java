@@ -3,7 +3,9 @@ package org.dominokit.jacksonapt;
 import org.dominokit.jacksonapt.deser.bean.MapLike;
 import org.dominokit.jacksonapt.deser.map.key.DateKeyParser;
 import org.dominokit.jacksonapt.stream.JsonReader;
+import org.dominokit.jacksonapt.stream.IntegerStack;
 import org.dominokit.jacksonapt.stream.Stack;
+import org.dominokit.jacksonapt.stream.impl.JsonStreamCache;
 
 import java.util.Date;
 
@@ -89,6 +91,13 @@ public interface JacksonContext {
      */
     JsonDeserializerParameters newDeserializerParameters();
 
+    /**
+     * <p>jsonStreamCache</p>
+     *
+     * @return the {@link org.dominokit.jacksonapt.stream.impl.JsonStreamCache} of the calling thread
+     */
+    JsonStreamCache jsonStreamCache();
+
     interface DateFormat{
         String format(Date date);
         String format(JsonSerializerParameters params, Date date);
@@ -98,10 +107,42 @@ public interface JacksonContext {
 
     interface IntegerStackFactory{
         Stack<Integer> make();
+
+        /**
+         * Returns the stack the readers and writers track their scopes with. The default implementation adapts the stack
+         * of {@link #make()}, the factories of the library return a stack of primitive ints.
+         *
+         * @return a {@link org.dominokit.jacksonapt.stream.IntegerStack} object.
+         */
+        default IntegerStack makeIntegerStack() {
+            final Stack<Integer> stack = make();
+            return new IntegerStack() {
+                @Override
+                public void setAt(int index, int value) {
+                    stack.setAt(index, value);
+                }
+
+                @Override
+                public int getAt(int index) {
+                    return stack.getAt(index);
+                }
+            };
+        }
     }
 
     interface ValueStringifier{
         String stringify(String value);
+
+        /**
+         * Appends the quoted and escaped value to {@code out}. Implementations can override it to escape straight into
+         * {@code out} without creating an intermediate {@link java.lang.String}.
+         *
+         * @param value the value to stringify
+         * @param out   the builder to append to
+         */
+        default void stringify(String value, StringBuilder out) {
+            out.append(stringify(value));
+        }
     }
 
     interface MapLikeFactory{
@@ -1,17 +1,20 @@
 package org.dominokit.jacksonapt;
 
-import static java.util.Objects.isNull;
-
 /**
  * <p>JacksonContextProvider class.</p>
+ * <p>
+ * The context is created by the class initialization of a holder the first time it is requested, which makes its
+ * creation and publication thread-safe without locking on every call.
+ * </p>
  *
  * @author vegegoku
  * @version $Id: $Id
  */
 public class JacksonContextProvider {
 
-    static JacksonContext jacksonContext;
-
+    private static class Holder {
+        private static final JacksonContext JACKSON_CONTEXT = new ServerJacksonContext();
+    }
 
     /**
      * <p>get.</p>
@@ -19,12 +22,6 @@ public class JacksonContextProvider {
      * @return a {@link org.dominokit.jacksonapt.JacksonContext} object.
      */
     public static JacksonContext get() {
-        if (isNull(jacksonContext))
-            initContext();
-        return jacksonContext;
-    }
-
-    private static void initContext() {
-        jacksonContext = new ServerJacksonContext();
+        return Holder.JACKSON_CONTEXT;
     }
 }
@@ -5,7 +5,11 @@ import org.dominokit.jacksonapt.deser.array.cast.JsIntegerArrayReader;
 import org.dominokit.jacksonapt.deser.array.cast.JsShortArrayReader;
 import org.dominokit.jacksonapt.deser.array.cast.JsStringArrayReader;
 import org.dominokit.jacksonapt.deser.bean.JsMapLike;
+import org.dominokit.jacksonapt.stream.IntegerStack;
+import org.dominokit.jacksonapt.stream.Stack;
 import org.dominokit.jacksonapt.stream.impl.JsIntegerStack;
+import org.dominokit.jacksonapt.stream.impl.JsPrimitiveIntegerStack;
+import org.dominokit.jacksonapt.stream.impl.JsonStreamCache;
 import org.dominokit.jacksonapt.utils.JsDateFormat;
 
 /**
@@ -15,6 +19,21 @@ import org.dominokit.jacksonapt.utils.JsDateFormat;
  * @version $Id: $Id
  */
 public class JsJacksonContext implements JacksonContext{
+
+    private static final JsonStreamCache JSON_STREAM_CACHE = new JsonStreamCache();
+
+    private static final IntegerStackFactory INTEGER_STACK_FACTORY = new IntegerStackFactory() {
+        @Override
+        public Stack<Integer> make() {
+            return new JsIntegerStack();
+        }
+
+        @Override
+        public IntegerStack makeIntegerStack() {
+            return new JsPrimitiveIntegerStack();
+        }
+    };
+
     /** {@inheritDoc} */
     @Override
     public DateFormat dateFormat() {
@@ -24,7 +43,7 @@ public class JsJacksonContext implements JacksonContext{
     /** {@inheritDoc} */
     @Override
     public IntegerStackFactory integerStackFactory() {
-        return JsIntegerStack::new;
+        return INTEGER_STACK_FACTORY;
     }
 
     /** {@inheritDoc} */
@@ -84,4 +103,10 @@ public class JsJacksonContext implements JacksonContext{
     public JsonDeserializerParameters newDeserializerParameters() {
         return new GwtJacksonJsonDeserializerParameters();
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public JsonStreamCache jsonStreamCache() {
+        return JSON_STREAM_CACHE;
+    }
 }
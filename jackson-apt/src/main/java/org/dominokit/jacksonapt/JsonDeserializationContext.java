@@ -3,6 +3,10 @@ package org.dominokit.jacksonapt;
 import com.fasterxml.jackson.annotation.ObjectIdGenerator;
 import org.dominokit.jacksonapt.exception.JsonDeserializationException;
 import org.dominokit.jacksonapt.stream.JsonReader;
+import org.dominokit.jacksonapt.stream.RawJson;
+
+import java.io.Reader;
+import java.nio.ByteBuffer;
 
 /**
  * <p>JsonDeserializationContext interface.</p>
@@ -53,6 +57,31 @@ public interface JsonDeserializationContext extends JsonMappingContext {
      */
     boolean isUseBrowserTimezone();
 
+    /**
+     * Returns the properties to read from the object being deserialized, the others are skipped without being decoded. It
+     * is the mask given to the context while reading the root value, and the mask of a property while reading its value.
+     *
+     * @return the {@link org.dominokit.jacksonapt.FieldMask} of the current object, {@link FieldMask#ALL} to read everything
+     */
+    FieldMask getFieldMask();
+
+    /**
+     * Changes the mask of the current object, the bean deserializers set the mask of a property before reading its value
+     * and restore theirs afterwards.
+     *
+     * @param fieldMask a {@link org.dominokit.jacksonapt.FieldMask} object, not null.
+     */
+    void setFieldMask(FieldMask fieldMask);
+
+    /**
+     * Returns a new context with the options of this one and none of its state, to read a value apart from the current
+     * read, like a {@link org.dominokit.jacksonapt.Lazy} value.
+     *
+     * @param fieldMask the {@link org.dominokit.jacksonapt.FieldMask} of the new context, not null.
+     * @return a new {@link org.dominokit.jacksonapt.JsonDeserializationContext} for a single deserialization
+     */
+    JsonDeserializationContext newContext(FieldMask fieldMask);
+
     /**
      * <p>newJsonReader.</p>
      *
@@ -61,6 +90,48 @@ public interface JsonDeserializationContext extends JsonMappingContext {
      */
     JsonReader newJsonReader(String input);
 
+    /**
+     * Returns a reader of the value kept by {@code input}, reading the characters of its source in place.
+     *
+     * @param input a {@link org.dominokit.jacksonapt.stream.RawJson} object.
+     * @return a {@link org.dominokit.jacksonapt.stream.JsonReader} object.
+     */
+    JsonReader newJsonReader(RawJson input);
+
+    /**
+     * Returns a reader for {@code input}, that is given back with {@link #releaseJsonReader(JsonReader)} once the input is
+     * read. Depending on the configuration, it is a new reader or one reused between the reads of the same thread.
+     *
+     * @param input a {@link java.lang.String} object.
+     * @return a {@link org.dominokit.jacksonapt.stream.JsonReader} object.
+     */
+    JsonReader acquireJsonReader(String input);
+
+    /**
+     * Gives back a reader returned by {@link #acquireJsonReader(String)}, it must not be used afterwards.
+     *
+     * @param reader a {@link org.dominokit.jacksonapt.stream.JsonReader} object.
+     */
+    void releaseJsonReader(JsonReader reader);
+
+    /**
+     * <p>newJsonReader.</p>
+     *
+     * @param input a {@link java.nio.ByteBuffer} object holding an UTF-8 encoded JSON input.
+     * @return a {@link org.dominokit.jacksonapt.stream.JsonReader} object.
+     */
+    @GwtIncompatible
+    JsonReader newJsonReader(ByteBuffer input);
+
+    /**
+     * <p>newJsonReader.</p>
+     *
+     * @param input a {@link java.io.Reader} object, read progressively and not closed.
+     * @return a {@link org.dominokit.jacksonapt.stream.JsonReader} object.
+     */
+    @GwtIncompatible
+    JsonReader newJsonReader(Reader input);
+
     /**
      * <p>traceError.</p>
      *
@@ -19,6 +19,7 @@ package org.dominokit.jacksonapt;
 import org.dominokit.jacksonapt.exception.JsonDeserializationException;
 import org.dominokit.jacksonapt.stream.JsonReader;
 import org.dominokit.jacksonapt.stream.JsonToken;
+import java.util.Set;
 
 /**
  * Base class for all the deserializer. It handles null values and exceptions. The rest is delegated to implementations.
@@ -91,4 +92,14 @@ public abstract class JsonDeserializer<T> {
     public void setBackReference(String referenceName, Object reference, T value, JsonDeserializationContext ctx) {
         throw new JsonDeserializationException("Cannot set a back reference to the type managed by this deserializer");
     }
+
+    /**
+     * Creates the deserializers this deserializer delegates to that are otherwise created on their first use, so the
+     * first deserialization does not pay for them. A bean type already in {@code warmedUp} is skipped, which ends the
+     * recursion on recursive types.
+     *
+     * @param warmedUp the bean types already warmed up
+     */
+    public void warmUp(Set<Class<?>> warmedUp) {
+    }
 }
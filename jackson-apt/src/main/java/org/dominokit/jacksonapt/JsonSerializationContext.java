@@ -5,6 +5,9 @@ import org.dominokit.jacksonapt.exception.JsonSerializationException;
 import org.dominokit.jacksonapt.ser.bean.ObjectIdSerializer;
 import org.dominokit.jacksonapt.stream.JsonWriter;
 
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+
 /**
  * <p>JsonSerializationContext interface.</p>
  *
@@ -75,6 +78,23 @@ public interface JsonSerializationContext extends JsonMappingContext {
      */
     boolean isWriteSingleElemArraysUnwrapped();
 
+    /**
+     * Returns the properties to write from the object being serialized. It is the mask of the context while writing the
+     * root value, and the mask of a property while writing its value.
+     *
+     * @return the {@link org.dominokit.jacksonapt.FieldMask} of the current object, {@link FieldMask#ALL} to write everything
+     */
+    FieldMask getFieldMask();
+
+    /**
+     * Changes the mask of the current object. Set on a new context, it filters the properties of a single serialization,
+     * like the sparse fieldset of a request. The bean serializers set the mask of a property before writing its value and
+     * restore theirs afterwards.
+     *
+     * @param fieldMask a {@link org.dominokit.jacksonapt.FieldMask} object, not null.
+     */
+    void setFieldMask(FieldMask fieldMask);
+
     /**
      * <p>newJsonWriter.</p>
      *
@@ -82,6 +102,39 @@ public interface JsonSerializationContext extends JsonMappingContext {
      */
     JsonWriter newJsonWriter();
 
+    /**
+     * Returns a writer, that is given back with {@link #releaseJsonWriter(JsonWriter)} once its output is retrieved.
+     * Depending on the configuration, it is a new writer or one reused between the writes of the same thread.
+     *
+     * @return a {@link org.dominokit.jacksonapt.stream.JsonWriter} object.
+     */
+    JsonWriter acquireJsonWriter();
+
+    /**
+     * Gives back a writer returned by {@link #acquireJsonWriter()}, it must not be used afterwards.
+     *
+     * @param writer a {@link org.dominokit.jacksonapt.stream.JsonWriter} object.
+     */
+    void releaseJsonWriter(JsonWriter writer);
+
+    /**
+     * <p>newJsonWriter.</p>
+     *
+     * @param output an {@link java.io.OutputStream} receiving the UTF-8 encoded output, not closed.
+     * @return a {@link org.dominokit.jacksonapt.stream.JsonWriter} object.
+     */
+    @GwtIncompatible
+    JsonWriter newJsonWriter(OutputStream output);
+
+    /**
+     * <p>newJsonWriter.</p>
+     *
+     * @param output a {@link java.nio.channels.WritableByteChannel} receiving the UTF-8 encoded output, not closed.
+     * @return a {@link org.dominokit.jacksonapt.stream.JsonWriter} object.
+     */
+    @GwtIncompatible
+    JsonWriter newJsonWriter(WritableByteChannel output);
+
     /**
      * <p>traceError.</p>
      *
@@ -19,6 +19,7 @@ package org.dominokit.jacksonapt;
 
 import org.dominokit.jacksonapt.exception.JsonSerializationException;
 import org.dominokit.jacksonapt.stream.JsonWriter;
+import java.util.Set;
 
 /**
  * Base class for all the serializer. It handles null values and exceptions. The rest is delegated to implementations.
@@ -168,4 +169,14 @@ public abstract class JsonSerializer<T> {
      */
     protected abstract void doSerialize(JsonWriter writer, T value, JsonSerializationContext ctx, JsonSerializerParameters
             params);
+
+    /**
+     * Creates the serializers this serializer delegates to that are otherwise created on their first use, so the first
+     * serialization does not pay for them. A bean type already in {@code warmedUp} is skipped, which ends the recursion
+     * on recursive types.
+     *
+     * @param warmedUp the bean types already warmed up
+     */
+    public void warmUp(Set<Class<?>> warmedUp) {
+    }
 }
@@ -0,0 +1,127 @@
+package org.dominokit.jacksonapt;
+
+import org.dominokit.jacksonapt.exception.JsonDeserializationException;
+import org.dominokit.jacksonapt.stream.JsonReader;
+import org.dominokit.jacksonapt.stream.RawJson;
+
+/**
+ * A property value decoded on its first access. The mappers read a {@code Lazy<T>} property by skipping its value and
+ * keeping its position in the input, as a {@link org.dominokit.jacksonapt.stream.RawJson}, the value is decoded by
+ * {@link #get()} with a context of its own, holding the options and the {@link org.dominokit.jacksonapt.FieldMask} of the
+ * read. The values of a document can then be decoded on different threads. Reading a large document is then only a structural scan of the lazy
+ * properties, and the values never accessed are never decoded.
+ * <p>
+ * A value read from a {@link java.lang.String} keeps the whole input in memory until it is decoded. A value never
+ * decoded is written back as it was read.
+ * </p>
+ *
+ * @param <T> the type of the value
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public final class Lazy<T> {
+
+    /**
+     * <p>of</p>
+     *
+     * @param value the value, already decoded
+     * @param <T>   the type of the value
+     * @return a {@link org.dominokit.jacksonapt.Lazy} object.
+     */
+    public static <T> Lazy<T> of(T value) {
+        Lazy<T> lazy = new Lazy<T>(null, null, null, null);
+        lazy.value = value;
+        return lazy;
+    }
+
+    /**
+     * <p>of</p>
+     *
+     * @param json         the JSON of the value
+     * @param deserializer the deserializer of the value
+     * @param ctx          the context of the read, only its options and its current mask are kept
+     * @param params       the parameters of the deserializer
+     * @param <T>          the type of the value
+     * @return a {@link org.dominokit.jacksonapt.Lazy} object decoding {@code json} on its first access, with the
+     * {@link org.dominokit.jacksonapt.FieldMask} of the context at the time of this call.
+     */
+    public static <T> Lazy<T> of(RawJson json, JsonDeserializer<T> deserializer, JsonDeserializationContext ctx,
+                                 JsonDeserializerParameters params) {
+        if (null == json) {
+            throw new IllegalArgumentException("json cannot be null");
+        }
+        return new Lazy<T>(json, deserializer, ctx.newContext(ctx.getFieldMask()), params);
+    }
+
+    private RawJson json;
+
+    private JsonDeserializer<T> deserializer;
+
+    private JsonDeserializationContext ctx;
+
+    private JsonDeserializerParameters params;
+
+    private T value;
+
+    private Lazy(RawJson json, JsonDeserializer<T> deserializer, JsonDeserializationContext ctx,
+                 JsonDeserializerParameters params) {
+        this.json = json;
+        this.deserializer = deserializer;
+        this.ctx = ctx;
+        this.params = params;
+    }
+
+    /**
+     * Returns the value, it is decoded by the first call. The references to the input and to the context are released
+     * once the value is decoded.
+     *
+     * @return the value
+     * @throws org.dominokit.jacksonapt.exception.JsonDeserializationException if the value cannot be decoded
+     */
+    public synchronized T get() {
+        if (null != json) {
+            JsonReader reader = ctx.newJsonReader(json);
+            try {
+                value = deserializer.deserialize(reader, ctx, params);
+            } catch (JsonDeserializationException e) {
+                // already logged, we just throw it
+                throw e;
+            } catch (RuntimeException e) {
+                throw ctx.traceError(e, reader);
+            }
+            json = null;
+            deserializer = null;
+            ctx = null;
+            params = null;
+        }
+        return value;
+    }
+
+    /**
+     * <p>isDecoded</p>
+     *
+     * @return true if the value has been decoded or was given decoded
+     */
+    public synchronized boolean isDecoded() {
+        return null == json;
+    }
+
+    /**
+     * <p>getRawJson</p>
+     *
+     * @return the JSON of the value, null once it is decoded
+     */
+    public synchronized RawJson getRawJson() {
+        return json;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the JSON of the value if it is not decoded yet, the value otherwise
+     */
+    @Override
+    public synchronized String toString() {
+        return null == json ? String.valueOf(value) : json.toString();
+    }
+}
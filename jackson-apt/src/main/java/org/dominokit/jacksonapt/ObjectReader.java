@@ -19,6 +19,10 @@ package org.dominokit.jacksonapt;
 import org.dominokit.jacksonapt.deser.array.ArrayJsonDeserializer;
 import org.dominokit.jacksonapt.exception.JsonDeserializationException;
 
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+
 /**
  * Reads a JSON input and return an object
  * <p>Example : </p>
@@ -61,6 +65,90 @@ public interface ObjectReader<T> {
      */
     T read(String input, JsonDeserializationContext ctx) throws JsonDeserializationException;
 
+    /**
+     * Reads an UTF-8 encoded JSON input into an object.
+     *
+     * @param input UTF-8 encoded JSON input to read
+     * @return the read object
+     * @throws org.dominokit.jacksonapt.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    @GwtIncompatible
+    T read(byte[] input) throws JsonDeserializationException;
+
+    /**
+     * Reads an UTF-8 encoded JSON input into an object.
+     *
+     * @param input UTF-8 encoded JSON input to read
+     * @param ctx   Context for the full reading process
+     * @return the read object
+     * @throws org.dominokit.jacksonapt.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    @GwtIncompatible
+    T read(byte[] input, JsonDeserializationContext ctx) throws JsonDeserializationException;
+
+    /**
+     * Reads an UTF-8 encoded JSON input into an object. The bytes between the position and the limit of the buffer are read.
+     *
+     * @param input UTF-8 encoded JSON input to read, heap or direct
+     * @return the read object
+     * @throws org.dominokit.jacksonapt.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    @GwtIncompatible
+    T read(ByteBuffer input) throws JsonDeserializationException;
+
+    /**
+     * Reads an UTF-8 encoded JSON input into an object. The bytes between the position and the limit of the buffer are read.
+     *
+     * @param input UTF-8 encoded JSON input to read, heap or direct
+     * @param ctx   Context for the full reading process
+     * @return the read object
+     * @throws org.dominokit.jacksonapt.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    @GwtIncompatible
+    T read(ByteBuffer input, JsonDeserializationContext ctx) throws JsonDeserializationException;
+
+    /**
+     * Reads an UTF-8 encoded JSON stream into an object. The stream is read progressively and is not closed.
+     *
+     * @param input UTF-8 encoded JSON stream to read
+     * @return the read object
+     * @throws org.dominokit.jacksonapt.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    @GwtIncompatible
+    T read(InputStream input) throws JsonDeserializationException;
+
+    /**
+     * Reads an UTF-8 encoded JSON stream into an object. The stream is read progressively and is not closed.
+     *
+     * @param input UTF-8 encoded JSON stream to read
+     * @param ctx   Context for the full reading process
+     * @return the read object
+     * @throws org.dominokit.jacksonapt.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    @GwtIncompatible
+    T read(InputStream input, JsonDeserializationContext ctx) throws JsonDeserializationException;
+
+    /**
+     * Reads a JSON character stream into an object. The reader is read progressively and is not closed.
+     *
+     * @param input JSON character stream to read
+     * @return the read object
+     * @throws org.dominokit.jacksonapt.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    @GwtIncompatible
+    T read(Reader input) throws JsonDeserializationException;
+
+    /**
+     * Reads a JSON character stream into an object. The reader is read progressively and is not closed.
+     *
+     * @param input JSON character stream to read
+     * @param ctx   Context for the full reading process
+     * @return the read object
+     * @throws org.dominokit.jacksonapt.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    @GwtIncompatible
+    T read(Reader input, JsonDeserializationContext ctx) throws JsonDeserializationException;
+
     /**
      * Reads a JSON input into an array object.
      *
@@ -89,4 +177,11 @@ public interface ObjectReader<T> {
      * @return a {@link org.dominokit.jacksonapt.JsonDeserializer} object.
      */
     JsonDeserializer<T> getDeserializer();
+
+    /**
+     * Builds the complete deserializer graph of this reader, that is otherwise built progressively by the first reads.
+     * The graph is built once and can then be used concurrently, calling this method when the application starts avoids
+     * the latency of the first reads.
+     */
+    void warmUp();
 }
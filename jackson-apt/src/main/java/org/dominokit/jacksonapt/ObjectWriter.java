@@ -18,6 +18,9 @@ package org.dominokit.jacksonapt;
 
 import org.dominokit.jacksonapt.exception.JsonSerializationException;
 
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+
 /**
  * Writes an object to JSON.
  * <p>Example : </p>
@@ -63,10 +66,59 @@ public interface ObjectWriter<T> {
      */
     String write(T value, JsonSerializationContext ctx) throws JsonSerializationException;
 
+    /**
+     * Writes an object to JSON as UTF-8 into a stream. The stream is flushed but not closed.
+     *
+     * @param value  Object to write
+     * @param output Stream receiving the JSON output
+     * @throws org.dominokit.jacksonapt.exception.JsonSerializationException if an exception occurs while writing the output
+     */
+    @GwtIncompatible
+    void write(T value, OutputStream output) throws JsonSerializationException;
+
+    /**
+     * Writes an object to JSON as UTF-8 into a stream. The stream is flushed but not closed.
+     *
+     * @param value  Object to write
+     * @param output Stream receiving the JSON output
+     * @param ctx    Context for the full writing process
+     * @throws org.dominokit.jacksonapt.exception.JsonSerializationException if an exception occurs while writing the output
+     */
+    @GwtIncompatible
+    void write(T value, OutputStream output, JsonSerializationContext ctx) throws JsonSerializationException;
+
+    /**
+     * Writes an object to JSON as UTF-8 into a channel. The channel is not closed.
+     *
+     * @param value  Object to write
+     * @param output Channel receiving the JSON output
+     * @throws org.dominokit.jacksonapt.exception.JsonSerializationException if an exception occurs while writing the output
+     */
+    @GwtIncompatible
+    void write(T value, WritableByteChannel output) throws JsonSerializationException;
+
+    /**
+     * Writes an object to JSON as UTF-8 into a channel. The channel is not closed.
+     *
+     * @param value  Object to write
+     * @param output Channel receiving the JSON output
+     * @param ctx    Context for the full writing process
+     * @throws org.dominokit.jacksonapt.exception.JsonSerializationException if an exception occurs while writing the output
+     */
+    @GwtIncompatible
+    void write(T value, WritableByteChannel output, JsonSerializationContext ctx) throws JsonSerializationException;
+
     /**
      * <p>getSerializer.</p>
      *
      * @return a {@link org.dominokit.jacksonapt.JsonSerializer} object.
      */
     JsonSerializer<T> getSerializer();
+
+    /**
+     * Builds the complete serializer graph of this writer, that is otherwise built progressively by the first writes.
+     * The graph is built once and can then be used concurrently, calling this method when the application starts avoids
+     * the latency of the first writes.
+     */
+    void warmUp();
 }
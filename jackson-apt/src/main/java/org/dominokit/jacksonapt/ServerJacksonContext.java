@@ -5,7 +5,11 @@ import org.dominokit.jacksonapt.deser.array.cast.DefaultIntegerArrayReader;
 import org.dominokit.jacksonapt.deser.array.cast.DefaultShortArrayReader;
 import org.dominokit.jacksonapt.deser.array.cast.DefaultStringArrayReader;
 import org.dominokit.jacksonapt.deser.bean.DefaultMapLike;
+import org.dominokit.jacksonapt.stream.IntegerStack;
+import org.dominokit.jacksonapt.stream.Stack;
 import org.dominokit.jacksonapt.stream.impl.DefaultIntegerStack;
+import org.dominokit.jacksonapt.stream.impl.DefaultPrimitiveIntegerStack;
+import org.dominokit.jacksonapt.stream.impl.JsonStreamCache;
 import org.dominokit.jacksonapt.utils.DefaultDateFormat;
 
 
@@ -20,18 +24,37 @@ public class ServerJacksonContext extends JsJacksonContext{
     @GwtIncompatible
     private static final ValueStringifier VALUE_STRINGIFIER = new ServerValueStringifier();
 
+    @GwtIncompatible
+    private static final IntegerStackFactory INTEGER_STACK_FACTORY = new IntegerStackFactory() {
+        @Override
+        public Stack<Integer> make() {
+            return new DefaultIntegerStack();
+        }
+
+        @Override
+        public IntegerStack makeIntegerStack() {
+            return new DefaultPrimitiveIntegerStack();
+        }
+    };
+
+    @GwtIncompatible
+    private static final DateFormat DATE_FORMAT = new DefaultDateFormat();
+
+    @GwtIncompatible
+    private static final ThreadLocal<JsonStreamCache> JSON_STREAM_CACHES = ThreadLocal.withInitial(JsonStreamCache::new);
+
     /** {@inheritDoc} */
     @GwtIncompatible
     @Override
     public DateFormat dateFormat() {
-        return new DefaultDateFormat();
+        return DATE_FORMAT;
     }
 
     /** {@inheritDoc} */
     @GwtIncompatible
     @Override
     public IntegerStackFactory integerStackFactory() {
-        return DefaultIntegerStack::new;
+        return INTEGER_STACK_FACTORY;
     }
 
     /** {@inheritDoc} */
@@ -104,4 +127,11 @@ public class ServerJacksonContext extends JsJacksonContext{
         return new ServerJacksonJsonDeserializerParameters();
     }
 
+    /** {@inheritDoc} */
+    @GwtIncompatible
+    @Override
+    public JsonStreamCache jsonStreamCache() {
+        return JSON_STREAM_CACHES.get();
+    }
+
 }
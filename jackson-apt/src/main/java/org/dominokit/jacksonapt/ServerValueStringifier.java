@@ -14,9 +14,15 @@ public class ServerValueStringifier implements JacksonContext.ValueStringifier{
     @Override
     public String stringify(String value) {
         StringBuilder out=new StringBuilder();
-        out.append("\"");
-        DefaultJsonWriter.encodeString(value, out);
-        out.append("\"");
+        stringify(value, out);
         return out.toString();
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stringify(String value, StringBuilder out) {
+        out.append('"');
+        DefaultJsonWriter.encodeString(value, out);
+        out.append('"');
+    }
 }
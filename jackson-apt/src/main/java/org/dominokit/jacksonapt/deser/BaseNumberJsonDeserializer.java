@@ -52,7 +52,11 @@ public abstract class BaseNumberJsonDeserializer<N extends Number> extends JsonD
 
         @Override
         protected BigDecimal doDeserialize(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-            return new BigDecimal(reader.nextString());
+            if (JsonToken.NUMBER.equals(reader.peek())) {
+                return reader.nextBigDecimal();
+            } else {
+                return new BigDecimal(reader.nextString());
+            }
         }
     }
 
@@ -144,7 +148,11 @@ public abstract class BaseNumberJsonDeserializer<N extends Number> extends JsonD
 
         @Override
         protected Float doDeserialize(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-            return Float.parseFloat(reader.nextString());
+            if (JsonToken.NUMBER.equals(reader.peek())) {
+                return reader.nextFloat();
+            } else {
+                return Float.parseFloat(reader.nextString());
+            }
         }
     }
 
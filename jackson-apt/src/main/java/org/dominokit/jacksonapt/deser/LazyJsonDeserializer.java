@@ -0,0 +1,57 @@
+package org.dominokit.jacksonapt.deser;
+
+import org.dominokit.jacksonapt.JsonDeserializationContext;
+import org.dominokit.jacksonapt.JsonDeserializer;
+import org.dominokit.jacksonapt.JsonDeserializerParameters;
+import org.dominokit.jacksonapt.Lazy;
+import org.dominokit.jacksonapt.stream.JsonReader;
+
+import java.util.Set;
+
+/**
+ * Default {@link org.dominokit.jacksonapt.JsonDeserializer} implementation for {@link org.dominokit.jacksonapt.Lazy}, the
+ * value is skipped and kept as its position in the input, it is decoded by {@link Lazy#get()}.
+ *
+ * @param <T> Type of the value inside the {@link org.dominokit.jacksonapt.Lazy}
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public class LazyJsonDeserializer<T> extends JsonDeserializer<Lazy<T>> {
+
+    /**
+     * <p>newInstance</p>
+     *
+     * @param deserializer {@link org.dominokit.jacksonapt.JsonDeserializer} used to decode the value
+     * @param <T>          Type of the value inside the {@link org.dominokit.jacksonapt.Lazy}
+     * @return a new instance of {@link org.dominokit.jacksonapt.deser.LazyJsonDeserializer}
+     */
+    public static <T> LazyJsonDeserializer<T> newInstance(JsonDeserializer<T> deserializer) {
+        return new LazyJsonDeserializer<T>(deserializer);
+    }
+
+    private final JsonDeserializer<T> deserializer;
+
+    /**
+     * <p>Constructor for LazyJsonDeserializer.</p>
+     *
+     * @param deserializer {@link org.dominokit.jacksonapt.JsonDeserializer} used to decode the value.
+     */
+    protected LazyJsonDeserializer(JsonDeserializer<T> deserializer) {
+        if (null == deserializer) {
+            throw new IllegalArgumentException("deserializer cannot be null");
+        }
+        this.deserializer = deserializer;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Lazy<T> doDeserialize(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
+        return Lazy.of(reader.nextRawValue(), deserializer, ctx, params);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void warmUp(Set<Class<?>> warmedUp) {
+        deserializer.warmUp(warmedUp);
+    }
+}
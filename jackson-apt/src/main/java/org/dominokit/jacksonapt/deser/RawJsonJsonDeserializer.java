@@ -0,0 +1,37 @@
+package org.dominokit.jacksonapt.deser;
+
+import org.dominokit.jacksonapt.JsonDeserializationContext;
+import org.dominokit.jacksonapt.JsonDeserializer;
+import org.dominokit.jacksonapt.JsonDeserializerParameters;
+import org.dominokit.jacksonapt.stream.JsonReader;
+import org.dominokit.jacksonapt.stream.RawJson;
+
+/**
+ * Default {@link org.dominokit.jacksonapt.JsonDeserializer} implementation for {@link org.dominokit.jacksonapt.stream.RawJson},
+ * the value is skipped and kept as its JSON text without being decoded.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public class RawJsonJsonDeserializer extends JsonDeserializer<RawJson> {
+
+    private static final RawJsonJsonDeserializer INSTANCE = new RawJsonJsonDeserializer();
+
+    /**
+     * <p>getInstance.</p>
+     *
+     * @return an instance of {@link org.dominokit.jacksonapt.deser.RawJsonJsonDeserializer}
+     */
+    public static RawJsonJsonDeserializer getInstance() {
+        return INSTANCE;
+    }
+
+    private RawJsonJsonDeserializer() {
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RawJson doDeserialize(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
+        return reader.nextRawValue();
+    }
+}
@@ -22,6 +22,7 @@ import org.dominokit.jacksonapt.JsonDeserializerParameters;
 import org.dominokit.jacksonapt.stream.JsonReader;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Default {@link org.dominokit.jacksonapt.JsonDeserializer} implementation for array.
@@ -93,4 +94,10 @@ public class ArrayJsonDeserializer<T> extends AbstractArrayJsonDeserializer<T[]>
             }
         }
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public void warmUp(Set<Class<?>> warmedUp) {
+        deserializer.warmUp(warmedUp);
+    }
 }
@@ -0,0 +1,66 @@
+package org.dominokit.jacksonapt.deser.array;
+
+import java.util.Arrays;
+
+/**
+ * Buffers the primitive arrays are read into. We don't know the length of an array before reading it, so the buffer
+ * starts with {@link #INITIAL_CAPACITY} elements, doubles each time it is full and is trimmed once the array is read.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+final class PrimitiveArrayBuffers {
+
+    static final int INITIAL_CAPACITY = 16;
+
+    private PrimitiveArrayBuffers() {
+    }
+
+    static byte[] grow(byte[] buffer) {
+        return Arrays.copyOf(buffer, buffer.length * 2);
+    }
+
+    static byte[] trim(byte[] buffer, int size) {
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    static short[] grow(short[] buffer) {
+        return Arrays.copyOf(buffer, buffer.length * 2);
+    }
+
+    static short[] trim(short[] buffer, int size) {
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    static int[] grow(int[] buffer) {
+        return Arrays.copyOf(buffer, buffer.length * 2);
+    }
+
+    static int[] trim(int[] buffer, int size) {
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    static long[] grow(long[] buffer) {
+        return Arrays.copyOf(buffer, buffer.length * 2);
+    }
+
+    static long[] trim(long[] buffer, int size) {
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    static float[] grow(float[] buffer) {
+        return Arrays.copyOf(buffer, buffer.length * 2);
+    }
+
+    static float[] trim(float[] buffer, int size) {
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    static double[] grow(double[] buffer) {
+        return Arrays.copyOf(buffer, buffer.length * 2);
+    }
+
+    static double[] trim(double[] buffer, int size) {
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+}
@@ -21,9 +21,6 @@ import org.dominokit.jacksonapt.JsonDeserializerParameters;
 import org.dominokit.jacksonapt.deser.BaseNumberJsonDeserializer;
 import org.dominokit.jacksonapt.stream.JsonReader;
 import org.dominokit.jacksonapt.stream.JsonToken;
-import org.dominokit.jacksonapt.utils.Base64Utils;
-
-import java.util.List;
 
 /**
  * Default {@link org.dominokit.jacksonapt.JsonDeserializer} implementation for array of byte.
@@ -50,24 +47,41 @@ public class PrimitiveByteArrayJsonDeserializer extends AbstractArrayJsonDeseria
     /** {@inheritDoc} */
     @Override
     public byte[] doDeserializeArray(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-        List<Byte> list = deserializeIntoList(reader, ctx, BaseNumberJsonDeserializer.ByteJsonDeserializer.getInstance(), params);
+        reader.beginArray();
+        if (JsonToken.END_ARRAY == reader.peek()) {
+            reader.endArray();
+            return new byte[0];
+        }
 
-        byte[] result = new byte[list.size()];
-        int i = 0;
-        for (Byte value : list) {
-            if (null != value) {
-                result[i] = value;
+        byte[] result = new byte[PrimitiveArrayBuffers.INITIAL_CAPACITY];
+        int size = 0;
+        while (JsonToken.END_ARRAY != reader.peek()) {
+            if (size == result.length) {
+                result = PrimitiveArrayBuffers.grow(result);
             }
-            i++;
+            result[size++] = nextByte(reader);
+        }
+        reader.endArray();
+        return PrimitiveArrayBuffers.trim(result, size);
+    }
+
+    /**
+     * Reads an element like {@link org.dominokit.jacksonapt.deser.BaseNumberJsonDeserializer.ByteJsonDeserializer} without
+     * boxing it, a null element is read as 0.
+     */
+    private static byte nextByte(JsonReader reader) {
+        if (JsonToken.NULL == reader.peek()) {
+            reader.skipValue();
+            return 0;
         }
-        return result;
+        return (byte) reader.nextInt();
     }
 
     /** {@inheritDoc} */
     @Override
     protected byte[] doDeserializeNonArray(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
         if (JsonToken.STRING == reader.peek()) {
-            return Base64Utils.fromBase64(reader.nextString());
+            return reader.nextBinary();
         } else if (ctx.isAcceptSingleValueAsArray()) {
             return doDeserializeSingleArray(reader, ctx, params);
         } else {
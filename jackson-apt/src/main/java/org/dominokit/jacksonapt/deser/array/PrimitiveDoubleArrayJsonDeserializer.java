@@ -20,8 +20,7 @@ import org.dominokit.jacksonapt.JsonDeserializationContext;
 import org.dominokit.jacksonapt.JsonDeserializerParameters;
 import org.dominokit.jacksonapt.deser.BaseNumberJsonDeserializer;
 import org.dominokit.jacksonapt.stream.JsonReader;
-
-import java.util.List;
+import org.dominokit.jacksonapt.stream.JsonToken;
 
 /**
  * Default {@link org.dominokit.jacksonapt.JsonDeserializer} implementation for array of double.
@@ -48,17 +47,34 @@ public class PrimitiveDoubleArrayJsonDeserializer extends AbstractArrayJsonDeser
     /** {@inheritDoc} */
     @Override
     public double[] doDeserializeArray(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-        List<Double> list = deserializeIntoList(reader, ctx, BaseNumberJsonDeserializer.DoubleJsonDeserializer.getInstance(), params);
+        reader.beginArray();
+        if (JsonToken.END_ARRAY == reader.peek()) {
+            reader.endArray();
+            return new double[0];
+        }
 
-        double[] result = new double[list.size()];
-        int i = 0;
-        for (Double value : list) {
-            if (null != value) {
-                result[i] = value;
+        double[] result = new double[PrimitiveArrayBuffers.INITIAL_CAPACITY];
+        int size = 0;
+        while (JsonToken.END_ARRAY != reader.peek()) {
+            if (size == result.length) {
+                result = PrimitiveArrayBuffers.grow(result);
             }
-            i++;
+            result[size++] = nextDouble(reader);
+        }
+        reader.endArray();
+        return PrimitiveArrayBuffers.trim(result, size);
+    }
+
+    /**
+     * Reads an element like {@link org.dominokit.jacksonapt.deser.BaseNumberJsonDeserializer.DoubleJsonDeserializer} without
+     * boxing it, a null element is read as 0.
+     */
+    private static double nextDouble(JsonReader reader) {
+        if (JsonToken.NULL == reader.peek()) {
+            reader.skipValue();
+            return 0;
         }
-        return result;
+        return reader.nextDouble();
     }
 
     /** {@inheritDoc} */
@@ -20,8 +20,7 @@ import org.dominokit.jacksonapt.JsonDeserializationContext;
 import org.dominokit.jacksonapt.JsonDeserializerParameters;
 import org.dominokit.jacksonapt.deser.BaseNumberJsonDeserializer;
 import org.dominokit.jacksonapt.stream.JsonReader;
-
-import java.util.List;
+import org.dominokit.jacksonapt.stream.JsonToken;
 
 /**
  * Default {@link org.dominokit.jacksonapt.JsonDeserializer} implementation for array of float.
@@ -48,17 +47,38 @@ public class PrimitiveFloatArrayJsonDeserializer extends AbstractArrayJsonDeseri
     /** {@inheritDoc} */
     @Override
     public float[] doDeserializeArray(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-        List<Float> list = deserializeIntoList(reader, ctx, BaseNumberJsonDeserializer.FloatJsonDeserializer.getInstance(), params);
+        reader.beginArray();
+        if (JsonToken.END_ARRAY == reader.peek()) {
+            reader.endArray();
+            return new float[0];
+        }
 
-        float[] result = new float[list.size()];
-        int i = 0;
-        for (Float value : list) {
-            if (null != value) {
-                result[i] = value;
+        float[] result = new float[PrimitiveArrayBuffers.INITIAL_CAPACITY];
+        int size = 0;
+        while (JsonToken.END_ARRAY != reader.peek()) {
+            if (size == result.length) {
+                result = PrimitiveArrayBuffers.grow(result);
             }
-            i++;
+            result[size++] = nextFloat(reader);
+        }
+        reader.endArray();
+        return PrimitiveArrayBuffers.trim(result, size);
+    }
+
+    /**
+     * Reads an element like {@link org.dominokit.jacksonapt.deser.BaseNumberJsonDeserializer.FloatJsonDeserializer} without
+     * boxing it, a null element is read as 0.
+     */
+    private static float nextFloat(JsonReader reader) {
+        JsonToken token = reader.peek();
+        if (JsonToken.NUMBER == token) {
+            return reader.nextFloat();
+        } else if (JsonToken.NULL == token) {
+            reader.skipValue();
+            return 0;
+        } else {
+            return Float.parseFloat(reader.nextString());
         }
-        return result;
     }
 
     /** {@inheritDoc} */
@@ -20,8 +20,7 @@ import org.dominokit.jacksonapt.JsonDeserializationContext;
 import org.dominokit.jacksonapt.JsonDeserializerParameters;
 import org.dominokit.jacksonapt.deser.BaseNumberJsonDeserializer;
 import org.dominokit.jacksonapt.stream.JsonReader;
-
-import java.util.List;
+import org.dominokit.jacksonapt.stream.JsonToken;
 
 /**
  * Default {@link org.dominokit.jacksonapt.JsonDeserializer} implementation for array of int.
@@ -48,17 +47,38 @@ public class PrimitiveIntegerArrayJsonDeserializer extends AbstractArrayJsonDese
     /** {@inheritDoc} */
     @Override
     public int[] doDeserializeArray(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-        List<Integer> list = deserializeIntoList(reader, ctx, BaseNumberJsonDeserializer.IntegerJsonDeserializer.getInstance(), params);
+        reader.beginArray();
+        if (JsonToken.END_ARRAY == reader.peek()) {
+            reader.endArray();
+            return new int[0];
+        }
 
-        int[] result = new int[list.size()];
-        int i = 0;
-        for (Integer value : list) {
-            if (null != value) {
-                result[i] = value;
+        int[] result = new int[PrimitiveArrayBuffers.INITIAL_CAPACITY];
+        int size = 0;
+        while (JsonToken.END_ARRAY != reader.peek()) {
+            if (size == result.length) {
+                result = PrimitiveArrayBuffers.grow(result);
             }
-            i++;
+            result[size++] = nextInteger(reader);
+        }
+        reader.endArray();
+        return PrimitiveArrayBuffers.trim(result, size);
+    }
+
+    /**
+     * Reads an element like {@link org.dominokit.jacksonapt.deser.BaseNumberJsonDeserializer.IntegerJsonDeserializer} without
+     * boxing it, a null element is read as 0.
+     */
+    private static int nextInteger(JsonReader reader) {
+        JsonToken token = reader.peek();
+        if (JsonToken.NUMBER == token) {
+            return reader.nextInt();
+        } else if (JsonToken.NULL == token) {
+            reader.skipValue();
+            return 0;
+        } else {
+            return Integer.parseInt(reader.nextString());
         }
-        return result;
     }
 
     /** {@inheritDoc} */
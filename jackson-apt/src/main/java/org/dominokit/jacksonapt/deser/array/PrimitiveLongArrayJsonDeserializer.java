@@ -20,8 +20,7 @@ import org.dominokit.jacksonapt.JsonDeserializationContext;
 import org.dominokit.jacksonapt.JsonDeserializerParameters;
 import org.dominokit.jacksonapt.deser.BaseNumberJsonDeserializer;
 import org.dominokit.jacksonapt.stream.JsonReader;
-
-import java.util.List;
+import org.dominokit.jacksonapt.stream.JsonToken;
 
 /**
  * Default {@link org.dominokit.jacksonapt.JsonDeserializer} implementation for array of long.
@@ -48,17 +47,34 @@ public class PrimitiveLongArrayJsonDeserializer extends AbstractArrayJsonDeseria
     /** {@inheritDoc} */
     @Override
     public long[] doDeserializeArray(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-        List<Long> list = deserializeIntoList(reader, ctx, BaseNumberJsonDeserializer.LongJsonDeserializer.getInstance(), params);
+        reader.beginArray();
+        if (JsonToken.END_ARRAY == reader.peek()) {
+            reader.endArray();
+            return new long[0];
+        }
 
-        long[] result = new long[list.size()];
-        int i = 0;
-        for (Long value : list) {
-            if (null != value) {
-                result[i] = value;
+        long[] result = new long[PrimitiveArrayBuffers.INITIAL_CAPACITY];
+        int size = 0;
+        while (JsonToken.END_ARRAY != reader.peek()) {
+            if (size == result.length) {
+                result = PrimitiveArrayBuffers.grow(result);
             }
-            i++;
+            result[size++] = nextLong(reader);
+        }
+        reader.endArray();
+        return PrimitiveArrayBuffers.trim(result, size);
+    }
+
+    /**
+     * Reads an element like {@link org.dominokit.jacksonapt.deser.BaseNumberJsonDeserializer.LongJsonDeserializer} without
+     * boxing it, a null element is read as 0.
+     */
+    private static long nextLong(JsonReader reader) {
+        if (JsonToken.NULL == reader.peek()) {
+            reader.skipValue();
+            return 0;
         }
-        return result;
+        return reader.nextLong();
     }
 
     /** {@inheritDoc} */
@@ -20,8 +20,7 @@ import org.dominokit.jacksonapt.JsonDeserializationContext;
 import org.dominokit.jacksonapt.JsonDeserializerParameters;
 import org.dominokit.jacksonapt.deser.BaseNumberJsonDeserializer;
 import org.dominokit.jacksonapt.stream.JsonReader;
-
-import java.util.List;
+import org.dominokit.jacksonapt.stream.JsonToken;
 
 /**
  * Default {@link org.dominokit.jacksonapt.JsonDeserializer} implementation for array of short.
@@ -48,17 +47,38 @@ public class PrimitiveShortArrayJsonDeserializer extends AbstractArrayJsonDeseri
     /** {@inheritDoc} */
     @Override
     public short[] doDeserializeArray(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
-        List<Short> list = deserializeIntoList(reader, ctx, BaseNumberJsonDeserializer.ShortJsonDeserializer.getInstance(), params);
+        reader.beginArray();
+        if (JsonToken.END_ARRAY == reader.peek()) {
+            reader.endArray();
+            return new short[0];
+        }
 
-        short[] result = new short[list.size()];
-        int i = 0;
-        for (Short value : list) {
-            if (null != value) {
-                result[i] = value;
+        short[] result = new short[PrimitiveArrayBuffers.INITIAL_CAPACITY];
+        int size = 0;
+        while (JsonToken.END_ARRAY != reader.peek()) {
+            if (size == result.length) {
+                result = PrimitiveArrayBuffers.grow(result);
             }
-            i++;
+            result[size++] = nextShort(reader);
+        }
+        reader.endArray();
+        return PrimitiveArrayBuffers.trim(result, size);
+    }
+
+    /**
+     * Reads an element like {@link org.dominokit.jacksonapt.deser.BaseNumberJsonDeserializer.ShortJsonDeserializer} without
+     * boxing it, a null element is read as 0.
+     */
+    private static short nextShort(JsonReader reader) {
+        JsonToken token = reader.peek();
+        if (JsonToken.NUMBER == token) {
+            return (short) reader.nextInt();
+        } else if (JsonToken.NULL == token) {
+            reader.skipValue();
+            return 0;
+        } else {
+            return Short.parseShort(reader.nextString());
         }
-        return result;
     }
 
     /** {@inheritDoc} */
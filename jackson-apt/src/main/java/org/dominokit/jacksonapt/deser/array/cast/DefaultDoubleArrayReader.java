@@ -2,13 +2,13 @@ package org.dominokit.jacksonapt.deser.array.cast;
 
 import org.dominokit.jacksonapt.GwtIncompatible;
 import org.dominokit.jacksonapt.JacksonContext;
+import org.dominokit.jacksonapt.deser.array.PrimitiveDoubleArrayJsonDeserializer;
 import org.dominokit.jacksonapt.stream.JsonReader;
-import org.dominokit.jacksonapt.stream.JsonToken;
-
-import java.util.Stack;
 
 /**
  * <p>DefaultDoubleArrayReader class.</p>
+ * Reads the elements like {@link org.dominokit.jacksonapt.deser.array.PrimitiveDoubleArrayJsonDeserializer}, a null element
+ * is read as 0.
  *
  * @author vegegoku
  * @version $Id: $Id
@@ -18,17 +18,7 @@ public class DefaultDoubleArrayReader implements JacksonContext.DoubleArrayReade
     /** {@inheritDoc} */
     @Override
     public double[] readArray(JsonReader reader) {
-        Stack<Double> doubleStack = new Stack<>();
-        reader.beginArray();
-        while (JsonToken.END_ARRAY != reader.peek()) {
-            if (JsonToken.NULL == reader.peek()) {
-                reader.skipValue();
-                doubleStack.push(null);
-            } else {
-                doubleStack.push(reader.nextDouble());
-            }
-        }
-        reader.endArray();
-        return doubleStack.stream().mapToDouble(Double::doubleValue).toArray();
+        // reading the elements of an array does not use the context nor the parameters
+        return PrimitiveDoubleArrayJsonDeserializer.getInstance().doDeserializeArray(reader, null, null);
     }
 }
@@ -2,13 +2,13 @@ package org.dominokit.jacksonapt.deser.array.cast;
 
 import org.dominokit.jacksonapt.GwtIncompatible;
 import org.dominokit.jacksonapt.JacksonContext;
+import org.dominokit.jacksonapt.deser.array.PrimitiveIntegerArrayJsonDeserializer;
 import org.dominokit.jacksonapt.stream.JsonReader;
-import org.dominokit.jacksonapt.stream.JsonToken;
-
-import java.util.Stack;
 
 /**
  * <p>DefaultIntegerArrayReader class.</p>
+ * Reads the elements like {@link org.dominokit.jacksonapt.deser.array.PrimitiveIntegerArrayJsonDeserializer}, a null element
+ * is read as 0.
  *
  * @author vegegoku
  * @version $Id: $Id
@@ -18,17 +18,7 @@ public class DefaultIntegerArrayReader implements JacksonContext.IntegerArrayRea
     /** {@inheritDoc} */
     @Override
     public int[] readArray(JsonReader reader) {
-        Stack<Integer> intStack = new Stack<>();
-        reader.beginArray();
-        while (JsonToken.END_ARRAY != reader.peek()) {
-            if (JsonToken.NULL == reader.peek()) {
-                reader.skipValue();
-                intStack.push(null);
-            } else {
-                intStack.push(reader.nextInt());
-            }
-        }
-        reader.endArray();
-        return intStack.stream().mapToInt(Integer::intValue).toArray();
+        // reading the elements of an array does not use the context nor the parameters
+        return PrimitiveIntegerArrayJsonDeserializer.getInstance().doDeserializeArray(reader, null, null);
     }
 }
@@ -2,13 +2,13 @@ package org.dominokit.jacksonapt.deser.array.cast;
 
 import org.dominokit.jacksonapt.GwtIncompatible;
 import org.dominokit.jacksonapt.JacksonContext;
+import org.dominokit.jacksonapt.deser.array.PrimitiveShortArrayJsonDeserializer;
 import org.dominokit.jacksonapt.stream.JsonReader;
-import org.dominokit.jacksonapt.stream.JsonToken;
-
-import java.util.Stack;
 
 /**
  * <p>DefaultShortArrayReader class.</p>
+ * Reads the elements like {@link org.dominokit.jacksonapt.deser.array.PrimitiveShortArrayJsonDeserializer}, a null element
+ * is read as 0.
  *
  * @author vegegoku
  * @version $Id: $Id
@@ -18,22 +18,7 @@ public class DefaultShortArrayReader implements JacksonContext.ShortArrayReader
     /** {@inheritDoc} */
     @Override
     public short[] readArray(JsonReader reader) {
-        Stack<Short> shortStack = new Stack<>();
-        reader.beginArray();
-        while (JsonToken.END_ARRAY != reader.peek()) {
-            if (JsonToken.NULL == reader.peek()) {
-                reader.skipValue();
-                shortStack.push(null);
-            } else {
-                shortStack.push(new Integer(reader.nextInt()).shortValue());
-            }
-        }
-        reader.endArray();
-        short[] shorts = new short[shortStack.size()];
-        for (int i = 0; i < shortStack.size(); i++) {
-            shorts[i] = shortStack.get(i);
-        }
-        return shorts;
+        // reading the elements of an array does not use the context nor the parameters
+        return PrimitiveShortArrayJsonDeserializer.getInstance().doDeserializeArray(reader, null, null);
     }
-
 }
@@ -22,6 +22,7 @@ import org.dominokit.jacksonapt.JsonDeserializerParameters;
 import org.dominokit.jacksonapt.stream.JsonReader;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Default {@link org.dominokit.jacksonapt.JsonDeserializer} implementation for 2D array.
@@ -104,4 +105,10 @@ public class Array2dJsonDeserializer<T> extends AbstractArray2dJsonDeserializer<
             }
         }
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public void warmUp(Set<Class<?>> warmedUp) {
+        deserializer.warmUp(warmedUp);
+    }
 }
@@ -21,7 +21,6 @@ import org.dominokit.jacksonapt.JsonDeserializerParameters;
 import org.dominokit.jacksonapt.deser.BaseNumberJsonDeserializer;
 import org.dominokit.jacksonapt.stream.JsonReader;
 import org.dominokit.jacksonapt.stream.JsonToken;
-import org.dominokit.jacksonapt.utils.Base64Utils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -69,7 +68,7 @@ public class PrimitiveByteArray2dJsonDeserializer extends AbstractArray2dJsonDes
             List<byte[]> list = new ArrayList<byte[]>();
             int size = 0;
             while (JsonToken.END_ARRAY != token) {
-                byte[] decoded = Base64Utils.fromBase64(reader.nextString());
+                byte[] decoded = reader.nextBinary();
                 size = Math.max(size, decoded.length);
                 list.add(decoded);
                 token = reader.peek();
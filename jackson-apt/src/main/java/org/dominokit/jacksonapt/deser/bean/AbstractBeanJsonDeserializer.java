@@ -17,12 +17,14 @@
 package org.dominokit.jacksonapt.deser.bean;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
+import org.dominokit.jacksonapt.FieldMask;
 import org.dominokit.jacksonapt.JacksonContextProvider;
 import org.dominokit.jacksonapt.JsonDeserializationContext;
 import org.dominokit.jacksonapt.JsonDeserializer;
 import org.dominokit.jacksonapt.JsonDeserializerParameters;
 import org.dominokit.jacksonapt.stream.JsonReader;
 import org.dominokit.jacksonapt.stream.JsonToken;
+import org.dominokit.jacksonapt.stream.PropertyNameIndex;
 
 import java.util.*;
 import java.util.Map.Entry;
@@ -40,6 +42,13 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
 
     private final MapLike<BeanPropertyDeserializer<T, ?>> deserializers;
 
+    private final PropertyNameIndex propertyNames;
+
+    /**
+     * Property deserializers by their index in {@link #propertyNames}.
+     */
+    private final BeanPropertyDeserializer<T, ?>[] indexedDeserializers;
+
     private final MapLike<BackReferenceProperty<T, ?>> backReferenceDeserializers;
 
     private final Set<String> defaultIgnoredProperties;
@@ -60,6 +69,8 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
     protected AbstractBeanJsonDeserializer() {
         this.instanceBuilder = initInstanceBuilder();
         this.deserializers = initDeserializers();
+        this.propertyNames = initPropertyNames();
+        this.indexedDeserializers = indexDeserializers(propertyNames, deserializers);
         this.backReferenceDeserializers = initBackReferenceDeserializers();
         this.defaultIgnoredProperties = initIgnoredProperties();
         this.requiredProperties = initRequiredProperties();
@@ -89,6 +100,29 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         return JacksonContextProvider.get().mapLikeFactory().make();
     }
 
+    /**
+     * Initialize the {@link org.dominokit.jacksonapt.stream.PropertyNameIndex} of the names of the property deserializers, used to
+     * match the properties directly from the reader. Returns null to look the properties up by name only.
+     *
+     * @return a {@link org.dominokit.jacksonapt.stream.PropertyNameIndex} object.
+     */
+    protected PropertyNameIndex initPropertyNames() {
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> BeanPropertyDeserializer<T, ?>[] indexDeserializers(PropertyNameIndex propertyNames,
+                                                                          MapLike<BeanPropertyDeserializer<T, ?>> deserializers) {
+        if (null == propertyNames) {
+            return null;
+        }
+        BeanPropertyDeserializer<T, ?>[] result = new BeanPropertyDeserializer[propertyNames.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = deserializers.get(propertyNames.getName(i));
+        }
+        return result;
+    }
+
     /**
      * Initialize the {@link org.dominokit.jacksonapt.deser.bean.MapLike} containing the back reference deserializers. Returns an empty map if there are no back
      * reference on the bean.
@@ -171,6 +205,36 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
      */
     public abstract Class getDeserializedType();
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The properties are reached through the {@link #initPropertyNames() property names}, and the creator parameters or
+     * the builder through the {@link #initInstanceBuilder() instance builder}.
+     * </p>
+     */
+    @Override
+    public void warmUp(Set<Class<?>> warmedUp) {
+        if (!warmedUp.add(getDeserializedType())) {
+            return;
+        }
+        if (null != indexedDeserializers) {
+            for (BeanPropertyDeserializer<T, ?> deserializer : indexedDeserializers) {
+                if (null != deserializer) {
+                    deserializer.warmUp(warmedUp);
+                }
+            }
+        }
+        if (null != instanceBuilder) {
+            instanceBuilder.warmUp(warmedUp);
+        }
+        if (null != anySetterDeserializer) {
+            anySetterDeserializer.warmUp(warmedUp);
+        }
+        for (SubtypeDeserializer<?, ?> subtypeDeserializer : subtypeClassToDeserializer.values()) {
+            subtypeDeserializer.warmUp(warmedUp);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public T doDeserialize(JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params) {
@@ -189,7 +253,7 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                 if (null == propertyDeserializer) {
                     propertyDeserializer = instanceBuilder.getParametersDeserializer().get(identityInfo.getPropertyName());
                 }
-                id = propertyDeserializer.getDeserializer().deserialize(reader, ctx);
+                id = deserializeIdentity(propertyDeserializer, identityInfo.getPropertyName(), reader, ctx);
             } else {
                 id = identityInfo.readId(reader, ctx);
             }
@@ -214,16 +278,25 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
 
             switch (include) {
                 case PROPERTY:
-                    // the type info is the first property of the object
+                    // the type info is usually the first property of the object. The properties before it are skipped and read
+                    // again once the type is known when the reader can go back, they are buffered otherwise
                     reader.beginObject();
+                    boolean replay = reader.markSupported();
+                    if (replay) {
+                        reader.mark();
+                    }
                     Map<String, String> bufferedProperties = null;
                     String typeInfoProperty = null;
+                    boolean skipped = false;
                     while (JsonToken.NAME.equals(reader.peek())) {
                         String name = reader.nextName();
 
                         if (typeInfo.getPropertyName().equals(name)) {
                             typeInfoProperty = reader.nextString();
                             break;
+                        } else if (replay) {
+                            reader.skipValue();
+                            skipped = true;
                         } else {
                             if (null == bufferedProperties) {
                                 bufferedProperties = new HashMap<String, String>();
@@ -235,6 +308,9 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                         throw ctx.traceError("Cannot find the property " + typeInfo
                                 .getPropertyName() + " containing the type information", reader);
                     }
+                    if (skipped) {
+                        reader.reset();
+                    }
                     result = getDeserializer(reader, ctx, typeInfo, typeInfoProperty)
                             .deserializeInline(reader, ctx, params, identityInfo, typeInfo, typeInfoProperty, bufferedProperties);
                     reader.endObject();
@@ -309,10 +385,18 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
             ignoredProperties.addAll(params.getIgnoredProperties());
         }
 
+        // the properties outside of the mask are skipped, the mask is checked only when some properties are excluded
+        final FieldMask fieldMask = ctx.getFieldMask();
+        final FieldMask projection = fieldMask.isAll() ? null : fieldMask;
+
         // we will remove the properties read from this list and check at the end it's empty
         Set<String> requiredPropertiesLeft = requiredProperties.isEmpty() ? Collections
                 .<String>emptySet() : new HashSet<String>(requiredProperties);
 
+        // when the properties before the type info have been replayed, the type info property is read again and is skipped
+        final String typeInfoPropertyName = null != type && null != typeInfo && As.PROPERTY == typeInfo.getInclude() ?
+                typeInfo.getPropertyName() : null;
+
         // we first look for identity. It can also buffer properties if it is not in current reader position.
         Object id = null;
         Map<String, Object> bufferedPropertiesValues = null;
@@ -334,7 +418,7 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                 while (JsonToken.NAME.equals(reader.peek())) {
                     String name = reader.nextName();
 
-                    if (ignoredProperties.contains(name)) {
+                    if (ignoredProperties.contains(name) || name.equals(typeInfoPropertyName)) {
                         reader.skipValue();
                         continue;
                     }
@@ -342,6 +426,9 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                     if (identityInfo.getPropertyName().equals(name)) {
                         identityReader = reader;
                         break;
+                    } else if (null != projection && null == projection.get(name)) {
+                        requiredPropertiesLeft.remove(name);
+                        reader.skipValue();
                     } else {
                         if (null == bufferedProperties) {
                             bufferedProperties = new HashMap<String, String>();
@@ -357,11 +444,11 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                     if (null == propertyDeserializer) {
                         // the identity property is defined in constructor
                         propertyDeserializer = instanceBuilder.getParametersDeserializer().get(identityInfo.getPropertyName());
-                        id = propertyDeserializer.getDeserializer().deserialize(identityReader, ctx);
+                        id = deserializeIdentity(propertyDeserializer, identityInfo.getPropertyName(), identityReader, ctx);
                         bufferedPropertiesValues = new HashMap<String, Object>(1);
                         bufferedPropertiesValues.put(identityInfo.getPropertyName(), id);
                     } else {
-                        id = propertyDeserializer.getDeserializer().deserialize(identityReader, ctx);
+                        id = deserializeIdentity(propertyDeserializer, identityInfo.getPropertyName(), identityReader, ctx);
                     }
                 } else {
                     id = identityInfo.readId(identityReader, ctx);
@@ -388,7 +475,7 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         }
 
         // we flush any buffered properties
-        flushBufferedProperties(bean, bufferedProperties, requiredPropertiesLeft, ctx, ignoreUnknown, ignoredProperties);
+        flushBufferedProperties(bean, bufferedProperties, requiredPropertiesLeft, ctx, ignoreUnknown, ignoredProperties, projection);
 
         // in case there is a property that need the type info
         if (null != typeInfo && null != typeInfo.getPropertyName() && null != type) {
@@ -399,22 +486,51 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         }
 
         while (JsonToken.NAME.equals(reader.peek())) {
-            String propertyName = reader.nextName();
+            // known properties are matched from the reader without creating the name
+            int index = null == propertyNames ? -1 : reader.nextNameIndex(propertyNames);
+            String propertyName = index < 0 ? reader.nextName() : propertyNames.getName(index);
 
             requiredPropertiesLeft.remove(propertyName);
 
-            if (ignoredProperties.contains(propertyName)) {
+            if (ignoredProperties.contains(propertyName) || propertyName.equals(typeInfoPropertyName)) {
                 reader.skipValue();
                 continue;
             }
 
-            BeanPropertyDeserializer<T, ?> property = getPropertyDeserializer(propertyName, ctx, ignoreUnknown);
-            if (null != property) {
-                property.deserialize(reader, bean, ctx);
-            } else if (null != anySetterDeserializer) {
-                anySetterDeserializer.deserialize(reader, bean, propertyName, ctx);
-            } else {
+            if (null == projection) {
+                BeanPropertyDeserializer<T, ?> property = index < 0 ? getPropertyDeserializer(propertyName, ctx, ignoreUnknown) :
+                        indexedDeserializers[index];
+                if (null != property) {
+                    property.deserialize(reader, bean, ctx);
+                } else if (null != anySetterDeserializer) {
+                    anySetterDeserializer.deserialize(reader, bean, propertyName, ctx);
+                } else {
+                    reader.skipValue();
+                }
+                continue;
+            }
+
+            FieldMask propertyMask = projection.get(propertyName);
+            if (null == propertyMask) {
+                reader.skipValue();
+                continue;
+            }
+
+            BeanPropertyDeserializer<T, ?> property = index < 0 ? getPropertyDeserializer(propertyName, ctx, ignoreUnknown) :
+                    indexedDeserializers[index];
+            if (null == property && null == anySetterDeserializer) {
                 reader.skipValue();
+                continue;
+            }
+            ctx.setFieldMask(propertyMask);
+            try {
+                if (null != property) {
+                    property.deserialize(reader, bean, ctx);
+                } else {
+                    anySetterDeserializer.deserialize(reader, bean, propertyName, ctx);
+                }
+            } finally {
+                ctx.setFieldMask(projection);
             }
         }
 
@@ -425,7 +541,8 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
     }
 
     private void flushBufferedProperties(T bean, Map<String, String> bufferedProperties, Set<String> requiredPropertiesLeft,
-                                         JsonDeserializationContext ctx, boolean ignoreUnknown, Set<String> ignoredProperties) {
+                                         JsonDeserializationContext ctx, boolean ignoreUnknown, Set<String> ignoredProperties,
+                                         FieldMask projection) {
         if (null != bufferedProperties && !bufferedProperties.isEmpty()) {
             for (Entry<String, String> bufferedProperty : bufferedProperties.entrySet()) {
                 String propertyName = bufferedProperty.getKey();
@@ -436,16 +553,46 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                     continue;
                 }
 
+                FieldMask propertyMask = null == projection ? null : projection.get(propertyName);
+                if (null != projection && null == propertyMask) {
+                    continue;
+                }
+
                 BeanPropertyDeserializer<T, ?> property = getPropertyDeserializer(propertyName, ctx, ignoreUnknown);
-                if (null != property) {
-                    property.deserialize(ctx.newJsonReader(bufferedProperty.getValue()), bean, ctx);
-                } else if (null != anySetterDeserializer) {
-                    anySetterDeserializer.deserialize(ctx.newJsonReader(bufferedProperty.getValue()), bean, propertyName, ctx);
+                if (null != propertyMask) {
+                    ctx.setFieldMask(propertyMask);
+                }
+                try {
+                    if (null != property) {
+                        property.deserialize(ctx.newJsonReader(bufferedProperty.getValue()), bean, ctx);
+                    } else if (null != anySetterDeserializer) {
+                        anySetterDeserializer.deserialize(ctx.newJsonReader(bufferedProperty.getValue()), bean, propertyName, ctx);
+                    }
+                } finally {
+                    if (null != propertyMask) {
+                        ctx.setFieldMask(projection);
+                    }
                 }
             }
         }
     }
 
+    private Object deserializeIdentity(HasDeserializerAndParameters propertyDeserializer, String propertyName, JsonReader reader,
+                                       JsonDeserializationContext ctx) {
+        FieldMask fieldMask = ctx.getFieldMask();
+        if (fieldMask.isAll()) {
+            return propertyDeserializer.getDeserializer().deserialize(reader, ctx);
+        }
+        // the identity is read even when the mask does not select it, the references to the bean need it
+        FieldMask propertyMask = fieldMask.get(propertyName);
+        ctx.setFieldMask(null == propertyMask ? FieldMask.ALL : propertyMask);
+        try {
+            return propertyDeserializer.getDeserializer().deserialize(reader, ctx);
+        } finally {
+            ctx.setFieldMask(fieldMask);
+        }
+    }
+
     private BeanPropertyDeserializer<T, ?> getPropertyDeserializer(String propertyName, JsonDeserializationContext ctx, boolean
             ignoreUnknown) {
         BeanPropertyDeserializer<T, ?> property = deserializers.get(propertyName);
@@ -18,15 +18,18 @@ package org.dominokit.jacksonapt.deser.bean;
 
 import org.dominokit.jacksonapt.JsonDeserializer;
 
+import java.util.Set;
+
 /**
- * Lazy initialize a {@link org.dominokit.jacksonapt.JsonDeserializer}
+ * Lazy initialize a {@link org.dominokit.jacksonapt.JsonDeserializer}. The deserializer is created once, even when the
+ * first calls are concurrent, and safely published to the other threads.
  *
  * @author Nicolas Morel
  * @version $Id: $
  */
 public abstract class HasDeserializer<V, S extends JsonDeserializer<V>> {
 
-    private S deserializer;
+    private volatile S deserializer;
 
     /**
      * <p>Getter for the field <code>deserializer</code>.</p>
@@ -34,10 +37,26 @@ public abstract class HasDeserializer<V, S extends JsonDeserializer<V>> {
      * @return a S object.
      */
     public S getDeserializer() {
-        if (null == deserializer) {
-            deserializer = (S) newDeserializer();
+        S result = deserializer;
+        if (null == result) {
+            synchronized (this) {
+                result = deserializer;
+                if (null == result) {
+                    result = (S) newDeserializer();
+                    deserializer = result;
+                }
+            }
         }
-        return deserializer;
+        return result;
+    }
+
+    /**
+     * Creates the deserializer and warms it up, see {@link org.dominokit.jacksonapt.JsonDeserializer#warmUp(Set)}.
+     *
+     * @param warmedUp the bean types already warmed up
+     */
+    public void warmUp(Set<Class<?>> warmedUp) {
+        getDeserializer().warmUp(warmedUp);
     }
 
     /**
@@ -16,12 +16,15 @@
 
 package org.dominokit.jacksonapt.deser.bean;
 
+import org.dominokit.jacksonapt.FieldMask;
 import org.dominokit.jacksonapt.JacksonContextProvider;
 import org.dominokit.jacksonapt.JsonDeserializationContext;
 import org.dominokit.jacksonapt.JsonDeserializer;
 import org.dominokit.jacksonapt.JsonDeserializerParameters;
 import org.dominokit.jacksonapt.stream.JsonReader;
 
+import java.util.Set;
+
 /**
  * Lazy initialize a {@link org.dominokit.jacksonapt.JsonDeserializer}
  *
@@ -30,7 +33,7 @@ import org.dominokit.jacksonapt.stream.JsonReader;
  */
 public abstract class HasDeserializerAndParameters<V, S extends JsonDeserializer<V>> extends HasDeserializer<V, S> {
 
-    private JsonDeserializerParameters parameters;
+    private volatile JsonDeserializerParameters parameters;
 
     /**
      * <p>Getter for the field <code>parameters</code>.</p>
@@ -38,10 +41,17 @@ public abstract class HasDeserializerAndParameters<V, S extends JsonDeserializer
      * @return a {@link org.dominokit.jacksonapt.JsonDeserializerParameters} object.
      */
     protected JsonDeserializerParameters getParameters() {
-        if (null == parameters) {
-            parameters = newParameters();
+        JsonDeserializerParameters result = parameters;
+        if (null == result) {
+            synchronized (this) {
+                result = parameters;
+                if (null == result) {
+                    result = newParameters();
+                    parameters = result;
+                }
+            }
         }
-        return parameters;
+        return result;
     }
 
     /**
@@ -63,4 +73,38 @@ public abstract class HasDeserializerAndParameters<V, S extends JsonDeserializer
     public V deserialize(JsonReader reader, JsonDeserializationContext ctx) {
         return getDeserializer().deserialize(reader, ctx, getParameters());
     }
+
+    /**
+     * Deserializes the property named {@code propertyName} under its {@link org.dominokit.jacksonapt.FieldMask}. The value is
+     * skipped when the mask of the context does not select the property.
+     *
+     * @param propertyName name of the property
+     * @param reader       reader
+     * @param ctx          context of the deserialization process
+     * @return a V object, null if the property is not selected.
+     */
+    public V deserialize(String propertyName, JsonReader reader, JsonDeserializationContext ctx) {
+        FieldMask fieldMask = ctx.getFieldMask();
+        if (fieldMask.isAll()) {
+            return deserialize(reader, ctx);
+        }
+        FieldMask propertyMask = fieldMask.get(propertyName);
+        if (null == propertyMask) {
+            reader.skipValue();
+            return null;
+        }
+        ctx.setFieldMask(propertyMask);
+        try {
+            return deserialize(reader, ctx);
+        } finally {
+            ctx.setFieldMask(fieldMask);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void warmUp(Set<Class<?>> warmedUp) {
+        getParameters();
+        super.warmUp(warmedUp);
+    }
 }
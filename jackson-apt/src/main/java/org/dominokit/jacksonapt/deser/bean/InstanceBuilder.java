@@ -21,6 +21,7 @@ import org.dominokit.jacksonapt.JsonDeserializerParameters;
 import org.dominokit.jacksonapt.stream.JsonReader;
 
 import java.util.Map;
+import java.util.Set;
 
 /**
  * <p>InstanceBuilder interface.</p>
@@ -56,4 +57,13 @@ public interface InstanceBuilder<T> {
      */
     MapLike<HasDeserializerAndParameters> getParametersDeserializer();
 
+    /**
+     * Creates the deserializers of the creator parameters, or of the builder, and warms them up, see
+     * {@link org.dominokit.jacksonapt.JsonDeserializer#warmUp(Set)}.
+     *
+     * @param warmedUp the bean types already warmed up
+     */
+    default void warmUp(Set<Class<?>> warmedUp) {
+    }
+
 }
@@ -0,0 +1,228 @@
+package org.dominokit.jacksonapt.deser.bean;
+
+import org.dominokit.jacksonapt.JsonDeserializationContext;
+import org.dominokit.jacksonapt.JsonDeserializer;
+import org.dominokit.jacksonapt.deser.BaseNumberJsonDeserializer;
+import org.dominokit.jacksonapt.deser.BooleanJsonDeserializer;
+import org.dominokit.jacksonapt.stream.JsonReader;
+import org.dominokit.jacksonapt.stream.JsonToken;
+
+/**
+ * Deserializes a bean's property of a primitive type. The value is read straight from the
+ * {@link org.dominokit.jacksonapt.stream.JsonReader} and given to {@link #setPrimitiveValue}, it is never boxed nor
+ * dispatched to a {@link org.dominokit.jacksonapt.JsonDeserializer}. A null value leaves the property unchanged.
+ * {@link #setValue} still accepts the boxed value for the callers that have one, like the identity and type id
+ * properties.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public abstract class PrimitiveBeanPropertyDeserializer<T, V> extends BeanPropertyDeserializer<T, V> {
+
+    /**
+     * Property deserializer for {@code boolean}
+     */
+    public static abstract class BooleanBeanPropertyDeserializer<T> extends PrimitiveBeanPropertyDeserializer<T, Boolean> {
+
+        /**
+         * @param bean  bean to set the deserialized property to
+         * @param value the deserialized value
+         * @param ctx   context of the deserialization process
+         */
+        public abstract void setPrimitiveValue(T bean, boolean value, JsonDeserializationContext ctx);
+
+        @Override
+        public void setValue(T bean, Boolean value, JsonDeserializationContext ctx) {
+            setPrimitiveValue(bean, value, ctx);
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDeserializer() {
+            return BooleanJsonDeserializer.getInstance();
+        }
+
+        @Override
+        public void deserialize(JsonReader reader, T bean, JsonDeserializationContext ctx) {
+            JsonToken token = reader.peek();
+            if (JsonToken.BOOLEAN.equals(token)) {
+                setPrimitiveValue(bean, reader.nextBoolean(), ctx);
+            } else if (JsonToken.STRING.equals(token)) {
+                setPrimitiveValue(bean, Boolean.parseBoolean(reader.nextString()), ctx);
+            } else if (JsonToken.NUMBER.equals(token)) {
+                setPrimitiveValue(bean, reader.nextInt() == 1, ctx);
+            } else {
+                reader.skipValue();
+            }
+        }
+    }
+
+    /**
+     * Property deserializer for {@code byte}
+     */
+    public static abstract class ByteBeanPropertyDeserializer<T> extends PrimitiveBeanPropertyDeserializer<T, Byte> {
+
+        /**
+         * @param bean  bean to set the deserialized property to
+         * @param value the deserialized value
+         * @param ctx   context of the deserialization process
+         */
+        public abstract void setPrimitiveValue(T bean, byte value, JsonDeserializationContext ctx);
+
+        @Override
+        public void setValue(T bean, Byte value, JsonDeserializationContext ctx) {
+            setPrimitiveValue(bean, value, ctx);
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDeserializer() {
+            return BaseNumberJsonDeserializer.ByteJsonDeserializer.getInstance();
+        }
+
+        @Override
+        public void deserialize(JsonReader reader, T bean, JsonDeserializationContext ctx) {
+            if (isNull(reader)) {
+                reader.skipValue();
+            } else {
+                setPrimitiveValue(bean, (byte) reader.nextInt(), ctx);
+            }
+        }
+    }
+
+    /**
+     * Property deserializer for {@code short}
+     */
+    public static abstract class ShortBeanPropertyDeserializer<T> extends PrimitiveBeanPropertyDeserializer<T, Short> {
+
+        /**
+         * @param bean  bean to set the deserialized property to
+         * @param value the deserialized value
+         * @param ctx   context of the deserialization process
+         */
+        public abstract void setPrimitiveValue(T bean, short value, JsonDeserializationContext ctx);
+
+        @Override
+        public void setValue(T bean, Short value, JsonDeserializationContext ctx) {
+            setPrimitiveValue(bean, value, ctx);
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDeserializer() {
+            return BaseNumberJsonDeserializer.ShortJsonDeserializer.getInstance();
+        }
+
+        @Override
+        public void deserialize(JsonReader reader, T bean, JsonDeserializationContext ctx) {
+            JsonToken token = reader.peek();
+            if (JsonToken.NULL.equals(token)) {
+                reader.skipValue();
+            } else if (JsonToken.NUMBER.equals(token)) {
+                setPrimitiveValue(bean, (short) reader.nextInt(), ctx);
+            } else {
+                setPrimitiveValue(bean, Short.parseShort(reader.nextString()), ctx);
+            }
+        }
+    }
+
+    /**
+     * Property deserializer for {@code int}
+     */
+    public static abstract class IntBeanPropertyDeserializer<T> extends PrimitiveBeanPropertyDeserializer<T, Integer> {
+
+        /**
+         * @param bean  bean to set the deserialized property to
+         * @param value the deserialized value
+         * @param ctx   context of the deserialization process
+         */
+        public abstract void setPrimitiveValue(T bean, int value, JsonDeserializationContext ctx);
+
+        @Override
+        public void setValue(T bean, Integer value, JsonDeserializationContext ctx) {
+            setPrimitiveValue(bean, value, ctx);
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDeserializer() {
+            return BaseNumberJsonDeserializer.IntegerJsonDeserializer.getInstance();
+        }
+
+        @Override
+        public void deserialize(JsonReader reader, T bean, JsonDeserializationContext ctx) {
+            JsonToken token = reader.peek();
+            if (JsonToken.NULL.equals(token)) {
+                reader.skipValue();
+            } else if (JsonToken.NUMBER.equals(token)) {
+                setPrimitiveValue(bean, reader.nextInt(), ctx);
+            } else {
+                setPrimitiveValue(bean, Integer.parseInt(reader.nextString()), ctx);
+            }
+        }
+    }
+
+    /**
+     * Property deserializer for {@code long}
+     */
+    public static abstract class LongBeanPropertyDeserializer<T> extends PrimitiveBeanPropertyDeserializer<T, Long> {
+
+        /**
+         * @param bean  bean to set the deserialized property to
+         * @param value the deserialized value
+         * @param ctx   context of the deserialization process
+         */
+        public abstract void setPrimitiveValue(T bean, long value, JsonDeserializationContext ctx);
+
+        @Override
+        public void setValue(T bean, Long value, JsonDeserializationContext ctx) {
+            setPrimitiveValue(bean, value, ctx);
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDeserializer() {
+            return BaseNumberJsonDeserializer.LongJsonDeserializer.getInstance();
+        }
+
+        @Override
+        public void deserialize(JsonReader reader, T bean, JsonDeserializationContext ctx) {
+            if (isNull(reader)) {
+                reader.skipValue();
+            } else {
+                setPrimitiveValue(bean, reader.nextLong(), ctx);
+            }
+        }
+    }
+
+    /**
+     * Property deserializer for {@code double}
+     */
+    public static abstract class DoubleBeanPropertyDeserializer<T> extends PrimitiveBeanPropertyDeserializer<T, Double> {
+
+        /**
+         * @param bean  bean to set the deserialized property to
+         * @param value the deserialized value
+         * @param ctx   context of the deserialization process
+         */
+        public abstract void setPrimitiveValue(T bean, double value, JsonDeserializationContext ctx);
+
+        @Override
+        public void setValue(T bean, Double value, JsonDeserializationContext ctx) {
+            setPrimitiveValue(bean, value, ctx);
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDeserializer() {
+            return BaseNumberJsonDeserializer.DoubleJsonDeserializer.getInstance();
+        }
+
+        @Override
+        public void deserialize(JsonReader reader, T bean, JsonDeserializationContext ctx) {
+            if (isNull(reader)) {
+                reader.skipValue();
+            } else {
+                setPrimitiveValue(bean, reader.nextDouble(), ctx);
+            }
+        }
+    }
+
+    static boolean isNull(JsonReader reader) {
+        return JsonToken.NULL.equals(reader.peek());
+    }
+}
@@ -18,6 +18,7 @@ package org.dominokit.jacksonapt.deser.collection;
 
 import org.dominokit.jacksonapt.JsonDeserializationContext;
 import org.dominokit.jacksonapt.JsonDeserializer;
+import java.util.Set;
 
 /**
  * Base {@link org.dominokit.jacksonapt.JsonDeserializer} implementation for {@link java.lang.Iterable}.
@@ -52,4 +53,10 @@ public abstract class BaseIterableJsonDeserializer<I extends Iterable<T>, T> ext
             }
         }
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public void warmUp(Set<Class<?>> warmedUp) {
+        deserializer.warmUp(warmedUp);
+    }
 }
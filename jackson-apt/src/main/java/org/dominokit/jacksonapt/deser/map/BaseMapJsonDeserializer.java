@@ -24,6 +24,7 @@ import org.dominokit.jacksonapt.stream.JsonReader;
 import org.dominokit.jacksonapt.stream.JsonToken;
 
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Base {@link org.dominokit.jacksonapt.JsonDeserializer} implementation for {@link java.util.Map}.
@@ -96,4 +97,10 @@ public abstract class BaseMapJsonDeserializer<M extends Map<K, V>, K, V> extends
             }
         }
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public void warmUp(Set<Class<?>> warmedUp) {
+        valueDeserializer.warmUp(warmedUp);
+    }
 }
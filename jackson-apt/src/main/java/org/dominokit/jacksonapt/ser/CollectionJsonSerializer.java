@@ -22,6 +22,7 @@ import org.dominokit.jacksonapt.JsonSerializerParameters;
 import org.dominokit.jacksonapt.stream.JsonWriter;
 
 import java.util.Collection;
+import java.util.Set;
 
 /**
  * Default {@link org.dominokit.jacksonapt.JsonSerializer} implementation for {@link java.util.Collection}.
@@ -87,4 +88,10 @@ public class CollectionJsonSerializer<C extends Collection<T>, T> extends JsonSe
             writer.endArray();
         }
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public void warmUp(Set<Class<?>> warmedUp) {
+        serializer.warmUp(warmedUp);
+    }
 }
@@ -22,6 +22,7 @@ import org.dominokit.jacksonapt.JsonSerializerParameters;
 import org.dominokit.jacksonapt.stream.JsonWriter;
 
 import java.util.Iterator;
+import java.util.Set;
 
 /**
  * Default {@link org.dominokit.jacksonapt.JsonSerializer} implementation for {@link java.lang.Iterable}.
@@ -103,4 +104,10 @@ public class IterableJsonSerializer<I extends Iterable<T>, T> extends JsonSerial
             writer.endArray();
         }
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public void warmUp(Set<Class<?>> warmedUp) {
+        serializer.warmUp(warmedUp);
+    }
 }
@@ -0,0 +1,64 @@
+package org.dominokit.jacksonapt.ser;
+
+import org.dominokit.jacksonapt.JsonSerializationContext;
+import org.dominokit.jacksonapt.JsonSerializer;
+import org.dominokit.jacksonapt.JsonSerializerParameters;
+import org.dominokit.jacksonapt.Lazy;
+import org.dominokit.jacksonapt.stream.JsonWriter;
+import org.dominokit.jacksonapt.stream.RawJson;
+
+import java.util.Set;
+
+/**
+ * Default {@link org.dominokit.jacksonapt.JsonSerializer} implementation for {@link org.dominokit.jacksonapt.Lazy}. A value
+ * not decoded yet is written as it was read, without decoding it, unless the context has a
+ * {@link org.dominokit.jacksonapt.FieldMask} to apply to it.
+ *
+ * @param <T> Type of the value inside the {@link org.dominokit.jacksonapt.Lazy}
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public class LazyJsonSerializer<T> extends JsonSerializer<Lazy<T>> {
+
+    /**
+     * <p>newInstance</p>
+     *
+     * @param serializer {@link org.dominokit.jacksonapt.JsonSerializer} used to write the decoded value
+     * @param <T>        Type of the value inside the {@link org.dominokit.jacksonapt.Lazy}
+     * @return a new instance of {@link org.dominokit.jacksonapt.ser.LazyJsonSerializer}
+     */
+    public static <T> LazyJsonSerializer<T> newInstance(JsonSerializer<T> serializer) {
+        return new LazyJsonSerializer<T>(serializer);
+    }
+
+    private final JsonSerializer<T> serializer;
+
+    /**
+     * <p>Constructor for LazyJsonSerializer.</p>
+     *
+     * @param serializer {@link org.dominokit.jacksonapt.JsonSerializer} used to write the decoded value.
+     */
+    protected LazyJsonSerializer(JsonSerializer<T> serializer) {
+        if (null == serializer) {
+            throw new IllegalArgumentException("serializer cannot be null");
+        }
+        this.serializer = serializer;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void doSerialize(JsonWriter writer, Lazy<T> value, JsonSerializationContext ctx, JsonSerializerParameters params) {
+        RawJson json = value.getRawJson();
+        if (null != json && ctx.getFieldMask().isAll()) {
+            writer.rawValue(json);
+        } else {
+            serializer.serialize(writer, value.get(), ctx, params);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void warmUp(Set<Class<?>> warmedUp) {
+        serializer.warmUp(warmedUp);
+    }
+}
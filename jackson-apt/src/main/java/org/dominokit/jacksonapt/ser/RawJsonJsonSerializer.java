@@ -0,0 +1,37 @@
+package org.dominokit.jacksonapt.ser;
+
+import org.dominokit.jacksonapt.JsonSerializationContext;
+import org.dominokit.jacksonapt.JsonSerializer;
+import org.dominokit.jacksonapt.JsonSerializerParameters;
+import org.dominokit.jacksonapt.stream.JsonWriter;
+import org.dominokit.jacksonapt.stream.RawJson;
+
+/**
+ * Default {@link org.dominokit.jacksonapt.JsonSerializer} implementation for {@link org.dominokit.jacksonapt.stream.RawJson},
+ * the JSON text is written verbatim.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public class RawJsonJsonSerializer extends JsonSerializer<RawJson> {
+
+    private static final RawJsonJsonSerializer INSTANCE = new RawJsonJsonSerializer();
+
+    /**
+     * <p>getInstance</p>
+     *
+     * @return an instance of {@link org.dominokit.jacksonapt.ser.RawJsonJsonSerializer}
+     */
+    public static RawJsonJsonSerializer getInstance() {
+        return INSTANCE;
+    }
+
+    private RawJsonJsonSerializer() {
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void doSerialize(JsonWriter writer, RawJson value, JsonSerializationContext ctx, JsonSerializerParameters params) {
+        writer.rawValue(value);
+    }
+}
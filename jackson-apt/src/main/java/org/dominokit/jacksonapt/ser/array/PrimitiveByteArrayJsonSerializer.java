@@ -20,7 +20,6 @@ import org.dominokit.jacksonapt.JsonSerializationContext;
 import org.dominokit.jacksonapt.JsonSerializer;
 import org.dominokit.jacksonapt.JsonSerializerParameters;
 import org.dominokit.jacksonapt.stream.JsonWriter;
-import org.dominokit.jacksonapt.utils.Base64Utils;
 
 /**
  * Default {@link org.dominokit.jacksonapt.JsonSerializer} implementation for array of byte.
@@ -58,6 +57,6 @@ public class PrimitiveByteArrayJsonSerializer extends JsonSerializer<byte[]> {
             return;
         }
 
-        writer.unescapeValue(Base64Utils.toBase64(values));
+        writer.binaryValue(values, 0, values.length);
     }
 }
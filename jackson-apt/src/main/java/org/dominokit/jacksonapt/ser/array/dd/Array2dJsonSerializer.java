@@ -20,6 +20,7 @@ import org.dominokit.jacksonapt.JsonSerializationContext;
 import org.dominokit.jacksonapt.JsonSerializer;
 import org.dominokit.jacksonapt.JsonSerializerParameters;
 import org.dominokit.jacksonapt.stream.JsonWriter;
+import java.util.Set;
 
 /**
  * Default {@link org.dominokit.jacksonapt.JsonSerializer} implementation for 2D array.
@@ -79,4 +80,10 @@ public class Array2dJsonSerializer<T> extends JsonSerializer<T[][]> {
         }
         writer.endArray();
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public void warmUp(Set<Class<?>> warmedUp) {
+        serializer.warmUp(warmedUp);
+    }
 }
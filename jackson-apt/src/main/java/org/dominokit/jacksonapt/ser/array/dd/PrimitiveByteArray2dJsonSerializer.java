@@ -20,7 +20,6 @@ import org.dominokit.jacksonapt.JsonSerializationContext;
 import org.dominokit.jacksonapt.JsonSerializer;
 import org.dominokit.jacksonapt.JsonSerializerParameters;
 import org.dominokit.jacksonapt.stream.JsonWriter;
-import org.dominokit.jacksonapt.utils.Base64Utils;
 
 /**
  * Default {@link org.dominokit.jacksonapt.JsonSerializer} implementation for 2D array of byte.
@@ -60,7 +59,11 @@ public class PrimitiveByteArray2dJsonSerializer extends JsonSerializer<byte[][]>
 
         writer.beginArray();
         for (byte[] array : values) {
-            writer.unescapeValue(Base64Utils.toBase64(array));
+            if (null == array) {
+                writer.nullValue();
+            } else {
+                writer.binaryValue(array, 0, array.length);
+            }
         }
         writer.endArray();
     }
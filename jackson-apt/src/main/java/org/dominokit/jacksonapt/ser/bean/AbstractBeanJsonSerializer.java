@@ -16,12 +16,14 @@
 
 package org.dominokit.jacksonapt.ser.bean;
 
+import org.dominokit.jacksonapt.FieldMask;
 import org.dominokit.jacksonapt.JsonSerializationContext;
 import org.dominokit.jacksonapt.JsonSerializer;
 import org.dominokit.jacksonapt.JsonSerializerParameters;
 import org.dominokit.jacksonapt.stream.JsonWriter;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
@@ -34,6 +36,12 @@ import java.util.logging.Level;
  */
 public abstract class AbstractBeanJsonSerializer<T> extends JsonSerializer<T> implements InternalSerializer<T> {
 
+    /**
+     * Maximum number of {@link FieldMask} resolved by a serializer and kept for the next serializations. The masks usually
+     * come from requests, the others are resolved each time they are used.
+     */
+    private static final int MAX_CACHED_PROPERTY_MASKS = 64;
+
     protected final BeanPropertySerializer[] serializers;
 
     private final Map<Class, SubtypeSerializer> subtypeClassToSerializer;
@@ -44,6 +52,11 @@ public abstract class AbstractBeanJsonSerializer<T> extends JsonSerializer<T> im
 
     private final AnyGetterPropertySerializer<T> anyGetterPropertySerializer;
 
+    /**
+     * The resolved masks, replaced by a copy when a mask is added so it is read without locking.
+     */
+    private volatile Map<FieldMask, PropertyMask> propertyMasks = Collections.emptyMap();
+
     /**
      * <p>Constructor for AbstractBeanJsonSerializer.</p>
      */
@@ -108,6 +121,23 @@ public abstract class AbstractBeanJsonSerializer<T> extends JsonSerializer<T> im
      */
     public abstract Class getSerializedType();
 
+    /** {@inheritDoc} */
+    @Override
+    public void warmUp(Set<Class<?>> warmedUp) {
+        if (!warmedUp.add(getSerializedType())) {
+            return;
+        }
+        for (BeanPropertySerializer<?, ?> serializer : serializers) {
+            serializer.warmUp(warmedUp);
+        }
+        if (null != anyGetterPropertySerializer) {
+            anyGetterPropertySerializer.warmUp(warmedUp);
+        }
+        for (SubtypeSerializer<?, ?> subtypeSerializer : subtypeClassToSerializer.values()) {
+            subtypeSerializer.warmUp(warmedUp);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void doSerialize(JsonWriter writer, T value, JsonSerializationContext ctx, JsonSerializerParameters params) {
@@ -250,16 +280,89 @@ public abstract class AbstractBeanJsonSerializer<T> extends JsonSerializer<T> im
 
     private void serializeProperties(JsonWriter writer, T value, JsonSerializationContext ctx, Set<String> ignoredProperties,
                                      IdentitySerializationInfo identityInfo) {
-        for (BeanPropertySerializer<T, ?> propertySerializer : serializers) {
-            if ((null == identityInfo || !identityInfo.isProperty() || !identityInfo.getPropertyName().equals(propertySerializer
-                    .getPropertyName())) && !ignoredProperties.contains(propertySerializer.getPropertyName())) {
-                propertySerializer.serializePropertyName(writer, value, ctx);
-                propertySerializer.serialize(writer, value, ctx);
+        // the identity property is written with the id, the names are compared only when there is one or ignored properties
+        final String identityPropertyName = null != identityInfo && identityInfo.isProperty() ? identityInfo.getPropertyName() : null;
+        final boolean filtered = null != identityPropertyName || !ignoredProperties.isEmpty();
+        final FieldMask fieldMask = ctx.getFieldMask();
+
+        if (fieldMask.isAll()) {
+            for (BeanPropertySerializer<T, ?> propertySerializer : serializers) {
+                if (!filtered || isWritten(propertySerializer.getPropertyName(), identityPropertyName, ignoredProperties)) {
+                    propertySerializer.serializePropertyName(writer, value, ctx);
+                    propertySerializer.serialize(writer, value, ctx);
+                }
+            }
+        } else {
+            final PropertyMask propertyMask = getPropertyMask(fieldMask);
+            for (int i = 0; i < serializers.length; i++) {
+                if (!propertyMask.isSelected(i)) {
+                    continue;
+                }
+                BeanPropertySerializer<T, ?> propertySerializer = serializers[i];
+                if (!filtered || isWritten(propertySerializer.getPropertyName(), identityPropertyName, ignoredProperties)) {
+                    propertySerializer.serializePropertyName(writer, value, ctx);
+                    ctx.setFieldMask(propertyMask.getFieldMask(i));
+                    try {
+                        propertySerializer.serialize(writer, value, ctx);
+                    } finally {
+                        ctx.setFieldMask(fieldMask);
+                    }
+                }
             }
         }
 
+        // the names of the any getter entries are not known in advance, they are not filtered by the mask
         if (null != anyGetterPropertySerializer) {
             anyGetterPropertySerializer.serialize(writer, value, ctx);
         }
     }
+
+    private static boolean isWritten(String propertyName, String identityPropertyName, Set<String> ignoredProperties) {
+        return !propertyName.equals(identityPropertyName) && !ignoredProperties.contains(propertyName);
+    }
+
+    private PropertyMask getPropertyMask(FieldMask fieldMask) {
+        Map<FieldMask, PropertyMask> masks = propertyMasks;
+        PropertyMask propertyMask = masks.get(fieldMask);
+        if (null == propertyMask) {
+            propertyMask = new PropertyMask(serializers, fieldMask);
+            if (masks.size() < MAX_CACHED_PROPERTY_MASKS) {
+                Map<FieldMask, PropertyMask> copy = new HashMap<FieldMask, PropertyMask>(masks);
+                copy.put(fieldMask, propertyMask);
+                propertyMasks = copy;
+            }
+        }
+        return propertyMask;
+    }
+
+    /**
+     * A {@link FieldMask} resolved against the properties of the bean: one bit per property, in the order of
+     * {@link #serializers}, and the masks of the selected properties.
+     */
+    private static final class PropertyMask {
+
+        private final int[] bits;
+
+        private final FieldMask[] fieldMasks;
+
+        private PropertyMask(BeanPropertySerializer[] serializers, FieldMask fieldMask) {
+            this.bits = new int[(serializers.length + 31) >>> 5];
+            this.fieldMasks = new FieldMask[serializers.length];
+            for (int i = 0; i < serializers.length; i++) {
+                FieldMask propertyFieldMask = fieldMask.get(serializers[i].getPropertyName());
+                if (null != propertyFieldMask) {
+                    bits[i >>> 5] |= 1 << (i & 31);
+                    fieldMasks[i] = propertyFieldMask;
+                }
+            }
+        }
+
+        private boolean isSelected(int index) {
+            return (bits[index >>> 5] & (1 << (index & 31))) != 0;
+        }
+
+        private FieldMask getFieldMask(int index) {
+            return fieldMasks[index];
+        }
+    }
 }
@@ -22,6 +22,8 @@ import org.dominokit.jacksonapt.JsonSerializer;
 import org.dominokit.jacksonapt.JsonSerializerParameters;
 import org.dominokit.jacksonapt.stream.JsonWriter;
 
+import java.util.Set;
+
 /**
  * Serializes a bean's property
  *
@@ -32,7 +34,7 @@ public abstract class BeanPropertySerializer<T, V> extends HasSerializer<V, Json
 
     protected final String propertyName;
 
-    private JsonSerializerParameters parameters;
+    private volatile JsonSerializerParameters parameters;
 
     /**
      * <p>Constructor for BeanPropertySerializer.</p>
@@ -49,10 +51,24 @@ public abstract class BeanPropertySerializer<T, V> extends HasSerializer<V, Json
      * @return a {@link org.dominokit.jacksonapt.JsonSerializerParameters} object.
      */
     protected JsonSerializerParameters getParameters() {
-        if (null == parameters) {
-            parameters = newParameters();
+        JsonSerializerParameters result = parameters;
+        if (null == result) {
+            synchronized (this) {
+                result = parameters;
+                if (null == result) {
+                    result = newParameters();
+                    parameters = result;
+                }
+            }
         }
-        return parameters;
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void warmUp(Set<Class<?>> warmedUp) {
+        getParameters();
+        super.warmUp(warmedUp);
     }
 
     /**
@@ -18,15 +18,18 @@ package org.dominokit.jacksonapt.ser.bean;
 
 import org.dominokit.jacksonapt.JsonSerializer;
 
+import java.util.Set;
+
 /**
- * Lazy initialize a {@link org.dominokit.jacksonapt.JsonSerializer}
+ * Lazy initialize a {@link org.dominokit.jacksonapt.JsonSerializer}. The serializer is created once, even when the first
+ * calls are concurrent, and safely published to the other threads.
  *
  * @author Nicolas Morel
  * @version $Id: $
  */
 public abstract class HasSerializer<V, S extends JsonSerializer<V>> {
 
-    private S serializer;
+    private volatile S serializer;
 
     /**
      * <p>Getter for the field <code>serializer</code>.</p>
@@ -34,10 +37,26 @@ public abstract class HasSerializer<V, S extends JsonSerializer<V>> {
      * @return a S object.
      */
     protected S getSerializer() {
-        if (null == serializer) {
-            serializer = (S) newSerializer();
+        S result = serializer;
+        if (null == result) {
+            synchronized (this) {
+                result = serializer;
+                if (null == result) {
+                    result = (S) newSerializer();
+                    serializer = result;
+                }
+            }
         }
-        return serializer;
+        return result;
+    }
+
+    /**
+     * Creates the serializer and warms it up, see {@link org.dominokit.jacksonapt.JsonSerializer#warmUp(Set)}.
+     *
+     * @param warmedUp the bean types already warmed up
+     */
+    public void warmUp(Set<Class<?>> warmedUp) {
+        getSerializer().warmUp(warmedUp);
     }
 
     /**
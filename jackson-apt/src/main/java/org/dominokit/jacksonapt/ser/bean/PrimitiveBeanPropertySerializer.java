@@ -0,0 +1,249 @@
+package org.dominokit.jacksonapt.ser.bean;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.dominokit.jacksonapt.JsonSerializationContext;
+import org.dominokit.jacksonapt.JsonSerializer;
+import org.dominokit.jacksonapt.ser.BaseNumberJsonSerializer;
+import org.dominokit.jacksonapt.ser.BooleanJsonSerializer;
+import org.dominokit.jacksonapt.stream.JsonWriter;
+
+/**
+ * Serializes a bean's property of a primitive type. The value is read with {@link #getPrimitiveValue} and written
+ * straight to the {@link org.dominokit.jacksonapt.stream.JsonWriter}, it is never boxed nor dispatched to a
+ * {@link org.dominokit.jacksonapt.JsonSerializer}. {@link #getValue} still returns the boxed value for the callers that
+ * need it, like the identity serialization.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public abstract class PrimitiveBeanPropertySerializer<T, V> extends BeanPropertySerializer<T, V> {
+
+    /**
+     * Property serializer for {@code boolean}
+     */
+    public static abstract class BooleanBeanPropertySerializer<T> extends PrimitiveBeanPropertySerializer<T, Boolean> {
+
+        protected BooleanBeanPropertySerializer(String propertyName) {
+            super(propertyName);
+        }
+
+        /**
+         * @param bean bean containing the property to serialize
+         * @param ctx  context of the serialization process
+         * @return the property's value
+         */
+        public abstract boolean getPrimitiveValue(T bean, JsonSerializationContext ctx);
+
+        @Override
+        public Boolean getValue(T bean, JsonSerializationContext ctx) {
+            return getPrimitiveValue(bean, ctx);
+        }
+
+        @Override
+        protected JsonSerializer<?> newSerializer() {
+            return BooleanJsonSerializer.getInstance();
+        }
+
+        @Override
+        public void serialize(JsonWriter writer, T bean, JsonSerializationContext ctx) {
+            boolean value = getPrimitiveValue(bean, ctx);
+            if (!value && isNonDefault()) {
+                writer.cancelName();
+            } else {
+                writer.value(value);
+            }
+        }
+    }
+
+    /**
+     * Property serializer for {@code byte}
+     */
+    public static abstract class ByteBeanPropertySerializer<T> extends PrimitiveBeanPropertySerializer<T, Byte> {
+
+        protected ByteBeanPropertySerializer(String propertyName) {
+            super(propertyName);
+        }
+
+        /**
+         * @param bean bean containing the property to serialize
+         * @param ctx  context of the serialization process
+         * @return the property's value
+         */
+        public abstract byte getPrimitiveValue(T bean, JsonSerializationContext ctx);
+
+        @Override
+        public Byte getValue(T bean, JsonSerializationContext ctx) {
+            return getPrimitiveValue(bean, ctx);
+        }
+
+        @Override
+        protected JsonSerializer<?> newSerializer() {
+            return BaseNumberJsonSerializer.ByteJsonSerializer.getInstance();
+        }
+
+        @Override
+        public void serialize(JsonWriter writer, T bean, JsonSerializationContext ctx) {
+            serializeLong(writer, getPrimitiveValue(bean, ctx));
+        }
+    }
+
+    /**
+     * Property serializer for {@code short}
+     */
+    public static abstract class ShortBeanPropertySerializer<T> extends PrimitiveBeanPropertySerializer<T, Short> {
+
+        protected ShortBeanPropertySerializer(String propertyName) {
+            super(propertyName);
+        }
+
+        /**
+         * @param bean bean containing the property to serialize
+         * @param ctx  context of the serialization process
+         * @return the property's value
+         */
+        public abstract short getPrimitiveValue(T bean, JsonSerializationContext ctx);
+
+        @Override
+        public Short getValue(T bean, JsonSerializationContext ctx) {
+            return getPrimitiveValue(bean, ctx);
+        }
+
+        @Override
+        protected JsonSerializer<?> newSerializer() {
+            return BaseNumberJsonSerializer.ShortJsonSerializer.getInstance();
+        }
+
+        @Override
+        public void serialize(JsonWriter writer, T bean, JsonSerializationContext ctx) {
+            serializeLong(writer, getPrimitiveValue(bean, ctx));
+        }
+    }
+
+    /**
+     * Property serializer for {@code int}
+     */
+    public static abstract class IntBeanPropertySerializer<T> extends PrimitiveBeanPropertySerializer<T, Integer> {
+
+        protected IntBeanPropertySerializer(String propertyName) {
+            super(propertyName);
+        }
+
+        /**
+         * @param bean bean containing the property to serialize
+         * @param ctx  context of the serialization process
+         * @return the property's value
+         */
+        public abstract int getPrimitiveValue(T bean, JsonSerializationContext ctx);
+
+        @Override
+        public Integer getValue(T bean, JsonSerializationContext ctx) {
+            return getPrimitiveValue(bean, ctx);
+        }
+
+        @Override
+        protected JsonSerializer<?> newSerializer() {
+            return BaseNumberJsonSerializer.IntegerJsonSerializer.getInstance();
+        }
+
+        @Override
+        public void serialize(JsonWriter writer, T bean, JsonSerializationContext ctx) {
+            serializeLong(writer, getPrimitiveValue(bean, ctx));
+        }
+    }
+
+    /**
+     * Property serializer for {@code long}
+     */
+    public static abstract class LongBeanPropertySerializer<T> extends PrimitiveBeanPropertySerializer<T, Long> {
+
+        protected LongBeanPropertySerializer(String propertyName) {
+            super(propertyName);
+        }
+
+        /**
+         * @param bean bean containing the property to serialize
+         * @param ctx  context of the serialization process
+         * @return the property's value
+         */
+        public abstract long getPrimitiveValue(T bean, JsonSerializationContext ctx);
+
+        @Override
+        public Long getValue(T bean, JsonSerializationContext ctx) {
+            return getPrimitiveValue(bean, ctx);
+        }
+
+        @Override
+        protected JsonSerializer<?> newSerializer() {
+            return BaseNumberJsonSerializer.LongJsonSerializer.getInstance();
+        }
+
+        @Override
+        public void serialize(JsonWriter writer, T bean, JsonSerializationContext ctx) {
+            serializeLong(writer, getPrimitiveValue(bean, ctx));
+        }
+    }
+
+    /**
+     * Property serializer for {@code double}
+     */
+    public static abstract class DoubleBeanPropertySerializer<T> extends PrimitiveBeanPropertySerializer<T, Double> {
+
+        protected DoubleBeanPropertySerializer(String propertyName) {
+            super(propertyName);
+        }
+
+        /**
+         * @param bean bean containing the property to serialize
+         * @param ctx  context of the serialization process
+         * @return the property's value
+         */
+        public abstract double getPrimitiveValue(T bean, JsonSerializationContext ctx);
+
+        @Override
+        public Double getValue(T bean, JsonSerializationContext ctx) {
+            return getPrimitiveValue(bean, ctx);
+        }
+
+        @Override
+        protected JsonSerializer<?> newSerializer() {
+            return BaseNumberJsonSerializer.DoubleJsonSerializer.getInstance();
+        }
+
+        @Override
+        public void serialize(JsonWriter writer, T bean, JsonSerializationContext ctx) {
+            double value = getPrimitiveValue(bean, ctx);
+            if (value == 0d && isNonDefault()) {
+                writer.cancelName();
+            } else {
+                writer.value(value);
+            }
+        }
+    }
+
+    /**
+     * <p>Constructor for PrimitiveBeanPropertySerializer.</p>
+     *
+     * @param propertyName a {@link java.lang.String} object.
+     */
+    protected PrimitiveBeanPropertySerializer(String propertyName) {
+        super(propertyName);
+    }
+
+    /**
+     * A primitive is never null nor empty, {@link com.fasterxml.jackson.annotation.JsonInclude.Include#NON_DEFAULT} is
+     * the only inclusion that can skip it.
+     *
+     * @return true if the property is skipped when it has the default value of its type
+     */
+    protected boolean isNonDefault() {
+        return JsonInclude.Include.NON_DEFAULT == getParameters().getInclude();
+    }
+
+    void serializeLong(JsonWriter writer, long value) {
+        if (value == 0 && isNonDefault()) {
+            writer.cancelName();
+        } else {
+            writer.value(value);
+        }
+    }
+}
@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.Set;
 
 /**
  * Default {@link org.dominokit.jacksonapt.JsonSerializer} implementation for {@link java.util.Map}.
@@ -132,4 +133,10 @@ public class MapJsonSerializer<M extends Map<K, V>, K, V> extends JsonSerializer
             }
         }
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public void warmUp(Set<Class<?>> warmedUp) {
+        valueSerializer.warmUp(warmedUp);
+    }
 }
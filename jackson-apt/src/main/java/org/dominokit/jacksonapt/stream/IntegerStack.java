@@ -0,0 +1,26 @@
+package org.dominokit.jacksonapt.stream;
+
+/**
+ * <p>IntegerStack interface.</p>
+ * Stack of primitive ints used to track the nesting scopes of readers and writers without boxing.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public interface IntegerStack {
+    /**
+     * <p>setAt.</p>
+     *
+     * @param index a int.
+     * @param value a int.
+     */
+    void setAt(int index, int value);
+
+    /**
+     * <p>getAt.</p>
+     *
+     * @param index a int.
+     * @return a int.
+     */
+    int getAt(int index);
+}
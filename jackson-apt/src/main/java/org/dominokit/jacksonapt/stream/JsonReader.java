@@ -16,6 +16,10 @@
 
 package org.dominokit.jacksonapt.stream;
 
+import org.dominokit.jacksonapt.utils.Base64Utils;
+
+import java.math.BigDecimal;
+
 /**
  * <p>JsonReader interface.</p>
  *
@@ -104,6 +108,22 @@ public interface JsonReader {
      */
     String nextName();
 
+    /**
+     * Looks up the next token, a {@link org.dominokit.jacksonapt.stream.JsonToken#NAME property name}, in {@code names}
+     * without creating a {@link java.lang.String}, and consumes it when it is found.
+     * <p>
+     * When the name is not one of {@code names}, or cannot be matched in place (escaped, not double quoted...), -1 is returned
+     * and the name is not consumed, {@link #nextName()} has to be used to read it.
+     * </p>
+     *
+     * @param names the known names.
+     * @return the index of the name in {@code names}, or -1. Returns -1 by default, so the name is read with
+     * {@link #nextName()}.
+     */
+    default int nextNameIndex(PropertyNameIndex names) {
+        return -1;
+    }
+
     /**
      * Returns the {@link org.dominokit.jacksonapt.stream.JsonToken#STRING string} value of the next token,
      * consuming it. If the next token is a number, this method will return its
@@ -115,6 +135,19 @@ public interface JsonReader {
      */
     String nextString();
 
+    /**
+     * Returns the bytes encoded in base64 by the {@link org.dominokit.jacksonapt.stream.JsonToken#STRING string} value of
+     * the next token, consuming it. The characters are decoded straight from the input without creating a
+     * {@link java.lang.String} when the value has no escaped character. By default, {@link #nextString()} is decoded.
+     *
+     * @return the decoded bytes.
+     * @throws java.lang.IllegalStateException if the next token is not a string or if
+     *                               this reader is closed.
+     */
+    default byte[] nextBinary() {
+        return Base64Utils.fromBase64(nextString());
+    }
+
     /**
      * Returns the {@link org.dominokit.jacksonapt.stream.JsonToken#BOOLEAN boolean} value of the next token,
      * consuming it.
@@ -146,6 +179,37 @@ public interface JsonReader {
      */
     double nextDouble();
 
+    /**
+     * Returns the {@link org.dominokit.jacksonapt.stream.JsonToken#NUMBER float} value of the next token,
+     * consuming it. If the next token is a string, this method will attempt to
+     * parse it as a float using {@link java.lang.Float#parseFloat(String)}. A number
+     * too large for a float is returned as an infinity, like {@link java.lang.Float#parseFloat(String)}. By default,
+     * {@link #nextString()} is parsed.
+     *
+     * @return a float.
+     * @throws java.lang.IllegalStateException if the next token is not a literal value.
+     * @throws java.lang.NumberFormatException if the next literal value cannot be parsed
+     *                               as a float.
+     */
+    default float nextFloat() {
+        return Float.parseFloat(nextString());
+    }
+
+    /**
+     * Returns the {@link org.dominokit.jacksonapt.stream.JsonToken#NUMBER decimal} value of the next token,
+     * consuming it, with the digits and scale written in the JSON. If the next token is a string, this method
+     * will attempt to parse it using {@link java.math.BigDecimal#BigDecimal(String)}. By default, {@link #nextString()}
+     * is parsed.
+     *
+     * @return a {@link java.math.BigDecimal} object.
+     * @throws java.lang.IllegalStateException if the next token is not a literal value.
+     * @throws java.lang.NumberFormatException if the next literal value cannot be parsed
+     *                               as a decimal.
+     */
+    default BigDecimal nextBigDecimal() {
+        return new BigDecimal(nextString());
+    }
+
     /**
      * Returns the {@link org.dominokit.jacksonapt.stream.JsonToken#NUMBER long} value of the next token,
      * consuming it. If the next token is a string, this method will attempt to
@@ -192,6 +256,47 @@ public interface JsonReader {
      */
     String nextValue();
 
+    /**
+     * Returns the next value as its JSON text, consuming it. If it is an object or array, all nested elements are
+     * consumed. Unlike {@link #nextValue()}, the tokens are only skipped, the text is the exact slice of the input
+     * containing the value, it is shared with a {@link java.lang.String} input and not copied. By default, the text
+     * returned by {@link #nextValue()} is wrapped.
+     *
+     * @return a {@link org.dominokit.jacksonapt.stream.RawJson} object.
+     */
+    default RawJson nextRawValue() {
+        return RawJson.of(nextValue());
+    }
+
+    /**
+     * <p>markSupported</p>
+     *
+     * @return true if {@link #mark()} and {@link #reset()} are supported by this reader, false by default.
+     */
+    default boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Marks the current position in the input. A following call to {@link #reset()} moves the reader back to this position,
+     * so the tokens read since are read again without being buffered. Only the last mark is kept, and the reader must not
+     * leave the object or array containing the mark before it is reset.
+     *
+     * @throws java.lang.UnsupportedOperationException if marks are not supported by this reader
+     */
+    default void mark() {
+        throw new UnsupportedOperationException("mark");
+    }
+
+    /**
+     * Moves the reader back to the position of the last {@link #mark()} and clears the mark.
+     *
+     * @throws java.lang.IllegalStateException if the reader has not been marked
+     */
+    default void reset() {
+        throw new IllegalStateException("Reader not marked");
+    }
+
     /**
      * <p>getLineNumber</p>
      *
@@ -16,6 +16,8 @@
 
 package org.dominokit.jacksonapt.stream;
 
+import org.dominokit.jacksonapt.utils.Base64Utils;
+
 /**
  * <p>JsonWriter interface.</p>
  *
@@ -127,6 +129,25 @@ public interface JsonWriter {
      */
     JsonWriter unescapeValue(String value);
 
+    /**
+     * Encodes {@code length} bytes of {@code value} starting at {@code offset} as a base64 string, the bytes are encoded
+     * straight into the output. By default, they are encoded into a {@link java.lang.String} written with
+     * {@link #value(String)}.
+     *
+     * @param value  the bytes to encode, or null to encode a null literal.
+     * @param offset index of the first byte to encode.
+     * @param length number of bytes to encode.
+     * @return this writer.
+     */
+    default JsonWriter binaryValue(byte[] value, int offset, int length) {
+        if (null == value) {
+            return nullValue();
+        }
+        char[] chars = new char[Base64Utils.encodedLength(length)];
+        Base64Utils.encode(value, offset, length, chars, 0);
+        return value(new String(chars));
+    }
+
     /**
      * Encodes {@code null}.
      *
@@ -183,6 +204,21 @@ public interface JsonWriter {
      */
     JsonWriter rawValue(Object value);
 
+    /**
+     * Writes the JSON text of {@code value} verbatim, it is not validated nor escaped. By default, the text is written
+     * with {@link #rawValue(Object)}.
+     *
+     * @param value a value read with {@link org.dominokit.jacksonapt.stream.JsonReader#nextRawValue()} or created from a
+     *              JSON text, null writes a JSON {@code null}.
+     * @return this writer.
+     */
+    default JsonWriter rawValue(RawJson value) {
+        if (null == value) {
+            return nullValue();
+        }
+        return rawValue((Object) value.toString());
+    }
+
     /**
      * Ensures all buffered data is written to the underlying {@link java.lang.StringBuilder}
      * and flushes that writer.
@@ -0,0 +1,152 @@
+package org.dominokit.jacksonapt.stream;
+
+/**
+ * Immutable index of the known property names of a bean, built once per deserializer. A name is matched straight from
+ * the characters of the input using the same hash as {@link java.lang.String#hashCode()}, so a known property is
+ * resolved without creating a {@link java.lang.String}. The table size is chosen so that the names do not collide,
+ * a lookup is then a single probe and one comparison.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public final class PropertyNameIndex {
+
+    private static final int MAX_TABLE_GROWTH = 32;
+
+    private final String[] names;
+
+    /**
+     * Open addressing table, holds the index of the name plus one, 0 for an empty slot.
+     */
+    private final int[] table;
+
+    private final int mask;
+
+    /**
+     * <p>Constructor for PropertyNameIndex.</p>
+     *
+     * @param names the property names, the position of a name is the index returned when it is matched.
+     */
+    public PropertyNameIndex(String... names) {
+        this.names = names;
+
+        int size = 2;
+        while (size < names.length * 2) {
+            size <<= 1;
+        }
+        // look for a collision free size, when there is none we keep the biggest table and probe linearly
+        int maxSize = size * MAX_TABLE_GROWTH;
+        while (size < maxSize && !isPerfect(names, size - 1)) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.table = new int[size];
+        for (int i = 0; i < names.length; i++) {
+            int slot = names[i].hashCode() & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+    }
+
+    private static boolean isPerfect(String[] names, int mask) {
+        boolean[] used = new boolean[mask + 1];
+        for (String name : names) {
+            int slot = name.hashCode() & mask;
+            if (used[slot]) {
+                return false;
+            }
+            used[slot] = true;
+        }
+        return true;
+    }
+
+    /**
+     * <p>size.</p>
+     *
+     * @return the number of names.
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * <p>getName.</p>
+     *
+     * @param index index of the name.
+     * @return the name at the index.
+     */
+    public String getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * <p>indexOf.</p>
+     *
+     * @param name the name to look for.
+     * @return the index of the name, or -1 if it is unknown.
+     */
+    public int indexOf(String name) {
+        return indexOf(name, 0, name.length());
+    }
+
+    /**
+     * <p>indexOf.</p>
+     *
+     * @param in    a string containing the name to look for.
+     * @param start index of the first character of the name.
+     * @param end   index after the last character of the name.
+     * @return the index of the name, or -1 if it is unknown.
+     */
+    public int indexOf(String in, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + in.charAt(i);
+        }
+        int length = end - start;
+        for (int slot = hash & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            String name = names[index];
+            if (name.length() == length && in.regionMatches(start, name, 0, length)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * <p>indexOf.</p>
+     *
+     * @param chars a buffer containing the name to look for.
+     * @param start index of the first character of the name.
+     * @param end   index after the last character of the name.
+     * @return the index of the name, or -1 if it is unknown.
+     */
+    public int indexOf(char[] chars, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int length = end - start;
+        for (int slot = hash & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            if (matches(names[index], chars, start, length)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matches(String name, char[] chars, int start, int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != chars[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,141 @@
+package org.dominokit.jacksonapt.stream;
+
+/**
+ * A JSON value kept as its source text, it is read with {@link org.dominokit.jacksonapt.stream.JsonReader#nextRawValue()}
+ * and written back verbatim with {@link org.dominokit.jacksonapt.stream.JsonWriter#rawValue(RawJson)}, without decoding
+ * nor encoding its tokens.
+ * <p>
+ * A value read from a {@link java.lang.String} input is a slice of that input: it does not copy the characters, but keeps
+ * the whole input in memory as long as it is referenced. {@link #toString()} copies the characters of the slice once.
+ * </p>
+ * No validation is done, the text must be a single well-formed JSON value.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public final class RawJson {
+
+    /**
+     * The JSON {@code null} literal.
+     */
+    public static final RawJson NULL = of("null");
+
+    /**
+     * <p>of</p>
+     *
+     * @param json the JSON text of the value
+     * @return a {@link org.dominokit.jacksonapt.stream.RawJson} object.
+     */
+    public static RawJson of(String json) {
+        if (json == null) {
+            throw new NullPointerException("json == null");
+        }
+        RawJson raw = new RawJson(json, 0, json.length());
+        raw.text = json;
+        return raw;
+    }
+
+    /**
+     * <p>of</p>
+     *
+     * @param source the text containing the value
+     * @param start  index of the first character of the value
+     * @param end    index after the last character of the value
+     * @return a {@link org.dominokit.jacksonapt.stream.RawJson} object sharing the characters of {@code source}.
+     */
+    public static RawJson of(String source, int start, int end) {
+        if (source == null) {
+            throw new NullPointerException("source == null");
+        }
+        if (start < 0 || end > source.length() || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + source.length());
+        }
+        return new RawJson(source, start, end);
+    }
+
+    private final String source;
+    private final int start;
+    private final int end;
+
+    private String text;
+
+    private RawJson(String source, int start, int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * <p>getSource</p>
+     *
+     * @return the text containing the value, see {@link #getStart()} and {@link #getEnd()}
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * <p>getStart</p>
+     *
+     * @return the index of the first character of the value in {@link #getSource()}
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * <p>getEnd</p>
+     *
+     * @return the index after the last character of the value in {@link #getSource()}
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * <p>length</p>
+     *
+     * @return the number of characters of the value
+     */
+    public int length() {
+        return end - start;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RawJson)) {
+            return false;
+        }
+        RawJson other = (RawJson) o;
+        return length() == other.length() && source.regionMatches(start, other.source, other.start, length());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + source.charAt(i);
+        }
+        return hash;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the JSON text of the value
+     */
+    @Override
+    public String toString() {
+        String result = text;
+        if (result == null) {
+            result = source.substring(start, end);
+            text = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,28 @@
+package org.dominokit.jacksonapt.stream.impl;
+
+/**
+ * Source of characters consumed by {@link org.dominokit.jacksonapt.stream.impl.DefaultJsonReader}.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public interface CharacterReader {
+
+    /**
+     * Reads characters into a portion of an array.
+     *
+     * @param cbuf Destination buffer
+     * @param off  Offset at which to start writing characters
+     * @param len  Maximum number of characters to read
+     * @return The number of characters read, or -1 if the end of the
+     * stream has been reached
+     */
+    int read(char cbuf[], int off, int len);
+
+    /**
+     * <p>getInput</p>
+     *
+     * @return the whole input as a {@link java.lang.String}, used when tracing errors.
+     */
+    String getInput();
+}
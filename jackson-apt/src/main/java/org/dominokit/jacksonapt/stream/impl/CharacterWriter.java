@@ -0,0 +1,77 @@
+package org.dominokit.jacksonapt.stream.impl;
+
+/**
+ * Destination of the characters produced by {@link org.dominokit.jacksonapt.stream.impl.DefaultJsonWriter}.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public interface CharacterWriter {
+
+    /**
+     * Appends a single character.
+     *
+     * @param c the character to append
+     */
+    void append(char c);
+
+    /**
+     * Appends a string.
+     *
+     * @param s the string to append
+     */
+    void append(String s);
+
+    /**
+     * Appends the characters of {@code s} between {@code start} inclusive and {@code end} exclusive.
+     *
+     * @param s     the string to append from
+     * @param start index of the first character to append
+     * @param end   index after the last character to append
+     */
+    void append(String s, int start, int end);
+
+    /**
+     * Appends the characters of {@code chars} between {@code start} inclusive and {@code end} exclusive.
+     *
+     * @param chars the characters to append from
+     * @param start index of the first character to append
+     * @param end   index after the last character to append
+     */
+    void append(char[] chars, int start, int end);
+
+    /**
+     * Appends the decimal representation of {@code value}, the same characters as {@link java.lang.Long#toString(long)}.
+     *
+     * @param value the value to append
+     */
+    void append(long value);
+
+    /**
+     * Appends the shortest decimal representation of {@code value} that reads back to the same double, the same
+     * characters as {@link java.lang.Double#toString(double)}.
+     *
+     * @param value the value to append
+     */
+    void append(double value);
+
+    /**
+     * Appends the shortest decimal representation of {@code value} that reads back to the same float, the same
+     * characters as {@link java.lang.Float#toString(float)}.
+     *
+     * @param value the value to append
+     */
+    void append(float value);
+
+    /**
+     * Writes any buffered output to the underlying destination.
+     */
+    void flush();
+
+    /**
+     * <p>getOutput</p>
+     *
+     * @return the output written so far as a {@link java.lang.String}, used to return the result and when tracing errors.
+     */
+    String getOutput();
+}
@@ -20,10 +20,15 @@ package org.dominokit.jacksonapt.stream.impl;
 import org.dominokit.jacksonapt.JacksonContextProvider;
 import org.dominokit.jacksonapt.exception.JsonDeserializationException;
 import org.dominokit.jacksonapt.stream.JsonToken;
+import org.dominokit.jacksonapt.stream.PropertyNameIndex;
+import org.dominokit.jacksonapt.stream.RawJson;
 import org.dominokit.jacksonapt.stream.JsonWriter;
-import org.dominokit.jacksonapt.stream.Stack;
+import org.dominokit.jacksonapt.stream.IntegerStack;
+import org.dominokit.jacksonapt.utils.Base64Utils;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -200,7 +205,19 @@ public class DefaultJsonReader implements org.dominokit.jacksonapt.stream.JsonRe
      * The only non-execute prefix this parser permits
      */
     private static final char[] NON_EXECUTE_PREFIX = ")]}'\n".toCharArray();
+
+    /**
+     * Default size of the character buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    /**
+     * Smallest accepted size of the character buffer, it must hold the longest keyword or escape sequence.
+     */
+    public static final int MIN_BUFFER_SIZE = 16;
+
     private static final long MIN_INCOMPLETE_INTEGER = Long.MIN_VALUE / 10;
+    private static final int MAX_UNESCAPE_BUFFER_LENGTH = 4096;
 
     private final static long MIN_INT_L = (long) Integer.MIN_VALUE;
     private final static long MAX_INT_L = (long) Integer.MAX_VALUE;
@@ -246,7 +263,7 @@ public class DefaultJsonReader implements org.dominokit.jacksonapt.stream.JsonRe
     /**
      * The input JSON.
      */
-    private final StringReader in;
+    private final CharacterReader in;
 
     /**
      * True to accept non-spec compliant JSON
@@ -259,7 +276,7 @@ public class DefaultJsonReader implements org.dominokit.jacksonapt.stream.JsonRe
      * We decode literals directly out of this buffer, so it must be at least as
      * long as the longest token that can be reported as a number.
      */
-    private final char[] buffer = new char[1024];
+    private final char[] buffer;
     private int pos = 0;
     private int limit = 0;
 
@@ -287,10 +304,28 @@ public class DefaultJsonReader implements org.dominokit.jacksonapt.stream.JsonRe
      */
     private String peekedString;
 
+    /**
+     * Parses the peeked number literals in place.
+     */
+    private final NumberParser numberParser = new NumberParser();
+
+    /**
+     * Unescapes the strings containing escape sequences or longer than the buffer, it is reused by every such string
+     * of the reader. The other strings are created from the buffer in one step and never use it.
+     */
+    private StringBuilder unescapeBuffer;
+
+    /*
+     * Index in the buffer of the first character of the value read by nextRawValue(), -1 when no value is being read.
+     * The characters of that value discarded by fillBuffer() are kept in rawValueBuffer.
+     */
+    private int rawValueStart = -1;
+    private StringBuilder rawValueBuffer;
+
     /*
      * The nesting stack. Using a manual array rather than an ArrayList saves 20%.
      */
-    private Stack<Integer> stack = JacksonContextProvider.get().integerStackFactory().make();
+    private IntegerStack stack = JacksonContextProvider.get().integerStackFactory().makeIntegerStack();
     private int stackSize = 0;
 
     {
@@ -300,13 +335,27 @@ public class DefaultJsonReader implements org.dominokit.jacksonapt.stream.JsonRe
     /**
      * Creates a new instance that reads a JSON-encoded stream from {@code in}.
      *
-     * @param in a {@link org.dominokit.jacksonapt.stream.impl.StringReader} object.
+     * @param in a {@link org.dominokit.jacksonapt.stream.impl.CharacterReader} object.
      */
-    public DefaultJsonReader(StringReader in) {
+    public DefaultJsonReader(CharacterReader in) {
+        this(in, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new instance that reads a JSON-encoded stream from {@code in}, buffering at most {@code bufferSize} characters.
+     *
+     * @param in         a {@link org.dominokit.jacksonapt.stream.impl.CharacterReader} object.
+     * @param bufferSize size of the character buffer, numbers longer than this are only readable in lenient mode.
+     */
+    public DefaultJsonReader(CharacterReader in, int bufferSize) {
         if (in == null) {
             throw new NullPointerException("in == null");
         }
+        if (bufferSize < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("bufferSize must be at least " + MIN_BUFFER_SIZE + " but was " + bufferSize);
+        }
         this.in = in;
+        this.buffer = new char[bufferSize];
     }
 
     /** {@inheritDoc} */
@@ -719,6 +768,8 @@ public class DefaultJsonReader implements org.dominokit.jacksonapt.stream.JsonRe
         // We've read a complete number. Decide if it's a PEEKED_LONG or a PEEKED_NUMBER.
         if (last == NUMBER_CHAR_DIGIT && fitsInLong && (value != Long.MIN_VALUE || negative)) {
             peekedLong = negative ? value : -value;
+            // kept to find the start of the number in nextRawValue()
+            peekedNumberLength = i;
             pos += i;
             return peeked = PEEKED_LONG;
         } else if (last == NUMBER_CHAR_DIGIT || last == NUMBER_CHAR_FRACTION_DIGIT
@@ -777,6 +828,46 @@ public class DefaultJsonReader implements org.dominokit.jacksonapt.stream.JsonRe
         return result;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public int nextNameIndex(PropertyNameIndex names) {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+        if (p != PEEKED_DOUBLE_QUOTED_NAME) {
+            if (p != PEEKED_UNQUOTED_NAME && p != PEEKED_SINGLE_QUOTED_NAME) {
+                throw new IllegalStateException("Expected a name but was " + peek()
+                        + " at line " + getLineNumber() + " column " + getColumnNumber());
+            }
+            return -1;
+        }
+
+        // the name is matched in place only if it has no escape sequence nor line feed and is entirely in the buffer
+        char[] buffer = this.buffer;
+        int end = pos;
+        int l = limit;
+        while (end < l) {
+            char c = buffer[end];
+            if (c == '"') {
+                break;
+            } else if (c == '\\' || c == '\n') {
+                return -1;
+            }
+            end++;
+        }
+        if (end == l) {
+            return -1;
+        }
+
+        int index = names.indexOf(buffer, pos, end);
+        if (index >= 0) {
+            pos = end + 1;
+            peeked = PEEKED_NONE;
+        }
+        return index;
+    }
+
     /** {@inheritDoc} */
     @Override
     public String nextString() {
@@ -807,6 +898,90 @@ public class DefaultJsonReader implements org.dominokit.jacksonapt.stream.JsonRe
         return result;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public byte[] nextBinary() {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+        if (p != PEEKED_DOUBLE_QUOTED) {
+            return decodeBinary(nextString());
+        }
+        byte[] result = nextQuotedBinary();
+        peeked = PEEKED_NONE;
+        return result;
+    }
+
+    /**
+     * Decodes the base64 characters up to the closing double quote straight from the buffer. The groups of 4 characters
+     * are decoded as soon as they are in the buffer, so a value larger than the buffer is never copied into a
+     * {@link java.lang.String}.
+     */
+    private byte[] nextQuotedBinary() {
+        char[] buffer = this.buffer;
+        byte[] bytes = new byte[3 * ((limit - pos) / 4 + 1)];
+        int size = 0;
+        while (true) {
+            int p = pos;
+            int l = limit;
+            while (p < l) {
+                char c = buffer[p];
+                if (c == '"' || c == '\\') {
+                    break;
+                }
+                p++;
+            }
+
+            boolean closed = p < l && buffer[p] == '"';
+            // the last group is incomplete until the closing quote is reached
+            int end = closed ? p : p - (p - pos) % 4;
+            bytes = ensureBinaryCapacity(bytes, size + 3 * ((end - pos) / 4 + 1));
+            try {
+                size = Base64Utils.decode(buffer, pos, end, bytes, size);
+            } catch (IllegalArgumentException e) {
+                throw syntaxError(e.getMessage());
+            }
+            pos = end;
+
+            if (closed) {
+                pos++;
+                break;
+            } else if (p < l) {
+                // an escaped character, the rest of the value starts with a new group and is unescaped first
+                String rest = nextQuotedValue('"');
+                bytes = ensureBinaryCapacity(bytes, size + Base64Utils.decodedLength(rest, 0, rest.length()));
+                try {
+                    size = Base64Utils.decode(rest, 0, rest.length(), bytes, size);
+                } catch (IllegalArgumentException e) {
+                    throw syntaxError(e.getMessage());
+                }
+                break;
+            } else if (!fillBuffer(p - pos + 1)) {
+                throw syntaxError("Unterminated string");
+            }
+        }
+        return size == bytes.length ? bytes : Arrays.copyOf(bytes, size);
+    }
+
+    private static byte[] ensureBinaryCapacity(byte[] bytes, int capacity) {
+        if (capacity <= bytes.length) {
+            return bytes;
+        }
+        return Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+    }
+
+    /**
+     * Decodes a value that could not be decoded in place.
+     */
+    private byte[] decodeBinary(String value) {
+        try {
+            return Base64Utils.fromBase64(value);
+        } catch (IllegalArgumentException e) {
+            throw syntaxError(e.getMessage());
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean nextBoolean() {
@@ -850,10 +1025,21 @@ public class DefaultJsonReader implements org.dominokit.jacksonapt.stream.JsonRe
 
         if (p == PEEKED_LONG) {
             peeked = PEEKED_NONE;
+            if (peekedLong == 0 && '-' == buffer[pos - peekedNumberLength]) {
+                // -0 keeps its sign, like Double.parseDouble("-0")
+                return -0.0;
+            }
             return (double) peekedLong;
         }
 
         if (p == PEEKED_NUMBER) {
+            double result = numberParser.parseDouble(buffer, pos, pos + peekedNumberLength);
+            if (lenient || !(Double.isNaN(result) || Double.isInfinite(result))) {
+                pos += peekedNumberLength;
+                peeked = PEEKED_NONE;
+                return result;
+            }
+            // the number overflows, it is buffered and reported below
             peekedString = new String(buffer, pos, peekedNumberLength);
             pos += peekedNumberLength;
         } else if (p == PEEKED_SINGLE_QUOTED || p == PEEKED_DOUBLE_QUOTED) {
@@ -875,6 +1061,81 @@ public class DefaultJsonReader implements org.dominokit.jacksonapt.stream.JsonRe
         return result;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public float nextFloat() {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+
+        if (p == PEEKED_LONG) {
+            peeked = PEEKED_NONE;
+            if (peekedLong == 0 && '-' == buffer[pos - peekedNumberLength]) {
+                // -0 keeps its sign, like Float.parseFloat("-0")
+                return -0.0f;
+            }
+            return (float) peekedLong;
+        }
+
+        if (p == PEEKED_NUMBER) {
+            float result = numberParser.parseFloat(buffer, pos, pos + peekedNumberLength);
+            pos += peekedNumberLength;
+            peeked = PEEKED_NONE;
+            return result;
+        } else if (p == PEEKED_SINGLE_QUOTED || p == PEEKED_DOUBLE_QUOTED) {
+            peekedString = nextQuotedValue(p == PEEKED_SINGLE_QUOTED ? '\'' : '"');
+        } else if (p == PEEKED_UNQUOTED) {
+            peekedString = nextUnquotedValue();
+        } else if (p != PEEKED_BUFFERED) {
+            throw new IllegalStateException("Expected a float but was " + peek()
+                    + " at line " + getLineNumber() + " column " + getColumnNumber());
+        }
+
+        peeked = PEEKED_BUFFERED;
+        float result = Float.parseFloat(peekedString); // don't catch this NumberFormatException.
+        if (!lenient && (Float.isNaN(result) || Float.isInfinite(result))) {
+            throw syntaxError("JSON forbids NaN and infinities: " + result);
+        }
+        peekedString = null;
+        peeked = PEEKED_NONE;
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BigDecimal nextBigDecimal() {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+
+        if (p == PEEKED_LONG) {
+            peeked = PEEKED_NONE;
+            return BigDecimal.valueOf(peekedLong);
+        }
+
+        if (p == PEEKED_NUMBER) {
+            BigDecimal result = numberParser.parseBigDecimal(buffer, pos, pos + peekedNumberLength);
+            pos += peekedNumberLength;
+            peeked = PEEKED_NONE;
+            return result;
+        } else if (p == PEEKED_SINGLE_QUOTED || p == PEEKED_DOUBLE_QUOTED) {
+            peekedString = nextQuotedValue(p == PEEKED_SINGLE_QUOTED ? '\'' : '"');
+        } else if (p == PEEKED_UNQUOTED) {
+            peekedString = nextUnquotedValue();
+        } else if (p != PEEKED_BUFFERED) {
+            throw new IllegalStateException("Expected a BigDecimal but was " + peek()
+                    + " at line " + getLineNumber() + " column " + getColumnNumber());
+        }
+
+        peeked = PEEKED_BUFFERED;
+        BigDecimal result = new BigDecimal(peekedString); // don't catch this NumberFormatException.
+        peekedString = null;
+        peeked = PEEKED_NONE;
+        return result;
+    }
+
     /** {@inheritDoc} */
     @Override
     public long nextLong() {
@@ -930,19 +1191,71 @@ public class DefaultJsonReader implements org.dominokit.jacksonapt.stream.JsonRe
     private String nextQuotedValue(char quote) {
         // Like nextNonWhitespace, this uses locals 'p' and 'l' to save inner-loop field access.
         char[] buffer = this.buffer;
-        StringBuilder builder = new StringBuilder();
+        int p = pos;
+        int start = p;
+        while (true) {
+            int l = limit;
+            while (p < l) {
+                int c = buffer[p++];
+
+                if (c == quote) {
+                    pos = p;
+                    return new String(buffer, start, p - start - 1);
+                } else if (c == '\\') {
+                    pos = p - 1;
+                    return nextEscapedQuotedValue(quote, start);
+                } else if (c == '\n') {
+                    lineNumber++;
+                    lineStart = p;
+                }
+            }
+
+            if (start == 0) {
+                // the string does not fit in the buffer
+                pos = p;
+                return nextEscapedQuotedValue(quote, start);
+            }
+            // moves the string to the beginning of the buffer and reads the rest of it after
+            int scanned = p - start;
+            pos = start;
+            if (!fillBuffer(scanned + 1)) {
+                throw syntaxError("Unterminated string");
+            }
+            start = pos;
+            p = start + scanned;
+        }
+    }
+
+    /**
+     * Continues {@link #nextQuotedValue(char)} on a string containing escape sequences or longer than the buffer, it
+     * is unescaped in {@link #unescapeBuffer}.
+     *
+     * @param quote either ' or ".
+     * @param start index of the first character of the string not read yet
+     */
+    private String nextEscapedQuotedValue(char quote, int start) {
+        char[] buffer = this.buffer;
+        StringBuilder builder = unescapeBuffer;
+        if (builder == null) {
+            builder = new StringBuilder();
+            unescapeBuffer = builder;
+        }
+        builder.setLength(0);
         while (true) {
             int p = pos;
             int l = limit;
-      /* the index of the first character not yet appended to the builder. */
-            int start = p;
             while (p < l) {
                 int c = buffer[p++];
 
                 if (c == quote) {
                     pos = p;
                     builder.append(buffer, start, p - start - 1);
-                    return builder.toString();
+                    String result = builder.toString();
+                    if (builder.length() > MAX_UNESCAPE_BUFFER_LENGTH) {
+                        // does not keep the memory of an exceptionally large string
+                        unescapeBuffer = null;
+                    }
+                    return result;
                 } else if (c == '\\') {
                     pos = p;
                     builder.append(buffer, start, p - start - 1);
@@ -961,6 +1274,7 @@ public class DefaultJsonReader implements org.dominokit.jacksonapt.stream.JsonRe
             if (!fillBuffer(1)) {
                 throw syntaxError("Unterminated string");
             }
+            start = pos;
         }
     }
 
@@ -1188,6 +1502,13 @@ public class DefaultJsonReader implements org.dominokit.jacksonapt.stream.JsonRe
      */
     private boolean fillBuffer(int minimum) {
         char[] buffer = this.buffer;
+        if (rawValueStart != -1) {
+            if (rawValueBuffer == null) {
+                rawValueBuffer = new StringBuilder();
+            }
+            rawValueBuffer.append(buffer, rawValueStart, pos - rawValueStart);
+            rawValueStart = 0;
+        }
         lineStart -= pos;
         if (limit != pos) {
             limit -= pos;
@@ -1479,6 +1800,59 @@ public class DefaultJsonReader implements org.dominokit.jacksonapt.stream.JsonRe
         return in.getInput();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public RawJson nextRawValue() {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+
+        int start;
+        if (p == PEEKED_NULL) {
+            peeked = PEEKED_NONE;
+            return RawJson.NULL;
+        } else if (p == PEEKED_BUFFERED) {
+            // the string was already consumed by a failed number read
+            return RawJson.of(nextValue());
+        } else if (p == PEEKED_BEGIN_ARRAY || p == PEEKED_BEGIN_OBJECT
+                || p == PEEKED_SINGLE_QUOTED || p == PEEKED_DOUBLE_QUOTED) {
+            start = pos - 1;
+        } else if (p == PEEKED_TRUE) {
+            start = pos - 4;
+        } else if (p == PEEKED_FALSE) {
+            start = pos - 5;
+        } else if (p == PEEKED_LONG) {
+            start = pos - peekedNumberLength;
+        } else if (p == PEEKED_NUMBER || p == PEEKED_UNQUOTED) {
+            start = pos;
+        } else {
+            throw new IllegalStateException("Expected a value but was " + peek()
+                    + " at line " + getLineNumber() + " column " + getColumnNumber());
+        }
+
+        if (rawValueBuffer != null) {
+            rawValueBuffer.setLength(0);
+        }
+        rawValueStart = start;
+        try {
+            skipValue();
+            StringBuilder discarded = rawValueBuffer;
+            if (discarded == null || discarded.length() == 0) {
+                return RawJson.of(new String(buffer, rawValueStart, pos - rawValueStart));
+            }
+            discarded.append(buffer, rawValueStart, pos - rawValueStart);
+            String json = discarded.toString();
+            if (discarded.length() > MAX_UNESCAPE_BUFFER_LENGTH) {
+                // does not keep the memory of an exceptionally large value
+                rawValueBuffer = null;
+            }
+            return RawJson.of(json);
+        } finally {
+            rawValueStart = -1;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public String nextValue() {
@@ -1551,6 +1925,28 @@ public class DefaultJsonReader implements org.dominokit.jacksonapt.stream.JsonRe
         return writer.getOutput();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The characters before the current position are discarded when the buffer is refilled, this reader cannot go back.
+     */
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void mark() {
+        throw new UnsupportedOperationException("mark is not supported by " + getClass().getName());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void reset() {
+        throw new IllegalStateException("The reader has not been marked");
+    }
+
     /** {@inheritDoc} */
     @Override
     public Number nextNumber() {
@@ -1582,11 +1978,8 @@ public class DefaultJsonReader implements org.dominokit.jacksonapt.stream.JsonRe
         }
 
         if (p == PEEKED_NUMBER) {
-            peekedString = new String(buffer, pos, peekedNumberLength);
+            result = numberParser.parseDouble(buffer, pos, pos + peekedNumberLength);
             pos += peekedNumberLength;
-            peeked = PEEKED_BUFFERED;
-            result = Double.parseDouble(peekedString);
-            peekedString = null;
             peeked = PEEKED_NONE;
             return result;
         }
@@ -20,7 +20,9 @@ package org.dominokit.jacksonapt.stream.impl;
 import org.dominokit.jacksonapt.JacksonContextProvider;
 import org.dominokit.jacksonapt.exception.JsonSerializationException;
 import org.dominokit.jacksonapt.stream.JsonWriter;
-import org.dominokit.jacksonapt.stream.Stack;
+import org.dominokit.jacksonapt.stream.RawJson;
+import org.dominokit.jacksonapt.stream.IntegerStack;
+import org.dominokit.jacksonapt.utils.Base64Utils;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -128,6 +130,11 @@ public class DefaultJsonWriter implements JsonWriter {
 
     private static final Logger logger = Logger.getLogger("JsonWriter");
 
+    /**
+     * Number of bytes encoded at once by {@link #binaryValue(byte[], int, int)}.
+     */
+    private static final int BINARY_CHUNK_LENGTH = 3 * 256;
+
     /*
      * From RFC 4627, "All Unicode characters may be placed within the
      * quotation marks except for the characters that must be escaped:
@@ -164,9 +171,9 @@ public class DefaultJsonWriter implements JsonWriter {
     /**
      * The output data, containing at most one top-level array or object.
      */
-    private final StringBuilder out;
+    private final CharacterWriter out;
 
-    private Stack<Integer> stack = JacksonContextProvider.get().integerStackFactory().make();
+    private IntegerStack stack = JacksonContextProvider.get().integerStackFactory().makeIntegerStack();
 
     private int stackSize = 0;
 
@@ -193,12 +200,26 @@ public class DefaultJsonWriter implements JsonWriter {
 
     private boolean serializeNulls = true;
 
+    /**
+     * Chunk the binary values are encoded into before being appended to {@link #out}, created on the first use.
+     */
+    private char[] binaryChunk;
+
     /**
      * Creates a new instance that writes a JSON-encoded stream to {@code out}.
      *
      * @param out a {@link java.lang.StringBuilder} object.
      */
     public DefaultJsonWriter(StringBuilder out) {
+        this(new StringBuilderWriter(out));
+    }
+
+    /**
+     * Creates a new instance that writes a JSON-encoded stream to {@code out}.
+     *
+     * @param out a {@link org.dominokit.jacksonapt.stream.impl.CharacterWriter} object.
+     */
+    public DefaultJsonWriter(CharacterWriter out) {
         if (out == null) {
             throw new NullPointerException("out == null");
         }
@@ -359,7 +380,9 @@ public class DefaultJsonWriter implements JsonWriter {
     private void writeDeferredName() {
         if (deferredUnescapeName != null) {
             beforeName();
-            out.append('\"').append(deferredUnescapeName).append('\"');
+            out.append('\"');
+            out.append(deferredUnescapeName);
+            out.append('\"');
             deferredUnescapeName = null;
         } else if (deferredName != null) {
             beforeName();
@@ -388,7 +411,31 @@ public class DefaultJsonWriter implements JsonWriter {
         }
         writeDeferredName();
         beforeValue(false);
-        out.append('\"').append(value).append('\"');
+        out.append('\"');
+        out.append(value);
+        out.append('\"');
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DefaultJsonWriter binaryValue(byte[] value, int offset, int length) {
+        if (value == null) {
+            return nullValue();
+        }
+        writeDeferredName();
+        beforeValue(false);
+        out.append('\"');
+        if (binaryChunk == null) {
+            binaryChunk = new char[Base64Utils.encodedLength(BINARY_CHUNK_LENGTH)];
+        }
+        char[] chars = binaryChunk;
+        // a chunk is a multiple of 3 bytes, only the last one is padded
+        for (int i = 0; i < length; i += BINARY_CHUNK_LENGTH) {
+            int end = Base64Utils.encode(value, offset + i, Math.min(BINARY_CHUNK_LENGTH, length - i), chars, 0);
+            out.append(chars, 0, end);
+        }
+        out.append('\"');
         return this;
     }
 
@@ -437,7 +484,7 @@ public class DefaultJsonWriter implements JsonWriter {
         }
         writeDeferredName();
         beforeValue(false);
-        out.append(Double.toString(value));
+        out.append(value);
         return this;
     }
 
@@ -446,7 +493,7 @@ public class DefaultJsonWriter implements JsonWriter {
     public DefaultJsonWriter value(long value) {
         writeDeferredName();
         beforeValue(false);
-        out.append(Long.toString(value));
+        out.append(value);
         return this;
     }
 
@@ -458,6 +505,26 @@ public class DefaultJsonWriter implements JsonWriter {
         }
 
         writeDeferredName();
+        // the common boxed types are written without going through toString()
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            beforeValue(false);
+            out.append(value.longValue());
+            return this;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double number = value.doubleValue();
+            if (!lenient && (Double.isNaN(number) || Double.isInfinite(number))) {
+                throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+            }
+            beforeValue(false);
+            if (value instanceof Float) {
+                // the float representation is shorter than the one of the widened double
+                out.append(value.floatValue());
+            } else {
+                out.append(number);
+            }
+            return this;
+        }
         String string = value.toString();
         if (!lenient
                 && (string.equals("-Infinity") || string.equals("Infinity") || string.equals("NaN"))) {
@@ -477,18 +544,34 @@ public class DefaultJsonWriter implements JsonWriter {
         if (value == null) {
             return nullValue();
         }
+        if (value instanceof RawJson) {
+            return rawValue((RawJson) value);
+        }
         writeDeferredName();
         beforeValue(false);
         out.append(value.toString());
         return this;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public DefaultJsonWriter rawValue(RawJson value) {
+        if (value == null) {
+            return nullValue();
+        }
+        writeDeferredName();
+        beforeValue(false);
+        out.append(value.getSource(), value.getStart(), value.getEnd());
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void flush() {
         if (stackSize == 0) {
             throw new IllegalStateException("JsonWriter is closed.");
         }
+        out.flush();
     }
 
     /** {@inheritDoc} */
@@ -499,13 +582,14 @@ public class DefaultJsonWriter implements JsonWriter {
             logger.log(Level.SEVERE, "Incomplete document");
             throw new JsonSerializationException("Incomplete document");
         }
+        out.flush();
         stackSize = 0;
     }
 
     private void string(String value) {
-        out.append("\"");
+        out.append('\"');
         encodeString(value, out);
-        out.append("\"");
+        out.append('\"');
     }
 
     /**
@@ -515,22 +599,36 @@ public class DefaultJsonWriter implements JsonWriter {
      * @param out a {@link java.lang.StringBuilder} object.
      */
     public static void encodeString(final String value, final StringBuilder out) {
-        String[] replacements = REPLACEMENT_CHARS;
         int last = 0;
         int length = value.length();
         for (int i = 0; i < length; i++) {
-            char c = value.charAt(i);
-            String replacement;
-            if (c < 128) {
-                replacement = replacements[c];
-                if (replacement == null) {
-                    continue;
-                }
-            } else if (c == '\u2028') {
-                replacement = "\\u2028";
-            } else if (c == '\u2029') {
-                replacement = "\\u2029";
-            } else {
+            String replacement = replacement(value.charAt(i));
+            if (replacement == null) {
+                continue;
+            }
+            if (last < i) {
+                out.append(value, last, i);
+            }
+            out.append(replacement);
+            last = i + 1;
+        }
+        if (last < length) {
+            out.append(value, last, length);
+        }
+    }
+
+    /**
+     * <p>encodeString.</p>
+     *
+     * @param value a {@link java.lang.String} object.
+     * @param out a {@link org.dominokit.jacksonapt.stream.impl.CharacterWriter} object.
+     */
+    public static void encodeString(final String value, final CharacterWriter out) {
+        int last = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            String replacement = replacement(value.charAt(i));
+            if (replacement == null) {
                 continue;
             }
             if (last < i) {
@@ -544,6 +642,20 @@ public class DefaultJsonWriter implements JsonWriter {
         }
     }
 
+    /**
+     * Returns the escape sequence of the character, or null when it is written as is.
+     */
+    private static String replacement(char c) {
+        if (c < 128) {
+            return REPLACEMENT_CHARS[c];
+        } else if (c == '\u2028') {
+            return "\\u2028";
+        } else if (c == '\u2029') {
+            return "\\u2029";
+        }
+        return null;
+    }
+
     /**
      * <p>encodeString</p>
      *
@@ -561,7 +673,7 @@ public class DefaultJsonWriter implements JsonWriter {
             return;
         }
 
-        out.append("\n");
+        out.append('\n');
         for (int i = 1, size = stackSize; i < size; i++) {
             out.append(indent);
         }
@@ -630,7 +742,7 @@ public class DefaultJsonWriter implements JsonWriter {
     /** {@inheritDoc} */
     @Override
     public String getOutput() {
-        return out.toString();
+        return out.getOutput();
     }
 }
 //@formatter:on
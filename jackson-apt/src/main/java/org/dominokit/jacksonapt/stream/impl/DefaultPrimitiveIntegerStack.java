@@ -0,0 +1,34 @@
+package org.dominokit.jacksonapt.stream.impl;
+
+import org.dominokit.jacksonapt.GwtIncompatible;
+import org.dominokit.jacksonapt.stream.IntegerStack;
+
+import java.util.Arrays;
+
+/**
+ * <p>DefaultPrimitiveIntegerStack class.</p>
+ * Backed by a growable int array, nothing is allocated per access and no lock is taken.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+@GwtIncompatible
+public class DefaultPrimitiveIntegerStack implements IntegerStack {
+
+    private int[] stack = new int[32];
+
+    /** {@inheritDoc} */
+    @Override
+    public int getAt(int index) {
+        return stack[index];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setAt(int index, int value) {
+        if (index >= stack.length) {
+            stack = Arrays.copyOf(stack, Math.max(stack.length * 2, index + 1));
+        }
+        stack[index] = value;
+    }
+}
@@ -17,10 +17,13 @@
 
 package org.dominokit.jacksonapt.stream.impl;
 
+import org.dominokit.jacksonapt.JacksonContext.ValueStringifier;
 import org.dominokit.jacksonapt.JacksonContextProvider;
 import org.dominokit.jacksonapt.exception.JsonSerializationException;
 import org.dominokit.jacksonapt.stream.JsonWriter;
-import org.dominokit.jacksonapt.stream.Stack;
+import org.dominokit.jacksonapt.stream.RawJson;
+import org.dominokit.jacksonapt.stream.IntegerStack;
+import org.dominokit.jacksonapt.utils.Base64Utils;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -35,13 +38,23 @@ public class FastJsonWriter implements JsonWriter {
 
     private static final Logger logger = Logger.getLogger("JsonWriter");
 
+    /**
+     * Number of bytes encoded at once by {@link #binaryValue(byte[], int, int)}.
+     */
+    private static final int BINARY_CHUNK_LENGTH = 3 * 256;
+
     /**
      * The output data, containing at most one top-level array or object.
      */
     private final StringBuilder out;
 
+    /**
+     * Quotes and escapes the names and string values straight into {@link #out}.
+     */
+    private final ValueStringifier stringifier = JacksonContextProvider.get().stringifier();
+
     //Change by Ahmad Bawaneh, replace JSNI types with IsInterop types
-    private Stack<Integer> stack = JacksonContextProvider.get().integerStackFactory().make();
+    private IntegerStack stack = JacksonContextProvider.get().integerStackFactory().makeIntegerStack();
     private int stackSize = 0;
 
     {
@@ -67,6 +80,11 @@ public class FastJsonWriter implements JsonWriter {
 
     private boolean serializeNulls = true;
 
+    /**
+     * Chunk the binary values are encoded into before being appended to {@link #out}, created on the first use.
+     */
+    private char[] binaryChunk;
+
     /**
      * Creates a new instance that writes a JSON-encoded stream to {@code out}.
      *
@@ -79,6 +97,22 @@ public class FastJsonWriter implements JsonWriter {
         this.out = out;
     }
 
+    /**
+     * Clears the output and puts this writer back in the same state as a new writer, so it can be reused for another
+     * document. The output keeps its capacity.
+     */
+    public void reset() {
+        out.setLength(0);
+        stackSize = 0;
+        push(JsonScope.EMPTY_DOCUMENT);
+        indent = null;
+        separator = ":";
+        lenient = false;
+        deferredUnescapeName = null;
+        deferredName = null;
+        serializeNulls = true;
+    }
+
     /** {@inheritDoc} */
     @Override
     public final void setIndent(String indent) {
@@ -266,6 +300,28 @@ public class FastJsonWriter implements JsonWriter {
         return this;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public FastJsonWriter binaryValue(byte[] value, int offset, int length) {
+        if (value == null) {
+            return nullValue();
+        }
+        writeDeferredName();
+        beforeValue(false);
+        out.append('\"');
+        if (binaryChunk == null) {
+            binaryChunk = new char[Base64Utils.encodedLength(BINARY_CHUNK_LENGTH)];
+        }
+        char[] chars = binaryChunk;
+        // a chunk is a multiple of 3 bytes, only the last one is padded
+        for (int i = 0; i < length; i += BINARY_CHUNK_LENGTH) {
+            int end = Base64Utils.encode(value, offset + i, Math.min(BINARY_CHUNK_LENGTH, length - i), chars, 0);
+            out.append(chars, 0, end);
+        }
+        out.append('\"');
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public FastJsonWriter nullValue() {
@@ -311,7 +367,7 @@ public class FastJsonWriter implements JsonWriter {
         }
         writeDeferredName();
         beforeValue(false);
-        out.append(Double.toString(value));
+        out.append(value);
         return this;
     }
 
@@ -320,7 +376,7 @@ public class FastJsonWriter implements JsonWriter {
     public FastJsonWriter value(long value) {
         writeDeferredName();
         beforeValue(false);
-        out.append(Long.toString(value));
+        out.append(value);
         return this;
     }
 
@@ -332,6 +388,26 @@ public class FastJsonWriter implements JsonWriter {
         }
 
         writeDeferredName();
+        // the common boxed types are written without going through toString()
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            beforeValue(false);
+            out.append(value.longValue());
+            return this;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double number = value.doubleValue();
+            if (!lenient && (Double.isNaN(number) || Double.isInfinite(number))) {
+                throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+            }
+            beforeValue(false);
+            if (value instanceof Float) {
+                // the float representation is shorter than the one of the widened double
+                out.append(value.floatValue());
+            } else {
+                out.append(number);
+            }
+            return this;
+        }
         String string = value.toString();
         if (!lenient
                 && (string.equals("-Infinity") || string.equals("Infinity") || string.equals("NaN"))) {
@@ -348,12 +424,27 @@ public class FastJsonWriter implements JsonWriter {
         if (value == null) {
             return nullValue();
         }
+        if (value instanceof RawJson) {
+            return rawValue((RawJson) value);
+        }
         writeDeferredName();
         beforeValue(false);
         out.append(value.toString());
         return this;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public FastJsonWriter rawValue(RawJson value) {
+        if (value == null) {
+            return nullValue();
+        }
+        writeDeferredName();
+        beforeValue(false);
+        out.append(value.getSource(), value.getStart(), value.getEnd());
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void flush() {
@@ -374,7 +465,7 @@ public class FastJsonWriter implements JsonWriter {
     }
 
     private void string(String value) {
-        out.append(JacksonContextProvider.get().stringifier().stringify(value));
+        stringifier.stringify(value, out);
     }
 
     private void newline() {
@@ -1,29 +1,29 @@
 package org.dominokit.jacksonapt.stream.impl;
 
-import elemental2.core.JsArray;
 import elemental2.core.JsNumber;
 import org.dominokit.jacksonapt.stream.Stack;
 
 /**
  * <p>JsIntegerStack class.</p>
+ * <p>Boxes the values of a {@link org.dominokit.jacksonapt.stream.impl.JsPrimitiveIntegerStack}.</p>
  *
  * @author vegegoku
  * @version $Id: $Id
  */
 public class JsIntegerStack implements Stack<Integer> {
 
-    private JsArray<JsNumber> stack = new JsArray<>();
+    private final JsPrimitiveIntegerStack stack = new JsPrimitiveIntegerStack();
 
     /** {@inheritDoc} */
     @Override
     public Integer getAt(int index) {
-        return new Double(get(index).valueOf()).intValue();
+        return stack.getAt(index);
     }
 
     /** {@inheritDoc} */
     @Override
     public void setAt(int index, Integer value) {
-        stack.setAt(index, new JsNumber(value));
+        stack.setAt(index, value);
     }
 
     /**
@@ -33,7 +33,6 @@ public class JsIntegerStack implements Stack<Integer> {
      * @return a {@link elemental2.core.JsNumber} object.
      */
     public JsNumber get(int index) {
-        JsNumber[] slice = stack.slice();
-        return slice[index];
+        return stack.get(index);
     }
 }
@@ -0,0 +1,38 @@
+package org.dominokit.jacksonapt.stream.impl;
+
+import elemental2.core.JsArray;
+import elemental2.core.JsNumber;
+import org.dominokit.jacksonapt.stream.IntegerStack;
+
+/**
+ * <p>JsPrimitiveIntegerStack class.</p>
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public class JsPrimitiveIntegerStack implements IntegerStack {
+
+    private JsArray<JsNumber> stack = new JsArray<>();
+
+    /** {@inheritDoc} */
+    @Override
+    public int getAt(int index) {
+        return (int) get(index).valueOf();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setAt(int index, int value) {
+        stack.setAt(index, new JsNumber(value));
+    }
+
+    /**
+     * <p>get.</p>
+     *
+     * @param index a int.
+     * @return a {@link elemental2.core.JsNumber} object.
+     */
+    public JsNumber get(int index) {
+        return stack.getAt(index);
+    }
+}
@@ -0,0 +1,72 @@
+package org.dominokit.jacksonapt.stream.impl;
+
+/**
+ * Keeps a {@link org.dominokit.jacksonapt.stream.impl.NonBufferedJsonReader} and a
+ * {@link org.dominokit.jacksonapt.stream.impl.FastJsonWriter} to be reused by the next read or write, so their nesting
+ * stacks and the writer's output buffer are not allocated again for every document. A cache is used by a single thread,
+ * see {@link org.dominokit.jacksonapt.JacksonContext#jsonStreamCache()}.
+ * <p>
+ * An instance is handed out once until it is released, a nested read or write while it is in use gets a new instance.
+ * </p>
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public class JsonStreamCache {
+
+    private NonBufferedJsonReader reader;
+
+    private FastJsonWriter writer;
+
+    /**
+     * <p>acquireReader</p>
+     *
+     * @param input the JSON to read
+     * @return the cached reader reset to {@code input}, or a new reader if it is in use
+     */
+    public NonBufferedJsonReader acquireReader(String input) {
+        NonBufferedJsonReader cached = reader;
+        if (cached == null) {
+            return new NonBufferedJsonReader(input);
+        }
+        reader = null;
+        cached.reset(input);
+        return cached;
+    }
+
+    /**
+     * Gives back a reader obtained by {@link #acquireReader(String)}, it must not be used afterwards.
+     *
+     * @param released the reader
+     */
+    public void releaseReader(NonBufferedJsonReader released) {
+        // drops the input so it is not retained by the cache
+        released.reset("");
+        reader = released;
+    }
+
+    /**
+     * <p>acquireWriter</p>
+     *
+     * @return the cached writer reset to an empty output, or a new writer if it is in use
+     */
+    public FastJsonWriter acquireWriter() {
+        FastJsonWriter cached = writer;
+        if (cached == null) {
+            return new FastJsonWriter(new StringBuilder());
+        }
+        writer = null;
+        cached.reset();
+        return cached;
+    }
+
+    /**
+     * Gives back a writer obtained by {@link #acquireWriter()}, it must not be used afterwards. Its output buffer keeps
+     * the largest capacity it reached.
+     *
+     * @param released the writer
+     */
+    public void releaseWriter(FastJsonWriter released) {
+        writer = released;
+    }
+}
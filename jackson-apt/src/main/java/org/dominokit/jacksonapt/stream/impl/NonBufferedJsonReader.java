@@ -21,9 +21,13 @@ import org.dominokit.jacksonapt.JacksonContextProvider;
 import org.dominokit.jacksonapt.exception.JsonDeserializationException;
 import org.dominokit.jacksonapt.stream.JsonReader;
 import org.dominokit.jacksonapt.stream.JsonToken;
+import org.dominokit.jacksonapt.stream.PropertyNameIndex;
+import org.dominokit.jacksonapt.stream.RawJson;
 import org.dominokit.jacksonapt.stream.JsonWriter;
-import org.dominokit.jacksonapt.stream.Stack;
+import org.dominokit.jacksonapt.stream.IntegerStack;
+import org.dominokit.jacksonapt.utils.Base64Utils;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -202,6 +206,7 @@ public class NonBufferedJsonReader implements JsonReader {
      */
     private static final char[] NON_EXECUTE_PREFIX = ")]}'\n".toCharArray();
     private static final long MIN_INCOMPLETE_INTEGER = Long.MIN_VALUE / 10;
+    private static final int MAX_UNESCAPE_BUFFER_LENGTH = 4096;
 
     private final static long MIN_INT_L = (long) Integer.MIN_VALUE;
     private final static long MAX_INT_L = (long) Integer.MAX_VALUE;
@@ -247,7 +252,7 @@ public class NonBufferedJsonReader implements JsonReader {
     /**
      * The input JSON.
      */
-    private final String in;
+    private String in;
 
     /**
      * True to accept non-spec compliant JSON
@@ -255,7 +260,7 @@ public class NonBufferedJsonReader implements JsonReader {
     private boolean lenient = false;
 
     private int pos = 0;
-    private final int limit;
+    private int limit;
 
     private int lineNumber = 0;
     private int lineStart = 0;
@@ -281,16 +286,36 @@ public class NonBufferedJsonReader implements JsonReader {
      */
     private String peekedString;
 
+    /**
+     * Parses the peeked number literals in place.
+     */
+    private final NumberParser numberParser = new NumberParser();
+
+    /**
+     * Unescapes the strings containing escape sequences, it is reused by every such string of the reader. The strings
+     * without escape sequence are extracted from the input in one step and never use it.
+     */
+    private StringBuilder unescapeBuffer;
+
     /*
      * The nesting stack. Using a manual array rather than an ArrayList saves 20%.
      */
     //Change by Ahmad Bawaneh, replace JSNI types with IsInterop types
-    private Stack<Integer> stack = JacksonContextProvider.get().integerStackFactory().make();
+    private IntegerStack stack = JacksonContextProvider.get().integerStackFactory().makeIntegerStack();
     private int stackSize = 0;
 
-    {
-        stack.setAt(stackSize++, JsonScope.EMPTY_DOCUMENT);
-    }
+    /*
+     * The state saved by mark(), markPos is -1 when the reader is not marked.
+     */
+    private int markPos = -1;
+    private int markLineNumber;
+    private int markLineStart;
+    private int markPeeked;
+    private long markPeekedLong;
+    private int markPeekedNumberLength;
+    private String markPeekedString;
+    private int markStackSize;
+    private int markScope;
 
     /**
      * Creates a new instance that reads a JSON-encoded stream from {@code in}.
@@ -298,12 +323,61 @@ public class NonBufferedJsonReader implements JsonReader {
      * @param in a {@link java.lang.String} object.
      */
     public NonBufferedJsonReader(String in) {
+        reset(in);
+    }
+
+    /**
+     * Creates a new instance that reads the JSON-encoded characters of {@code in} from {@code start} to {@code end}, like
+     * the slice of a {@link org.dominokit.jacksonapt.stream.RawJson}, without copying them.
+     *
+     * @param in    a {@link java.lang.String} object.
+     * @param start index of the first character to read
+     * @param end   index after the last character to read
+     */
+    public NonBufferedJsonReader(String in, int start, int end) {
+        reset(in, start, end);
+    }
+
+    /**
+     * Moves this reader to the beginning of {@code in}, in the same state as a new reader except for the leniency. The
+     * nesting stack is kept, so a reader can be reused for many documents.
+     *
+     * @param in a {@link java.lang.String} object.
+     */
+    public void reset(String in) {
         if (in == null) {
             throw new NullPointerException("in == null");
         }
+        reset(in, 0, in.length());
+    }
+
+    /**
+     * Moves this reader to the character {@code start} of {@code in}, it reads until {@code end} as if the input stopped
+     * there. The lines and columns of the errors are counted from {@code start}.
+     *
+     * @param in    a {@link java.lang.String} object.
+     * @param start index of the first character to read
+     * @param end   index after the last character to read
+     */
+    public void reset(String in, int start, int end) {
+        if (in == null) {
+            throw new NullPointerException("in == null");
+        }
+        if (start < 0 || end > in.length() || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + in.length());
+        }
         this.in = in;
-        this.limit = in.length();
-        if (limit > 0 && in.charAt(0) == '\ufeff') {
+        this.limit = end;
+        pos = start;
+        lineNumber = 0;
+        lineStart = start;
+        peeked = PEEKED_NONE;
+        peekedString = null;
+        markPos = -1;
+        markPeekedString = null;
+        stackSize = 0;
+        stack.setAt(stackSize++, JsonScope.EMPTY_DOCUMENT);
+        if (pos < limit && in.charAt(pos) == '\ufeff') {
             pos++;
             lineStart++;
         }
@@ -732,6 +806,8 @@ public class NonBufferedJsonReader implements JsonReader {
         // We've read a complete number. Decide if it's a PEEKED_LONG or a PEEKED_NUMBER.
         if (last == NUMBER_CHAR_DIGIT && fitsInLong && (value != Long.MIN_VALUE || negative)) {
             peekedLong = negative ? value : -value;
+            // kept to find the start of the number in nextRawValue()
+            peekedNumberLength = i;
             pos += i;
             return peeked = PEEKED_LONG;
         } else if (last == NUMBER_CHAR_DIGIT || last == NUMBER_CHAR_FRACTION_DIGIT
@@ -790,6 +866,44 @@ public class NonBufferedJsonReader implements JsonReader {
         return result;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public int nextNameIndex(PropertyNameIndex names) {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+        if (p != PEEKED_DOUBLE_QUOTED_NAME) {
+            if (p != PEEKED_UNQUOTED_NAME && p != PEEKED_SINGLE_QUOTED_NAME) {
+                throw new IllegalStateException("Expected a name but was " + peek()
+                        + " at line " + getLineNumber() + " column " + getColumnNumber());
+            }
+            return -1;
+        }
+
+        // the name is matched in place only if it has no escape sequence nor line feed
+        int end = pos;
+        while (end < limit) {
+            char c = in.charAt(end);
+            if (c == '"') {
+                break;
+            } else if (c == '\\' || c == '\n') {
+                return -1;
+            }
+            end++;
+        }
+        if (end == limit) {
+            return -1;
+        }
+
+        int index = names.indexOf(in, pos, end);
+        if (index >= 0) {
+            pos = end + 1;
+            peeked = PEEKED_NONE;
+        }
+        return index;
+    }
+
     /** {@inheritDoc} */
     @Override
     public String nextString() {
@@ -820,6 +934,53 @@ public class NonBufferedJsonReader implements JsonReader {
         return result;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public byte[] nextBinary() {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+        if (p != PEEKED_DOUBLE_QUOTED) {
+            return decodeBinary(nextString());
+        }
+
+        int start = pos;
+        int end = start;
+        while (end < limit) {
+            char c = in.charAt(end);
+            if (c == '"' || c == '\\') {
+                break;
+            }
+            end++;
+        }
+        if (end == limit || in.charAt(end) == '\\') {
+            // unterminated or escaped, let nextString() report or unescape it
+            return decodeBinary(nextString());
+        }
+
+        byte[] result = new byte[Base64Utils.decodedLength(in, start, end)];
+        try {
+            Base64Utils.decode(in, start, end, result, 0);
+        } catch (IllegalArgumentException e) {
+            throw syntaxError(e.getMessage());
+        }
+        pos = end + 1;
+        peeked = PEEKED_NONE;
+        return result;
+    }
+
+    /**
+     * Decodes a value that could not be decoded in place.
+     */
+    private byte[] decodeBinary(String value) {
+        try {
+            return Base64Utils.fromBase64(value);
+        } catch (IllegalArgumentException e) {
+            throw syntaxError(e.getMessage());
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean nextBoolean() {
@@ -863,10 +1024,21 @@ public class NonBufferedJsonReader implements JsonReader {
 
         if (p == PEEKED_LONG) {
             peeked = PEEKED_NONE;
+            if (peekedLong == 0 && '-' == in.charAt(pos - peekedNumberLength)) {
+                // -0 keeps its sign, like Double.parseDouble("-0")
+                return -0.0;
+            }
             return (double) peekedLong;
         }
 
         if (p == PEEKED_NUMBER) {
+            double result = numberParser.parseDouble(in, pos, pos + peekedNumberLength);
+            if (lenient || !(Double.isNaN(result) || Double.isInfinite(result))) {
+                pos += peekedNumberLength;
+                peeked = PEEKED_NONE;
+                return result;
+            }
+            // the number overflows, it is buffered and reported below
             peekedString = in.substring(pos, pos + peekedNumberLength);
             pos += peekedNumberLength;
         } else if (p == PEEKED_SINGLE_QUOTED || p == PEEKED_DOUBLE_QUOTED) {
@@ -888,6 +1060,81 @@ public class NonBufferedJsonReader implements JsonReader {
         return result;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public float nextFloat() {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+
+        if (p == PEEKED_LONG) {
+            peeked = PEEKED_NONE;
+            if (peekedLong == 0 && '-' == in.charAt(pos - peekedNumberLength)) {
+                // -0 keeps its sign, like Float.parseFloat("-0")
+                return -0.0f;
+            }
+            return (float) peekedLong;
+        }
+
+        if (p == PEEKED_NUMBER) {
+            float result = numberParser.parseFloat(in, pos, pos + peekedNumberLength);
+            pos += peekedNumberLength;
+            peeked = PEEKED_NONE;
+            return result;
+        } else if (p == PEEKED_SINGLE_QUOTED || p == PEEKED_DOUBLE_QUOTED) {
+            peekedString = nextQuotedValue(p == PEEKED_SINGLE_QUOTED ? '\'' : '"');
+        } else if (p == PEEKED_UNQUOTED) {
+            peekedString = nextUnquotedValue();
+        } else if (p != PEEKED_BUFFERED) {
+            throw new IllegalStateException("Expected a float but was " + peek()
+                    + " at line " + getLineNumber() + " column " + getColumnNumber());
+        }
+
+        peeked = PEEKED_BUFFERED;
+        float result = Float.parseFloat(peekedString); // don't catch this NumberFormatException.
+        if (!lenient && (Float.isNaN(result) || Float.isInfinite(result))) {
+            throw syntaxError("JSON forbids NaN and infinities: " + result);
+        }
+        peekedString = null;
+        peeked = PEEKED_NONE;
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BigDecimal nextBigDecimal() {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+
+        if (p == PEEKED_LONG) {
+            peeked = PEEKED_NONE;
+            return BigDecimal.valueOf(peekedLong);
+        }
+
+        if (p == PEEKED_NUMBER) {
+            BigDecimal result = numberParser.parseBigDecimal(in, pos, pos + peekedNumberLength);
+            pos += peekedNumberLength;
+            peeked = PEEKED_NONE;
+            return result;
+        } else if (p == PEEKED_SINGLE_QUOTED || p == PEEKED_DOUBLE_QUOTED) {
+            peekedString = nextQuotedValue(p == PEEKED_SINGLE_QUOTED ? '\'' : '"');
+        } else if (p == PEEKED_UNQUOTED) {
+            peekedString = nextUnquotedValue();
+        } else if (p != PEEKED_BUFFERED) {
+            throw new IllegalStateException("Expected a BigDecimal but was " + peek()
+                    + " at line " + getLineNumber() + " column " + getColumnNumber());
+        }
+
+        peeked = PEEKED_BUFFERED;
+        BigDecimal result = new BigDecimal(peekedString); // don't catch this NumberFormatException.
+        peekedString = null;
+        peeked = PEEKED_NONE;
+        return result;
+    }
+
     /** {@inheritDoc} */
     @Override
     public long nextLong() {
@@ -942,20 +1189,57 @@ public class NonBufferedJsonReader implements JsonReader {
      */
     private String nextQuotedValue(char quote) {
         // Like nextNonWhitespace, this uses locals 'p' and 'l' to save inner-loop field access.
-        StringBuilder builder = new StringBuilder();
         int p = pos;
-    /* the index of the first character not yet appended to the builder. */
+        int l = limit;
         int start = p;
+        while (p < l) {
+            int c = in.charAt(p++);
+
+            if (c == quote) {
+                pos = p;
+                return in.substring(start, p - 1);
+            } else if (c == '\\') {
+                pos = p - 1;
+                return nextEscapedQuotedValue(quote, start);
+            } else if (c == '\n') {
+                lineNumber++;
+                lineStart = p;
+            }
+        }
+
+        throw syntaxError("Unterminated string");
+    }
+
+    /**
+     * Continues {@link #nextQuotedValue(char)} on a string containing escape sequences, they are unescaped in
+     * {@link #unescapeBuffer}.
+     *
+     * @param quote either ' or ".
+     * @param start index of the first character of the string, {@code pos} is on the first backslash
+     */
+    private String nextEscapedQuotedValue(char quote, int start) {
+        StringBuilder builder = unescapeBuffer;
+        if (builder == null) {
+            builder = new StringBuilder();
+            unescapeBuffer = builder;
+        }
+        builder.setLength(0);
+        int p = pos;
         while (p < limit) {
             int c = in.charAt(p++);
 
             if (c == quote) {
                 pos = p;
-                builder.append(in.substring(start, p - 1));
-                return builder.toString();
+                builder.append(in, start, p - 1);
+                String result = builder.toString();
+                if (builder.length() > MAX_UNESCAPE_BUFFER_LENGTH) {
+                    // does not keep the memory of an exceptionally large string
+                    unescapeBuffer = null;
+                }
+                return result;
             } else if (c == '\\') {
                 pos = p;
-                builder.append(in.substring(start, p - 1));
+                builder.append(in, start, p - 1);
                 builder.append(readEscapeCharacter());
                 p = pos;
                 start = p;
@@ -1399,6 +1683,41 @@ public class NonBufferedJsonReader implements JsonReader {
         return in;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public RawJson nextRawValue() {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+            p = doPeek();
+        }
+
+        int start;
+        if (p == PEEKED_NULL) {
+            peeked = PEEKED_NONE;
+            return RawJson.NULL;
+        } else if (p == PEEKED_BUFFERED) {
+            // the string was already consumed by a failed number read
+            return RawJson.of(nextValue());
+        } else if (p == PEEKED_BEGIN_ARRAY || p == PEEKED_BEGIN_OBJECT
+                || p == PEEKED_SINGLE_QUOTED || p == PEEKED_DOUBLE_QUOTED) {
+            start = pos - 1;
+        } else if (p == PEEKED_TRUE) {
+            start = pos - 4;
+        } else if (p == PEEKED_FALSE) {
+            start = pos - 5;
+        } else if (p == PEEKED_LONG) {
+            start = pos - peekedNumberLength;
+        } else if (p == PEEKED_NUMBER || p == PEEKED_UNQUOTED) {
+            start = pos;
+        } else {
+            throw new IllegalStateException("Expected a value but was " + peek()
+                    + " at line " + getLineNumber() + " column " + getColumnNumber());
+        }
+
+        skipValue();
+        return RawJson.of(in, start, pos);
+    }
+
     /** {@inheritDoc} */
     @Override
     public String nextValue() {
@@ -1473,6 +1792,46 @@ public class NonBufferedJsonReader implements JsonReader {
         return writer.getOutput();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void mark() {
+        markPos = pos;
+        markLineNumber = lineNumber;
+        markLineStart = lineStart;
+        markPeeked = peeked;
+        markPeekedLong = peekedLong;
+        markPeekedNumberLength = peekedNumberLength;
+        markPeekedString = peekedString;
+        markStackSize = stackSize;
+        // only the scope of the current object or array changes while the reader stays in it
+        markScope = stack.getAt(stackSize - 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void reset() {
+        if (markPos < 0) {
+            throw new IllegalStateException("The reader has not been marked");
+        }
+        pos = markPos;
+        lineNumber = markLineNumber;
+        lineStart = markLineStart;
+        peeked = markPeeked;
+        peekedLong = markPeekedLong;
+        peekedNumberLength = markPeekedNumberLength;
+        peekedString = markPeekedString;
+        stackSize = markStackSize;
+        stack.setAt(stackSize - 1, markScope);
+        markPos = -1;
+        markPeekedString = null;
+    }
+
     /** {@inheritDoc} */
     @Override
     public Number nextNumber() {
@@ -1504,11 +1863,8 @@ public class NonBufferedJsonReader implements JsonReader {
         }
 
         if (p == PEEKED_NUMBER) {
-            peekedString = in.substring(pos, pos + peekedNumberLength);
+            result = numberParser.parseDouble(in, pos, pos + peekedNumberLength);
             pos += peekedNumberLength;
-            peeked = PEEKED_BUFFERED;
-            result = Double.parseDouble(peekedString);
-            peekedString = null;
             peeked = PEEKED_NONE;
             return result;
         }
@@ -0,0 +1,270 @@
+package org.dominokit.jacksonapt.stream.impl;
+
+import java.math.BigDecimal;
+
+/**
+ * Parses the JSON numbers validated by the readers straight from the characters of the input. The common numbers, with
+ * few significant digits and a small exponent, are computed exactly from their decimal mantissa and exponent without
+ * creating a {@link java.lang.String}, the others fall back to the {@link java.lang.String} parsing of the JDK. An
+ * instance keeps the state of the number being parsed, it is reused by its reader and is not thread-safe.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public final class NumberParser {
+
+    /**
+     * Exact powers of ten representable as a double, a mantissa below 2^53 multiplied or divided by one of them is
+     * correctly rounded.
+     */
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Exact powers of ten representable as a float, same as {@link #DOUBLE_POWERS_OF_TEN} with a mantissa below 2^24.
+     */
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    private static final long MAX_DOUBLE_MANTISSA = 1L << 53;
+
+    private static final long MAX_FLOAT_MANTISSA = 1L << 24;
+
+    /**
+     * Significant digits that always fit in a long.
+     */
+    private static final int MAX_DIGITS = 18;
+
+    /*
+     * Decimal mantissa and exponent of the last number parsed, a parser is owned by a single reader.
+     */
+    private long mantissa;
+    private int exponent;
+    private boolean negative;
+
+    private final CharArraySequence chars = new CharArraySequence();
+
+    /**
+     * <p>parseDouble.</p>
+     *
+     * @param in    the characters containing the number
+     * @param start index of the first character of the number
+     * @param end   index after the last character of the number
+     * @return the closest double to the number, like {@link java.lang.Double#parseDouble(String)}
+     */
+    public double parseDouble(CharSequence in, int start, int end) {
+        if (decompose(in, start, end) && mantissa <= MAX_DOUBLE_MANTISSA) {
+            int e = exponent;
+            if (e >= 0 && e < DOUBLE_POWERS_OF_TEN.length) {
+                double value = mantissa * DOUBLE_POWERS_OF_TEN[e];
+                return negative ? -value : value;
+            } else if (e < 0 && -e < DOUBLE_POWERS_OF_TEN.length) {
+                double value = mantissa / DOUBLE_POWERS_OF_TEN[-e];
+                return negative ? -value : value;
+            }
+        }
+        return Double.parseDouble(in.subSequence(start, end).toString());
+    }
+
+    /**
+     * <p>parseDouble.</p>
+     *
+     * @param in    the characters containing the number
+     * @param start index of the first character of the number
+     * @param end   index after the last character of the number
+     * @return the parsed number, see {@link #parseDouble(CharSequence, int, int)}
+     */
+    public double parseDouble(char[] in, int start, int end) {
+        chars.array = in;
+        try {
+            return parseDouble(chars, start, end);
+        } finally {
+            chars.array = null;
+        }
+    }
+
+    /**
+     * <p>parseFloat.</p>
+     *
+     * @param in    the characters containing the number
+     * @param start index of the first character of the number
+     * @param end   index after the last character of the number
+     * @return the closest float to the number, like {@link java.lang.Float#parseFloat(String)}
+     */
+    public float parseFloat(CharSequence in, int start, int end) {
+        if (decompose(in, start, end) && mantissa <= MAX_FLOAT_MANTISSA) {
+            int e = exponent;
+            if (e >= 0 && e < FLOAT_POWERS_OF_TEN.length) {
+                float value = mantissa * FLOAT_POWERS_OF_TEN[e];
+                return negative ? -value : value;
+            } else if (e < 0 && -e < FLOAT_POWERS_OF_TEN.length) {
+                float value = mantissa / FLOAT_POWERS_OF_TEN[-e];
+                return negative ? -value : value;
+            }
+        }
+        return Float.parseFloat(in.subSequence(start, end).toString());
+    }
+
+    /**
+     * <p>parseFloat.</p>
+     *
+     * @param in    the characters containing the number
+     * @param start index of the first character of the number
+     * @param end   index after the last character of the number
+     * @return the parsed number, see {@link #parseFloat(CharSequence, int, int)}
+     */
+    public float parseFloat(char[] in, int start, int end) {
+        chars.array = in;
+        try {
+            return parseFloat(chars, start, end);
+        } finally {
+            chars.array = null;
+        }
+    }
+
+    /**
+     * <p>parseBigDecimal.</p>
+     *
+     * @param in    the characters containing the number
+     * @param start index of the first character of the number
+     * @param end   index after the last character of the number
+     * @return the number with the same unscaled value and scale as {@link java.math.BigDecimal#BigDecimal(String)}
+     */
+    public BigDecimal parseBigDecimal(CharSequence in, int start, int end) {
+        if (decompose(in, start, end)) {
+            return BigDecimal.valueOf(negative ? -mantissa : mantissa, -exponent);
+        }
+        return new BigDecimal(in.subSequence(start, end).toString());
+    }
+
+    /**
+     * <p>parseBigDecimal.</p>
+     *
+     * @param in    the characters containing the number
+     * @param start index of the first character of the number
+     * @param end   index after the last character of the number
+     * @return the parsed number, see {@link #parseBigDecimal(CharSequence, int, int)}
+     */
+    public BigDecimal parseBigDecimal(char[] in, int start, int end) {
+        chars.array = in;
+        try {
+            return parseBigDecimal(chars, start, end);
+        } finally {
+            chars.array = null;
+        }
+    }
+
+    /**
+     * Splits the number in a decimal mantissa and exponent.
+     *
+     * @return false if the number has too many significant digits or a too large exponent, or is not a plain JSON number
+     */
+    private boolean decompose(CharSequence in, int start, int end) {
+        mantissa = 0;
+        exponent = 0;
+        negative = false;
+        int i = start;
+        if (i < end && in.charAt(i) == '-') {
+            negative = true;
+            i++;
+        }
+
+        int digits = 0;
+        int integerStart = i;
+        for (; i < end; i++) {
+            int digit = in.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            // leading zeros are not significant
+            if (digits > 0 || digit != 0) {
+                if (++digits > MAX_DIGITS) {
+                    return false;
+                }
+                mantissa = mantissa * 10 + digit;
+            }
+        }
+        if (i == integerStart) {
+            return false;
+        }
+
+        if (i < end && in.charAt(i) == '.') {
+            i++;
+            int fractionStart = i;
+            for (; i < end; i++) {
+                int digit = in.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                if (digits > 0 || digit != 0) {
+                    if (++digits > MAX_DIGITS) {
+                        return false;
+                    }
+                }
+                mantissa = mantissa * 10 + digit;
+                exponent--;
+            }
+            if (i == fractionStart) {
+                return false;
+            }
+        }
+
+        if (i < end && (in.charAt(i) == 'e' || in.charAt(i) == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (in.charAt(i) == '-' || in.charAt(i) == '+')) {
+                negativeExponent = in.charAt(i) == '-';
+                i++;
+            }
+            int exponentStart = i;
+            int value = 0;
+            for (; i < end; i++) {
+                int digit = in.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    return false;
+                }
+                value = value * 10 + digit;
+                if (value > 999999) {
+                    return false;
+                }
+            }
+            if (i == exponentStart) {
+                return false;
+            }
+            exponent += negativeExponent ? -value : value;
+        }
+
+        return i == end;
+    }
+
+    /**
+     * Reusable view of the buffer of a {@link org.dominokit.jacksonapt.stream.impl.DefaultJsonReader}.
+     */
+    private static final class CharArraySequence implements CharSequence {
+
+        private char[] array;
+
+        @Override
+        public int length() {
+            return array.length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return array[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(array, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(array);
+        }
+    }
+}
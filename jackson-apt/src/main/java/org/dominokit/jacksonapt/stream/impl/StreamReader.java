@@ -0,0 +1,63 @@
+package org.dominokit.jacksonapt.stream.impl;
+
+import org.dominokit.jacksonapt.GwtIncompatible;
+import org.dominokit.jacksonapt.exception.JsonDeserializationException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link CharacterReader} pulling characters from a {@link java.io.Reader} or an UTF-8 encoded {@link java.io.InputStream}
+ * on demand, so only the buffer of the {@link DefaultJsonReader} is held in memory. The underlying stream is not closed.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+@GwtIncompatible
+public class StreamReader implements CharacterReader {
+
+    private final Reader in;
+
+    /**
+     * <p>Constructor for StreamReader.</p>
+     *
+     * @param in an UTF-8 encoded {@link java.io.InputStream}.
+     */
+    public StreamReader(InputStream in) {
+        this(new InputStreamReader(requireNonNull(in, "in == null"), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * <p>Constructor for StreamReader.</p>
+     *
+     * @param in a {@link java.io.Reader} object.
+     */
+    public StreamReader(Reader in) {
+        this.in = requireNonNull(in, "in == null");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(char cbuf[], int off, int len) {
+        try {
+            return in.read(cbuf, off, len);
+        } catch (IOException e) {
+            throw new JsonDeserializationException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A streamed input is not retained, so this always returns null.
+     */
+    @Override
+    public String getInput() {
+        return null;
+    }
+}
@@ -0,0 +1,77 @@
+package org.dominokit.jacksonapt.stream.impl;
+
+/**
+ * {@link CharacterWriter} appending to a {@link java.lang.StringBuilder}.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public class StringBuilderWriter implements CharacterWriter {
+
+    private final StringBuilder out;
+
+    /**
+     * <p>Constructor for StringBuilderWriter.</p>
+     *
+     * @param out a {@link java.lang.StringBuilder} object.
+     */
+    public StringBuilderWriter(StringBuilder out) {
+        if (out == null) {
+            throw new NullPointerException("out == null");
+        }
+        this.out = out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void append(char c) {
+        out.append(c);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void append(String s) {
+        out.append(s);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void append(String s, int start, int end) {
+        out.append(s, start, end);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void append(char[] chars, int start, int end) {
+        out.append(chars, start, end - start);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void append(long value) {
+        out.append(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void append(double value) {
+        out.append(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void append(float value) {
+        out.append(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush() {
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getOutput() {
+        return out.toString();
+    }
+}
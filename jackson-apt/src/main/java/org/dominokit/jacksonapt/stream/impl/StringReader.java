@@ -22,7 +22,7 @@ package org.dominokit.jacksonapt.stream.impl;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class StringReader {
+public class StringReader implements CharacterReader {
 
     private final String in;
 
@@ -44,24 +44,14 @@ public class StringReader {
         this.next = 0;
     }
 
-    /**
-     * <p>getInput</p>
-     *
-     * @return a {@link java.lang.String} object.
-     */
+    /** {@inheritDoc} */
+    @Override
     public String getInput() {
         return in;
     }
 
-    /**
-     * Reads characters into a portion of an array.
-     *
-     * @param cbuf Destination buffer
-     * @param off  Offset at which to start writing characters
-     * @param len  Maximum number of characters to read
-     * @return The number of characters read, or -1 if the end of the
-     * stream has been reached
-     */
+    /** {@inheritDoc} */
+    @Override
     public int read(char cbuf[], int off, int len) {
         if ((off < 0) || (off > cbuf.length) || (len < 0) ||
                 ((off + len) > cbuf.length) || ((off + len) < 0)) {
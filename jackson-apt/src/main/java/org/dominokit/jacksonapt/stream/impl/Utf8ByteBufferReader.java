@@ -0,0 +1,156 @@
+package org.dominokit.jacksonapt.stream.impl;
+
+import org.dominokit.jacksonapt.GwtIncompatible;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link CharacterReader} decoding UTF-8 bytes from a {@link java.nio.ByteBuffer}, heap or direct, straight into the
+ * buffer of the {@link DefaultJsonReader}. The input is never decoded as a whole, so no intermediate {@link java.lang.String}
+ * of the full document is created. Malformed sequences are replaced by {@code U+FFFD} like {@link java.lang.String#String(byte[],
+ * java.nio.charset.Charset)} does.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+@GwtIncompatible
+public class Utf8ByteBufferReader implements CharacterReader {
+
+    private static final char REPLACEMENT_CHAR = '\uFFFD';
+
+    private final ByteBuffer in;
+
+    private final int start;
+
+    /**
+     * Low surrogate of a supplementary character that did not fit in the last read.
+     */
+    private char pendingLowSurrogate;
+
+    /**
+     * <p>Constructor for Utf8ByteBufferReader.</p>
+     *
+     * @param in a byte array containing an UTF-8 encoded JSON input.
+     */
+    public Utf8ByteBufferReader(byte[] in) {
+        this(ByteBuffer.wrap(in));
+    }
+
+    /**
+     * <p>Constructor for Utf8ByteBufferReader.</p>
+     * The bytes between the current position and the limit of {@code in} are read, the position of {@code in} is not modified.
+     *
+     * @param in a {@link java.nio.ByteBuffer} containing an UTF-8 encoded JSON input.
+     */
+    public Utf8ByteBufferReader(ByteBuffer in) {
+        if (in == null) {
+            throw new NullPointerException("in == null");
+        }
+        this.in = in.duplicate();
+        this.start = this.in.position();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(char cbuf[], int off, int len) {
+        if ((off < 0) || (off > cbuf.length) || (len < 0) ||
+                ((off + len) > cbuf.length) || ((off + len) < 0)) {
+            throw new IndexOutOfBoundsException();
+        } else if (len == 0) {
+            return 0;
+        }
+
+        int n = off;
+        int end = off + len;
+        if (pendingLowSurrogate != 0) {
+            cbuf[n++] = pendingLowSurrogate;
+            pendingLowSurrogate = 0;
+        }
+
+        // Like DefaultJsonReader, this uses locals 'p' and 'l' to save inner-loop field access.
+        final ByteBuffer in = this.in;
+        int p = in.position();
+        int l = in.limit();
+        if (p >= l && n == off) {
+            return -1;
+        }
+
+        while (n < end && p < l) {
+            int b = in.get(p);
+            if (b >= 0) {
+                // ASCII fast path
+                cbuf[n++] = (char) b;
+                p++;
+                continue;
+            }
+
+            int remaining;
+            int codePoint;
+            int min;
+            if ((b & 0xE0) == 0xC0) {
+                remaining = 1;
+                codePoint = b & 0x1F;
+                min = 0x80;
+            } else if ((b & 0xF0) == 0xE0) {
+                remaining = 2;
+                codePoint = b & 0x0F;
+                min = 0x800;
+            } else if ((b & 0xF8) == 0xF0) {
+                remaining = 3;
+                codePoint = b & 0x07;
+                min = 0x10000;
+            } else {
+                // unexpected continuation byte or invalid lead byte
+                cbuf[n++] = REPLACEMENT_CHAR;
+                p++;
+                continue;
+            }
+
+            int i = 1;
+            for (; i <= remaining && p + i < l; i++) {
+                int next = in.get(p + i);
+                if ((next & 0xC0) != 0x80) {
+                    break;
+                }
+                codePoint = (codePoint << 6) | (next & 0x3F);
+            }
+            if (i <= remaining) {
+                // truncated sequence, the bytes read so far are replaced by a single replacement character
+                cbuf[n++] = REPLACEMENT_CHAR;
+                p += i;
+                continue;
+            }
+            p += i;
+
+            if (codePoint < min || codePoint > Character.MAX_CODE_POINT
+                    || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+                cbuf[n++] = REPLACEMENT_CHAR;
+            } else if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                cbuf[n++] = (char) codePoint;
+            } else {
+                cbuf[n++] = Character.highSurrogate(codePoint);
+                if (n < end) {
+                    cbuf[n++] = Character.lowSurrogate(codePoint);
+                } else {
+                    pendingLowSurrogate = Character.lowSurrogate(codePoint);
+                }
+            }
+        }
+
+        in.position(p);
+        return n - off;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The whole input is decoded on each call, it should only be used when tracing errors.
+     */
+    @Override
+    public String getInput() {
+        ByteBuffer input = in.duplicate();
+        input.position(start);
+        return StandardCharsets.UTF_8.decode(input).toString();
+    }
+}
@@ -0,0 +1,308 @@
+package org.dominokit.jacksonapt.stream.impl;
+
+import org.dominokit.jacksonapt.GwtIncompatible;
+import org.dominokit.jacksonapt.exception.JsonSerializationException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * {@link CharacterWriter} encoding the characters as UTF-8 into a reusable byte buffer, which is written to an
+ * {@link java.io.OutputStream} or a {@link java.nio.channels.WritableByteChannel} each time it is full and on {@link #flush()}.
+ * The output is never held as a {@link java.lang.String}. Unpaired surrogates are replaced by {@code '?'} like
+ * {@link java.lang.String#getBytes(java.nio.charset.Charset)} does. The underlying stream is not closed.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+@GwtIncompatible
+public class Utf8StreamWriter implements CharacterWriter {
+
+    /**
+     * Default size of the byte buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * Smallest accepted size of the byte buffer, it must hold the longest UTF-8 sequence.
+     */
+    public static final int MIN_BUFFER_SIZE = 4;
+
+    private final OutputStream out;
+
+    private final WritableByteChannel channel;
+
+    private final byte[] buffer;
+
+    private int pos = 0;
+
+    /**
+     * Reused to format doubles, they are always ASCII.
+     */
+    private final StringBuilder numberBuffer = new StringBuilder(24);
+
+    /**
+     * <p>Constructor for Utf8StreamWriter.</p>
+     *
+     * @param out an {@link java.io.OutputStream} object.
+     */
+    public Utf8StreamWriter(OutputStream out) {
+        this(out, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * <p>Constructor for Utf8StreamWriter.</p>
+     *
+     * @param out        an {@link java.io.OutputStream} object.
+     * @param bufferSize size of the byte buffer.
+     */
+    public Utf8StreamWriter(OutputStream out, int bufferSize) {
+        this(out, null, bufferSize);
+        if (out == null) {
+            throw new NullPointerException("out == null");
+        }
+    }
+
+    /**
+     * <p>Constructor for Utf8StreamWriter.</p>
+     *
+     * @param channel a {@link java.nio.channels.WritableByteChannel} object.
+     */
+    public Utf8StreamWriter(WritableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * <p>Constructor for Utf8StreamWriter.</p>
+     *
+     * @param channel    a {@link java.nio.channels.WritableByteChannel} object.
+     * @param bufferSize size of the byte buffer.
+     */
+    public Utf8StreamWriter(WritableByteChannel channel, int bufferSize) {
+        this(null, channel, bufferSize);
+        if (channel == null) {
+            throw new NullPointerException("channel == null");
+        }
+    }
+
+    private Utf8StreamWriter(OutputStream out, WritableByteChannel channel, int bufferSize) {
+        if (bufferSize < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("bufferSize must be at least " + MIN_BUFFER_SIZE + " but was " + bufferSize);
+        }
+        this.out = out;
+        this.channel = channel;
+        this.buffer = new byte[bufferSize];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void append(char c) {
+        if (c < 0x80) {
+            if (pos == buffer.length) {
+                flushBuffer();
+            }
+            buffer[pos++] = (byte) c;
+        } else if (Character.isSurrogate(c)) {
+            // a pair is never split between two calls, so a surrogate appended alone is unpaired
+            append('?');
+        } else {
+            writeNonAscii(c);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void append(String s) {
+        append(s, 0, s.length());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void append(String s, int start, int end) {
+        // Like DefaultJsonReader, this uses locals 'p' and 'buffer' to save inner-loop field access.
+        final byte[] buffer = this.buffer;
+        int p = pos;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                // ASCII fast path
+                if (p == buffer.length) {
+                    pos = p;
+                    flushBuffer();
+                    p = 0;
+                }
+                buffer[p++] = (byte) c;
+                continue;
+            }
+
+            pos = p;
+            if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(s.charAt(i + 1))) {
+                writeCodePoint(Character.toCodePoint(c, s.charAt(++i)));
+            } else if (Character.isSurrogate(c)) {
+                append('?');
+            } else {
+                writeNonAscii(c);
+            }
+            p = pos;
+        }
+        pos = p;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void append(char[] chars, int start, int end) {
+        final byte[] buffer = this.buffer;
+        int p = pos;
+        for (int i = start; i < end; i++) {
+            char c = chars[i];
+            if (c >= 0x80) {
+                // the arrays appended are base64 chunks, the rest is not worth a second copy of the encoder
+                pos = p;
+                append(new String(chars, i, end - i));
+                return;
+            }
+            if (p == buffer.length) {
+                pos = p;
+                flushBuffer();
+                p = 0;
+            }
+            buffer[p++] = (byte) c;
+        }
+        pos = p;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void append(long value) {
+        // the longest value, Long.MIN_VALUE, has 19 digits and a sign
+        if (pos + 20 > buffer.length) {
+            flushBuffer();
+            if (buffer.length < 20) {
+                numberBuffer.setLength(0);
+                numberBuffer.append(value);
+                appendAscii(numberBuffer);
+                return;
+            }
+        }
+        if (value == Long.MIN_VALUE) {
+            append("-9223372036854775808");
+            return;
+        }
+        if (value < 0) {
+            buffer[pos++] = '-';
+            value = -value;
+        }
+        int end = pos + digitCount(value);
+        int p = end;
+        do {
+            buffer[--p] = (byte) ('0' + (int) (value % 10));
+            value /= 10;
+        } while (value != 0);
+        pos = end;
+    }
+
+    private static int digitCount(long value) {
+        int count = 1;
+        while (value >= 10) {
+            value /= 10;
+            count++;
+        }
+        return count;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void append(double value) {
+        numberBuffer.setLength(0);
+        numberBuffer.append(value);
+        appendAscii(numberBuffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void append(float value) {
+        numberBuffer.setLength(0);
+        numberBuffer.append(value);
+        appendAscii(numberBuffer);
+    }
+
+    private void appendAscii(CharSequence chars) {
+        for (int i = 0, length = chars.length(); i < length; i++) {
+            if (pos == buffer.length) {
+                flushBuffer();
+            }
+            buffer[pos++] = (byte) chars.charAt(i);
+        }
+    }
+
+    private void writeNonAscii(char c) {
+        if (pos + 3 > buffer.length) {
+            flushBuffer();
+        }
+        if (c < 0x800) {
+            buffer[pos++] = (byte) (0xC0 | (c >> 6));
+        } else {
+            buffer[pos++] = (byte) (0xE0 | (c >> 12));
+            buffer[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+        }
+        buffer[pos++] = (byte) (0x80 | (c & 0x3F));
+    }
+
+    private void writeCodePoint(int codePoint) {
+        if (pos + 4 > buffer.length) {
+            flushBuffer();
+        }
+        buffer[pos++] = (byte) (0xF0 | (codePoint >> 18));
+        buffer[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        buffer[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        buffer[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+    }
+
+    private void flushBuffer() {
+        if (pos == 0) {
+            return;
+        }
+        try {
+            if (out != null) {
+                out.write(buffer, 0, pos);
+            } else {
+                ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, pos);
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+            }
+        } catch (IOException e) {
+            throw new JsonSerializationException(e);
+        }
+        pos = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Writes the buffered bytes and flushes the {@link java.io.OutputStream}.
+     */
+    @Override
+    public void flush() {
+        flushBuffer();
+        if (out != null) {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                throw new JsonSerializationException(e);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A streamed output is not retained, so this always returns null.
+     */
+    @Override
+    public String getOutput() {
+        return null;
+    }
+}
@@ -45,22 +45,29 @@ public class Base64Utils {
 
     /**
      * An array mapping legal base 64 characters [a-zA-Z0-9+/] to their associated
-     * 6-bit values. The source indices will be given by 7-bit ASCII characters,
-     * thus the array size needs to be 128 (actually 123 would suffice for the
-     * given set of characters in use).
+     * 6-bit values, and the other 7-bit ASCII characters to -1. The source indices
+     * will be given by 7-bit ASCII characters, thus the array size needs to be 128.
      */
-    private static final byte[] base64Values = new byte[128];
+    private static final int[] base64Values = new int[128];
 
     /**
      * Initialize the base 64 encoder values.
      */
     static {
+        for (int i = 0; i < base64Values.length; i++) {
+            base64Values[i] = -1;
+        }
         // Invert the mapping (i -> base64Chars[i])
         for (int i = 0; i < base64Chars.length; i++) {
-            base64Values[base64Chars[i]] = (byte) i;
+            base64Values[base64Chars[i]] = i;
         }
     }
 
+    /**
+     * Number of bytes a 3-bytes group is encoded to.
+     */
+    private static final int GROUP_LENGTH = 4;
+
     /**
      * Decode a base64 string into a byte array.
      *
@@ -74,46 +81,133 @@ public class Base64Utils {
         }
 
         int len = data.length();
-        assert (len % 4) == 0;
-
-        if (len == 0) {
-            return new byte[0];
-        }
+        byte[] bytes = new byte[decodedLength(data, 0, len)];
+        decode(data, 0, len, bytes, 0);
+        return bytes;
+    }
 
-        char[] chars = new char[len];
-        data.getChars(0, len, chars, 0);
+    /**
+     * Number of bytes encoded by the base64 characters of {@code data} between {@code start} inclusive and {@code end}
+     * exclusive. The padding is optional.
+     *
+     * @param data  the encoded data
+     * @param start index of the first character
+     * @param end   index after the last character
+     * @return the length of the decoded data
+     */
+    public static int decodedLength(CharSequence data, int start, int end) {
+        end = unpaddedEnd(data, start, end);
+        int len = end - start;
+        int remaining = len % GROUP_LENGTH;
+        return 3 * (len / GROUP_LENGTH) + (remaining == 0 ? 0 : remaining - 1);
+    }
 
-        int olen = 3 * (len / 4);
-        if (chars[len - 2] == '=') {
-            --olen;
+    /**
+     * Decodes the base64 characters of {@code data} between {@code start} inclusive and {@code end} exclusive into
+     * {@code bytes}. The padding is optional, {@code bytes} must have room for {@link #decodedLength} bytes.
+     *
+     * @param data   the encoded data
+     * @param start  index of the first character
+     * @param end    index after the last character
+     * @param bytes  the destination of the decoded data
+     * @param offset index in {@code bytes} of the first decoded byte
+     * @return the index in {@code bytes} after the last decoded byte
+     * @throws java.lang.IllegalArgumentException if the data is not valid base64
+     */
+    public static int decode(CharSequence data, int start, int end, byte[] bytes, int offset) {
+        end = unpaddedEnd(data, start, end);
+        int groupsEnd = end - (end - start) % GROUP_LENGTH;
+        int iidx = start;
+        int oidx = offset;
+        while (iidx < groupsEnd) {
+            // a character out of the alphabet is -1 and makes the whole group negative
+            int c24 = value(data.charAt(iidx)) << 18 | value(data.charAt(iidx + 1)) << 12
+                    | value(data.charAt(iidx + 2)) << 6 | value(data.charAt(iidx + 3));
+            if (c24 < 0) {
+                throw illegalCharacter(data, iidx, groupsEnd);
+            }
+            bytes[oidx] = (byte) (c24 >> 16);
+            bytes[oidx + 1] = (byte) (c24 >> 8);
+            bytes[oidx + 2] = (byte) c24;
+            iidx += GROUP_LENGTH;
+            oidx += 3;
+        }
+        if (iidx == end) {
+            return oidx;
+        }
+        if (end - iidx == 1) {
+            throw new IllegalArgumentException("Truncated base64 data");
+        }
+        int c18 = value(data.charAt(iidx)) << 12 | value(data.charAt(iidx + 1)) << 6
+                | (end - iidx == 3 ? value(data.charAt(iidx + 2)) : 0);
+        if (c18 < 0) {
+            throw illegalCharacter(data, iidx, end);
         }
-        if (chars[len - 1] == '=') {
-            --olen;
+        bytes[oidx++] = (byte) (c18 >> 10);
+        if (end - iidx == 3) {
+            bytes[oidx++] = (byte) (c18 >> 2);
         }
+        return oidx;
+    }
 
-        byte[] bytes = new byte[olen];
+    /**
+     * Decodes the base64 characters of {@code data} between {@code start} inclusive and {@code end} exclusive into
+     * {@code bytes}, see {@link #decode(CharSequence, int, int, byte[], int)}.
+     *
+     * @param data   the encoded data
+     * @param start  index of the first character
+     * @param end    index after the last character
+     * @param bytes  the destination of the decoded data
+     * @param offset index in {@code bytes} of the first decoded byte
+     * @return the index in {@code bytes} after the last decoded byte
+     * @throws java.lang.IllegalArgumentException if the data is not valid base64
+     */
+    public static int decode(char[] data, int start, int end, byte[] bytes, int offset) {
+        // the groups are decoded straight from the array, the last incomplete group is rare
+        int groupsEnd = end - (end - start) % GROUP_LENGTH;
+        if (groupsEnd > start && data[groupsEnd - 1] == '=') {
+            groupsEnd -= GROUP_LENGTH;
+        }
+        int iidx = start;
+        int oidx = offset;
+        while (iidx < groupsEnd) {
+            int c24 = value(data[iidx]) << 18 | value(data[iidx + 1]) << 12 | value(data[iidx + 2]) << 6 | value(data[iidx + 3]);
+            if (c24 < 0) {
+                throw illegalCharacter(new String(data, iidx, GROUP_LENGTH), 0, GROUP_LENGTH);
+            }
+            bytes[oidx] = (byte) (c24 >> 16);
+            bytes[oidx + 1] = (byte) (c24 >> 8);
+            bytes[oidx + 2] = (byte) c24;
+            iidx += GROUP_LENGTH;
+            oidx += 3;
+        }
+        if (iidx == end) {
+            return oidx;
+        }
+        return decode(new String(data, iidx, end - iidx), 0, end - iidx, bytes, oidx);
+    }
 
-        int iidx = 0;
-        int oidx = 0;
-        while (iidx < len) {
-            int c0 = base64Values[chars[iidx++] & 0xff];
-            int c1 = base64Values[chars[iidx++] & 0xff];
-            int c2 = base64Values[chars[iidx++] & 0xff];
-            int c3 = base64Values[chars[iidx++] & 0xff];
-            int c24 = (c0 << 18) | (c1 << 12) | (c2 << 6) | c3;
+    private static int value(char c) {
+        return c < 128 ? base64Values[c] : -1;
+    }
 
-            bytes[oidx++] = (byte) (c24 >> 16);
-            if (oidx == olen) {
-                break;
-            }
-            bytes[oidx++] = (byte) (c24 >> 8);
-            if (oidx == olen) {
-                break;
+    private static int unpaddedEnd(CharSequence data, int start, int end) {
+        if (end > start && data.charAt(end - 1) == '=') {
+            end--;
+            if (end > start && data.charAt(end - 1) == '=') {
+                end--;
             }
-            bytes[oidx++] = (byte) c24;
         }
+        return end;
+    }
 
-        return bytes;
+    private static IllegalArgumentException illegalCharacter(CharSequence data, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (value(data.charAt(i)) < 0) {
+                return new IllegalArgumentException("Illegal base64 character '" + data.charAt(i) + "'");
+            }
+        }
+        return new IllegalArgumentException("Illegal base64 data");
     }
 
     /**
@@ -149,37 +243,58 @@ public class Base64Utils {
             return null;
         }
 
-        int len = data.length;
-        if (len == 0) {
-            return "";
-        }
-
-        int olen = 4 * ((len + 2) / 3);
-        char[] chars = new char[olen];
-
-        int iidx = 0;
-        int oidx = 0;
-        int charsLeft = len;
-        while (charsLeft > 0) {
-            int b0 = data[iidx++] & 0xff;
-            int b1 = (charsLeft > 1) ? data[iidx++] & 0xff : 0;
-            int b2 = (charsLeft > 2) ? data[iidx++] & 0xff : 0;
-            int b24 = (b0 << 16) | (b1 << 8) | b2;
-
-            int c0 = (b24 >> 18) & 0x3f;
-            int c1 = (b24 >> 12) & 0x3f;
-            int c2 = (b24 >> 6) & 0x3f;
-            int c3 = b24 & 0x3f;
+        char[] chars = new char[encodedLength(data.length)];
+        encode(data, 0, data.length, chars, 0);
+        return new String(chars);
+    }
 
-            chars[oidx++] = base64Chars[c0];
-            chars[oidx++] = base64Chars[c1];
-            chars[oidx++] = (charsLeft > 1) ? base64Chars[c2] : '=';
-            chars[oidx++] = (charsLeft > 2) ? base64Chars[c3] : '=';
+    /**
+     * Number of characters {@code length} bytes are encoded to, with the padding.
+     *
+     * @param length the length of the data
+     * @return the length of the encoded data
+     */
+    public static int encodedLength(int length) {
+        return GROUP_LENGTH * ((length + 2) / 3);
+    }
 
-            charsLeft -= 3;
+    /**
+     * Encodes {@code length} bytes of {@code data} starting at {@code offset} into {@code chars}, like
+     * {@link #toBase64(byte[])}. {@code chars} must have room for {@link #encodedLength(int)} characters.
+     *
+     * @param data       the data to encode
+     * @param offset     index of the first byte to encode
+     * @param length     number of bytes to encode
+     * @param chars      the destination of the encoded data
+     * @param charOffset index in {@code chars} of the first encoded character
+     * @return the index in {@code chars} after the last encoded character
+     */
+    public static int encode(byte[] data, int offset, int length, char[] chars, int charOffset) {
+        int end = offset + length;
+        int groupsEnd = end - length % 3;
+        int iidx = offset;
+        int oidx = charOffset;
+        while (iidx < groupsEnd) {
+            int b24 = (data[iidx] & 0xff) << 16 | (data[iidx + 1] & 0xff) << 8 | (data[iidx + 2] & 0xff);
+            chars[oidx] = base64Chars[b24 >>> 18];
+            chars[oidx + 1] = base64Chars[(b24 >>> 12) & 0x3f];
+            chars[oidx + 2] = base64Chars[(b24 >>> 6) & 0x3f];
+            chars[oidx + 3] = base64Chars[b24 & 0x3f];
+            iidx += 3;
+            oidx += GROUP_LENGTH;
         }
 
-        return new String(chars);
+        int charsLeft = end - iidx;
+        if (charsLeft > 0) {
+            int b0 = data[iidx] & 0xff;
+            int b1 = (charsLeft > 1) ? data[iidx + 1] & 0xff : 0;
+            int b24 = (b0 << 16) | (b1 << 8);
+            chars[oidx++] = base64Chars[b24 >>> 18];
+            chars[oidx++] = base64Chars[(b24 >>> 12) & 0x3f];
+            chars[oidx++] = (charsLeft > 1) ? base64Chars[(b24 >>> 6) & 0x3f] : '=';
+            chars[oidx++] = '=';
+        }
+        return oidx;
     }
 
     /**
@@ -30,8 +30,8 @@ import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * <p>DefaultDateFormat class.</p>
@@ -71,7 +71,23 @@ public final class DefaultDateFormat implements JacksonContext.DateFormat {
      */
     public static final ZoneId UTC_TIMEZONE = ZoneOffset.UTC;
 
-    private static final Map<String, DateParser> CACHE_PARSERS = new HashMap<String, DateParser>();
+    /**
+     * Maximum number of patterns kept in {@link #CACHE_FORMATTERS} and {@link #CACHE_PARSERS}, formatters and parsers for
+     * other patterns are built on each use.
+     */
+    private static final int MAX_CACHED_PATTERNS = 256;
+
+    /**
+     * Immutable formatters by pattern then by zone, shared by all threads for parsing and formatting.
+     */
+    private static final ConcurrentMap<String, ConcurrentMap<ZoneId, DateTimeFormatter>> CACHE_FORMATTERS = new ConcurrentHashMap<>();
+
+    /**
+     * Parsers by pattern, bounded like {@link #CACHE_FORMATTERS}. They keep the lenient {@link SimpleDateFormat} parsing.
+     */
+    private static final ConcurrentMap<String, DateParser> CACHE_PARSERS = new ConcurrentHashMap<>();
+
+    private static final DateTimeFormatter DATE_FORMAT_STR_ISO8601_UTC = DATE_FORMAT_STR_ISO8601.withZone(UTC_TIMEZONE);
 
     /**
      * <p>Constructor for DefaultDateFormat.</p>
@@ -85,7 +101,11 @@ public final class DefaultDateFormat implements JacksonContext.DateFormat {
      * Format a date using {@link #DATE_FORMAT_STR_ISO8601} and {@link #UTC_TIMEZONE}
      */
     public String format(Date date) {
-        return format(DefaultDateFormat.DATE_FORMAT_STR_ISO8601, DefaultDateFormat.UTC_TIMEZONE, date);
+        String formatted = Iso8601.formatUTC(date.getTime());
+        if (null != formatted) {
+            return formatted;
+        }
+        return DATE_FORMAT_STR_ISO8601_UTC.format(toInstant(date));
     }
 
     /**
@@ -94,13 +114,6 @@ public final class DefaultDateFormat implements JacksonContext.DateFormat {
      * Format a date using {@link JsonSerializerParameters} or default values : {@link #DATE_FORMAT_STR_ISO8601} and {@link #UTC_TIMEZONE}
      */
     public String format(JsonSerializerParameters params, Date date) {
-        DateTimeFormatter format;
-        if (null == params.getPattern()) {
-            format = DefaultDateFormat.DATE_FORMAT_STR_ISO8601;
-        } else {
-            format = DateTimeFormatter.ofPattern(params.getPattern());
-        }
-
         ZoneId timeZone;
         if (null == params.getTimezone()) {
             timeZone = DefaultDateFormat.UTC_TIMEZONE;
@@ -108,7 +121,22 @@ public final class DefaultDateFormat implements JacksonContext.DateFormat {
             timeZone = (ZoneId) params.getTimezone();
         }
 
-        return format(format, timeZone, date);
+        boolean isUTC = DefaultDateFormat.UTC_TIMEZONE.equals(timeZone);
+        if (isUTC && (null == params.getPattern() || DatePatterns.ISO8601.equals(params.getPattern()))) {
+            String formatted = Iso8601.formatUTC(date.getTime());
+            if (null != formatted) {
+                return formatted;
+            }
+        }
+
+        DateTimeFormatter format;
+        if (null == params.getPattern()) {
+            format = isUTC ? DATE_FORMAT_STR_ISO8601_UTC : DATE_FORMAT_STR_ISO8601.withZone(timeZone);
+        } else {
+            format = getFormatter(params.getPattern(), timeZone);
+        }
+
+        return format.format(toInstant(date));
     }
 
     /**
@@ -139,9 +167,46 @@ public final class DefaultDateFormat implements JacksonContext.DateFormat {
      * @return the formatted date
      */
     public String format(DateTimeFormatter format, ZoneId timeZone, Date date) {
-        if(date instanceof java.sql.Date || date instanceof java.sql.Time)
-            return format.withZone(timeZone).format(new Date(date.getTime()).toInstant());
-        return format.withZone(timeZone).format(date.toInstant());
+        return format.withZone(timeZone).format(toInstant(date));
+    }
+
+    private static Instant toInstant(Date date) {
+        if (date instanceof java.sql.Date || date instanceof java.sql.Time) {
+            // these throw UnsupportedOperationException on toInstant()
+            return Instant.ofEpochMilli(date.getTime());
+        }
+        return date.toInstant();
+    }
+
+    /**
+     * Returns the cached formatter for the pattern, using the zone given in parameter when formatting.
+     *
+     * @param pattern  pattern of the formatter
+     * @param timeZone timezone of the formatter
+     * @return the formatter
+     */
+    public static DateTimeFormatter getFormatter(String pattern, ZoneId timeZone) {
+        ConcurrentMap<ZoneId, DateTimeFormatter> byZone = CACHE_FORMATTERS.get(pattern);
+        if (null == byZone) {
+            if (CACHE_FORMATTERS.size() >= MAX_CACHED_PATTERNS) {
+                return DateTimeFormatter.ofPattern(pattern).withZone(timeZone);
+            }
+            byZone = new ConcurrentHashMap<>();
+            ConcurrentMap<ZoneId, DateTimeFormatter> existing = CACHE_FORMATTERS.putIfAbsent(pattern, byZone);
+            if (null != existing) {
+                byZone = existing;
+            }
+        }
+
+        DateTimeFormatter formatter = byZone.get(timeZone);
+        if (null == formatter) {
+            formatter = DateTimeFormatter.ofPattern(pattern).withZone(timeZone);
+            DateTimeFormatter existing = byZone.putIfAbsent(timeZone, formatter);
+            if (null != existing) {
+                formatter = existing;
+            }
+        }
+        return formatter;
     }
 
     /**
@@ -158,16 +223,21 @@ public final class DefaultDateFormat implements JacksonContext.DateFormat {
      * {@inheritDoc}
      *
      * Parse a date using the pattern given in parameter or {@link #DATE_FORMAT_STR_ISO8601} and the browser timezone.
+     * Without pattern, the common ISO-8601 shapes are parsed by {@link Iso8601} before trying the formatters.
      */
     public Date parse(boolean useBrowserTimezone, String pattern, Boolean hasTz, String date) {
         if (null == pattern) {
+            long millis = Iso8601.parse(date);
+            if (Iso8601.INVALID != millis) {
+                return new Date(millis);
+            }
             try {
                 return parse(DefaultDateFormat.DATE_FORMAT_STR_ISO8601, date);
             }catch (DateTimeParseException e){
                 return parse(DefaultDateFormat.DATE_FORMAT_STR_ISO8601_Z, date);
             }
         } else {
-            String patternCacheKey = pattern + useBrowserTimezone;
+            String patternCacheKey = pattern + useBrowserTimezone + hasTz;
             DateParser parser = CACHE_PARSERS.get(patternCacheKey);
             if (null == parser) {
                 boolean patternHasTz = useBrowserTimezone || (hasTz == null ? hasTz(pattern) : hasTz.booleanValue());
@@ -177,7 +247,12 @@ public final class DefaultDateFormat implements JacksonContext.DateFormat {
                     // the pattern does not have a timezone, we use the UTC timezone as reference
                     parser = new DateParserNoTz(pattern);
                 }
-                CACHE_PARSERS.put(patternCacheKey, parser);
+                if (CACHE_PARSERS.size() < MAX_CACHED_PATTERNS) {
+                    DateParser existing = CACHE_PARSERS.putIfAbsent(patternCacheKey, parser);
+                    if (null != existing) {
+                        parser = existing;
+                    }
+                }
             }
             return parser.parse(date);
         }
@@ -262,14 +337,20 @@ public final class DefaultDateFormat implements JacksonContext.DateFormat {
 
     private class DateParser {
 
-        protected final SimpleDateFormat dateTimeFormat;
+        // SimpleDateFormat is not thread-safe, each thread parses with its own copy
+        protected final ThreadLocal<SimpleDateFormat> dateTimeFormat;
 
-        protected DateParser(String pattern) {
-            this.dateTimeFormat = new SimpleDateFormat(pattern);
+        protected DateParser(final String pattern) {
+            this.dateTimeFormat = new ThreadLocal<SimpleDateFormat>() {
+                @Override
+                protected SimpleDateFormat initialValue() {
+                    return new SimpleDateFormat(pattern);
+                }
+            };
         }
 
         protected Date parse(String date) {
-            return DefaultDateFormat.this.parse(dateTimeFormat, date);
+            return DefaultDateFormat.this.parse(dateTimeFormat.get(), date);
         }
     }
 
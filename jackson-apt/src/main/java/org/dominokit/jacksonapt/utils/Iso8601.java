@@ -0,0 +1,213 @@
+package org.dominokit.jacksonapt.utils;
+
+/**
+ * Hand-written parser and formatter for the common ISO-8601 date-time shapes
+ * {@code yyyy-MM-ddTHH:mm[:ss[.S…]](Z|±hh:mm|±hhmm)}. It works on the characters of the input and on the epoch millis
+ * directly, without exceptions nor intermediate {@link java.time.temporal.TemporalAccessor}. Inputs it does not handle
+ * are reported with {@link #INVALID} so the caller can fall back to a {@link java.time.format.DateTimeFormatter}.
+ *
+ * @author vegegoku
+ * @version $Id: $Id
+ */
+public final class Iso8601 {
+
+    /**
+     * Returned by {@link #parse(CharSequence)} when the input is not in one of the supported shapes.
+     */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final long MILLIS_PER_DAY = 86400000L;
+
+    private Iso8601() {
+    }
+
+    /**
+     * Parse a date-time with a mandatory offset.
+     *
+     * @param s the date-time to parse
+     * @return the epoch millis, or {@link #INVALID} if the input is not in a supported shape or is not a valid date-time
+     */
+    public static long parse(CharSequence s) {
+        int length = s.length();
+        if (length < 17 || s.charAt(4) != '-' || s.charAt(7) != '-' || s.charAt(10) != 'T' || s.charAt(13) != ':') {
+            return INVALID;
+        }
+        int year = digits(s, 0, 4);
+        int month = digits(s, 5, 2);
+        int day = digits(s, 8, 2);
+        int hour = digits(s, 11, 2);
+        int minute = digits(s, 14, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return INVALID;
+        }
+
+        int pos = 16;
+        int second = 0;
+        int millis = 0;
+        if (s.charAt(pos) == ':') {
+            if (pos + 3 > length) {
+                return INVALID;
+            }
+            second = digits(s, pos + 1, 2);
+            if (second < 0 || second > 59) {
+                return INVALID;
+            }
+            pos += 3;
+            if (pos < length && s.charAt(pos) == '.') {
+                pos++;
+                int start = pos;
+                while (pos < length && pos - start < 9) {
+                    char c = s.charAt(pos);
+                    if (c < '0' || c > '9') {
+                        break;
+                    }
+                    if (pos - start < 3) {
+                        millis = millis * 10 + (c - '0');
+                    }
+                    pos++;
+                }
+                int fractionLength = pos - start;
+                if (fractionLength == 0) {
+                    return INVALID;
+                }
+                for (int i = fractionLength; i < 3; i++) {
+                    millis *= 10;
+                }
+            }
+        }
+
+        if (pos >= length) {
+            return INVALID;
+        }
+        int offsetSeconds;
+        char sign = s.charAt(pos);
+        if (sign == 'Z') {
+            if (pos + 1 != length) {
+                return INVALID;
+            }
+            offsetSeconds = 0;
+        } else if (sign == '+' || sign == '-') {
+            int offsetHours;
+            int offsetMinutes;
+            if (pos + 6 == length && s.charAt(pos + 3) == ':') {
+                offsetHours = digits(s, pos + 1, 2);
+                offsetMinutes = digits(s, pos + 4, 2);
+            } else if (pos + 5 == length) {
+                offsetHours = digits(s, pos + 1, 2);
+                offsetMinutes = digits(s, pos + 3, 2);
+            } else {
+                return INVALID;
+            }
+            if (offsetHours < 0 || offsetHours > 18 || offsetMinutes < 0 || offsetMinutes > 59) {
+                return INVALID;
+            }
+            offsetSeconds = offsetHours * 3600 + offsetMinutes * 60;
+            if (sign == '-') {
+                offsetSeconds = -offsetSeconds;
+            }
+        } else {
+            return INVALID;
+        }
+
+        long epochDay = epochDay(year, month, day);
+        long secondOfDay = hour * 3600 + minute * 60 + second - offsetSeconds;
+        return epochDay * MILLIS_PER_DAY + secondOfDay * 1000 + millis;
+    }
+
+    /**
+     * Format epoch millis as {@code yyyy-MM-ddTHH:mm:ss.SSS+0000}, like
+     * {@link org.dominokit.jacksonapt.utils.DefaultDateFormat#DATE_FORMAT_STR_ISO8601} in UTC.
+     *
+     * @param epochMillis the epoch millis to format
+     * @return the formatted date-time, or null if the year is outside 0001-9999
+     */
+    public static String formatUTC(long epochMillis) {
+        long epochDay = Math.floorDiv(epochMillis, MILLIS_PER_DAY);
+        int millisOfDay = (int) Math.floorMod(epochMillis, MILLIS_PER_DAY);
+
+        // civil from days, see http://howardhinnant.github.io/date_algorithms.html
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        int doe = (int) (z - era * 146097);
+        int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        int mp = (5 * doy + 2) / 153;
+        int day = doy - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 1 || year > 9999) {
+            // 'yyyy' is the year of era, years before 1 are not printed as proleptic years
+            return null;
+        }
+
+        char[] buf = new char[28];
+        write(buf, 0, (int) year, 4);
+        buf[4] = '-';
+        write(buf, 5, month, 2);
+        buf[7] = '-';
+        write(buf, 8, day, 2);
+        buf[10] = 'T';
+        write(buf, 11, millisOfDay / 3600000, 2);
+        buf[13] = ':';
+        write(buf, 14, millisOfDay / 60000 % 60, 2);
+        buf[16] = ':';
+        write(buf, 17, millisOfDay / 1000 % 60, 2);
+        buf[19] = '.';
+        write(buf, 20, millisOfDay % 1000, 3);
+        buf[23] = '+';
+        buf[24] = '0';
+        buf[25] = '0';
+        buf[26] = '0';
+        buf[27] = '0';
+        return new String(buf);
+    }
+
+    /**
+     * Reads {@code count} decimal digits starting at {@code start}, returns -1 if one of them is not a digit.
+     */
+    private static int digits(CharSequence s, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static void write(char[] buf, int pos, int value, int count) {
+        for (int i = pos + count - 1; i >= pos; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Days from civil, see http://howardhinnant.github.io/date_algorithms.html
+     */
+    private static long epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yoe = y - era * 400;
+        int doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097L + doe - 719468;
+    }
+}
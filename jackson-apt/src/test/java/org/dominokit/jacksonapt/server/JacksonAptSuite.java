@@ -20,6 +20,14 @@ import org.dominokit.jacksonapt.server.deser.*;
 import org.dominokit.jacksonapt.server.deser.array.ArrayJsonDeserializerTest;
 import org.dominokit.jacksonapt.server.deser.array.ByteArray2dJsonDeserializerTest;
 import org.dominokit.jacksonapt.server.deser.array.ByteArrayJsonDeserializerTest;
+import org.dominokit.jacksonapt.server.deser.array.PrimitiveDoubleArrayJsonDeserializerTest;
+import org.dominokit.jacksonapt.server.deser.array.PrimitiveFloatArrayJsonDeserializerTest;
+import org.dominokit.jacksonapt.server.deser.array.PrimitiveIntegerArrayJsonDeserializerTest;
+import org.dominokit.jacksonapt.server.deser.array.PrimitiveLongArrayJsonDeserializerTest;
+import org.dominokit.jacksonapt.server.deser.array.PrimitiveShortArrayJsonDeserializerTest;
+import org.dominokit.jacksonapt.server.deser.array.cast.DoubleArrayJsonDeserializerTest;
+import org.dominokit.jacksonapt.server.deser.array.cast.IntegerArrayJsonDeserializerTest;
+import org.dominokit.jacksonapt.server.deser.array.cast.ShortArrayJsonDeserializerTest;
 import org.dominokit.jacksonapt.server.deser.collection.CollectionJsonDeserializerTest;
 import org.dominokit.jacksonapt.server.deser.collection.IterableJsonDeserializerTest;
 import org.dominokit.jacksonapt.server.deser.collection.ListJsonDeserializerTest;
@@ -44,19 +52,39 @@ import org.dominokit.jacksonapt.server.ser.date.SqlTimeJsonSerializerTest;
 import org.dominokit.jacksonapt.server.ser.date.SqlTimestampJsonSerializerTest;
 import org.dominokit.jacksonapt.server.ser.map.key.*;
 import org.dominokit.jacksonapt.server.ser.number.*;
+import org.dominokit.jacksonapt.server.stream.JsonStreamDefaultsTest;
+import org.dominokit.jacksonapt.server.stream.PropertyNameIndexTest;
 import org.dominokit.jacksonapt.server.stream.impl.DefaultJsonReaderTest;
 import org.dominokit.jacksonapt.server.stream.impl.DefaultJsonWriterTest;
 import org.dominokit.jacksonapt.server.stream.impl.FastJsonWriterTest;
+import org.dominokit.jacksonapt.server.stream.impl.JsonStreamCacheTest;
 import org.dominokit.jacksonapt.server.stream.impl.NonBufferedJsonReaderTest;
+import org.dominokit.jacksonapt.server.stream.impl.NumberParserTest;
+import org.dominokit.jacksonapt.server.stream.impl.Utf8ByteBufferReaderTest;
+import org.dominokit.jacksonapt.server.stream.impl.StreamReaderTest;
+import org.dominokit.jacksonapt.server.stream.impl.Utf8StreamWriterTest;
+import org.dominokit.jacksonapt.server.utils.Base64UtilsTest;
+import org.dominokit.jacksonapt.server.utils.DefaultDateFormatTest;
+import org.dominokit.jacksonapt.server.utils.Iso8601Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+        PropertyNameIndexTest.class,
+        JsonStreamDefaultsTest.class,
+        NumberParserTest.class,
         DefaultJsonReaderTest.class,
         NonBufferedJsonReaderTest.class,
+        Utf8ByteBufferReaderTest.class,
+        StreamReaderTest.class,
         DefaultJsonWriterTest.class,
         FastJsonWriterTest.class,
+        Utf8StreamWriterTest.class,
+        JsonStreamCacheTest.class,
+        Base64UtilsTest.class,
+        DefaultDateFormatTest.class,
+        Iso8601Test.class,
 
         // Default json serializers
         ArrayJsonSerializerTest.class,
@@ -108,6 +136,14 @@ import org.junit.runners.Suite;
         ArrayJsonDeserializerTest.class,
         ByteArrayJsonDeserializerTest.class,
         ByteArray2dJsonDeserializerTest.class,
+        PrimitiveDoubleArrayJsonDeserializerTest.class,
+        PrimitiveFloatArrayJsonDeserializerTest.class,
+        PrimitiveIntegerArrayJsonDeserializerTest.class,
+        PrimitiveLongArrayJsonDeserializerTest.class,
+        PrimitiveShortArrayJsonDeserializerTest.class,
+        DoubleArrayJsonDeserializerTest.class,
+        IntegerArrayJsonDeserializerTest.class,
+        ShortArrayJsonDeserializerTest.class,
         BigDecimalJsonDeserializerTest.class,
         BigIntegerJsonDeserializerTest.class,
         BooleanJsonDeserializerTest.class,
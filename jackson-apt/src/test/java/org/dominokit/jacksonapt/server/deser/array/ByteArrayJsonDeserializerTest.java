@@ -44,6 +44,12 @@ public class ByteArrayJsonDeserializerTest extends AbstractJsonDeserializerTest<
         assertDeserialization(new byte[0], "\"\"");
     }
 
+    @Test
+    public void testDeserializeArrayOfNumbers() {
+        assertDeserialization(new byte[0], "[]");
+        assertDeserialization(new byte[]{1, -128, 0, 5}, "[1, -128, null, \"5\"]");
+    }
+
     protected void assertDeserialization(byte[] expected, String value) {
         assertEquals(expected, deserialize(value));
     }
@@ -0,0 +1,25 @@
+package org.dominokit.jacksonapt.server.deser.array;
+
+import org.dominokit.jacksonapt.deser.array.PrimitiveDoubleArrayJsonDeserializer;
+import org.dominokit.jacksonapt.server.deser.AbstractJsonDeserializerTest;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test double array deserialization.
+ */
+public class PrimitiveDoubleArrayJsonDeserializerTest extends AbstractJsonDeserializerTest<double[]> {
+
+    @Override
+    protected PrimitiveDoubleArrayJsonDeserializer createDeserializer() {
+        return PrimitiveDoubleArrayJsonDeserializer.getInstance();
+    }
+
+    @Override
+    @Test
+    public void testDeserializeValue() {
+        assertThat(deserialize("[]")).isEmpty();
+        assertThat(deserialize("[1.5, -2e3, null, \"0.25\"]")).containsExactly(1.5d, -2e3d, 0d, 0.25d);
+    }
+}
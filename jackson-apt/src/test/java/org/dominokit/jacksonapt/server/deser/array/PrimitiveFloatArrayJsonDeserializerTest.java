@@ -0,0 +1,25 @@
+package org.dominokit.jacksonapt.server.deser.array;
+
+import org.dominokit.jacksonapt.deser.array.PrimitiveFloatArrayJsonDeserializer;
+import org.dominokit.jacksonapt.server.deser.AbstractJsonDeserializerTest;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test float array deserialization.
+ */
+public class PrimitiveFloatArrayJsonDeserializerTest extends AbstractJsonDeserializerTest<float[]> {
+
+    @Override
+    protected PrimitiveFloatArrayJsonDeserializer createDeserializer() {
+        return PrimitiveFloatArrayJsonDeserializer.getInstance();
+    }
+
+    @Override
+    @Test
+    public void testDeserializeValue() {
+        assertThat(deserialize("[]")).isEmpty();
+        assertThat(deserialize("[1.5, -0.25, null, \"3.5\"]")).containsExactly(1.5f, -0.25f, 0f, 3.5f);
+    }
+}
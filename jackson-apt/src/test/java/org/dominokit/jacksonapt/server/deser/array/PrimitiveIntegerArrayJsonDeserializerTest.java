@@ -0,0 +1,40 @@
+package org.dominokit.jacksonapt.server.deser.array;
+
+import org.dominokit.jacksonapt.deser.array.PrimitiveIntegerArrayJsonDeserializer;
+import org.dominokit.jacksonapt.server.deser.AbstractJsonDeserializerTest;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test int array deserialization.
+ */
+public class PrimitiveIntegerArrayJsonDeserializerTest extends AbstractJsonDeserializerTest<int[]> {
+
+    @Override
+    protected PrimitiveIntegerArrayJsonDeserializer createDeserializer() {
+        return PrimitiveIntegerArrayJsonDeserializer.getInstance();
+    }
+
+    @Override
+    @Test
+    public void testDeserializeValue() {
+        assertThat(deserialize("[]")).isEmpty();
+        assertThat(deserialize("[1, -2, null, \"4\"]")).containsExactly(1, -2, 0, 4);
+        assertThat(deserialize("[2147483647, -2147483648]")).containsExactly(Integer.MAX_VALUE, Integer.MIN_VALUE);
+    }
+
+    @Test
+    public void testDeserializeArrayLargerThanTheBuffer() {
+        for (int length : new int[]{16, 17, 64, 100}) {
+            StringBuilder json = new StringBuilder("[");
+            int[] expected = new int[length];
+            for (int i = 0; i < length; i++) {
+                expected[i] = i * 3;
+                json.append(i == 0 ? "" : ",").append(i * 3);
+            }
+            json.append("]");
+            assertThat(deserialize(json.toString())).containsExactly(expected);
+        }
+    }
+}
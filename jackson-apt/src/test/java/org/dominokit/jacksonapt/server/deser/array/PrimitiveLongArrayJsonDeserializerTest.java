@@ -0,0 +1,25 @@
+package org.dominokit.jacksonapt.server.deser.array;
+
+import org.dominokit.jacksonapt.deser.array.PrimitiveLongArrayJsonDeserializer;
+import org.dominokit.jacksonapt.server.deser.AbstractJsonDeserializerTest;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test long array deserialization.
+ */
+public class PrimitiveLongArrayJsonDeserializerTest extends AbstractJsonDeserializerTest<long[]> {
+
+    @Override
+    protected PrimitiveLongArrayJsonDeserializer createDeserializer() {
+        return PrimitiveLongArrayJsonDeserializer.getInstance();
+    }
+
+    @Override
+    @Test
+    public void testDeserializeValue() {
+        assertThat(deserialize("[]")).isEmpty();
+        assertThat(deserialize("[1, 9223372036854775807, null, \"-4\"]")).containsExactly(1L, Long.MAX_VALUE, 0L, -4L);
+    }
+}
@@ -0,0 +1,25 @@
+package org.dominokit.jacksonapt.server.deser.array;
+
+import org.dominokit.jacksonapt.deser.array.PrimitiveShortArrayJsonDeserializer;
+import org.dominokit.jacksonapt.server.deser.AbstractJsonDeserializerTest;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test short array deserialization.
+ */
+public class PrimitiveShortArrayJsonDeserializerTest extends AbstractJsonDeserializerTest<short[]> {
+
+    @Override
+    protected PrimitiveShortArrayJsonDeserializer createDeserializer() {
+        return PrimitiveShortArrayJsonDeserializer.getInstance();
+    }
+
+    @Override
+    @Test
+    public void testDeserializeValue() {
+        assertThat(deserialize("[]")).isEmpty();
+        assertThat(deserialize("[1, -32768, null, \"5\"]")).containsExactly((short) 1, Short.MIN_VALUE, (short) 0, (short) 5);
+    }
+}
@@ -0,0 +1,25 @@
+package org.dominokit.jacksonapt.server.deser.array.cast;
+
+import org.dominokit.jacksonapt.deser.array.cast.PrimitiveDoubleArrayJsonDeserializer;
+import org.dominokit.jacksonapt.server.deser.AbstractJsonDeserializerTest;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test double array deserialization with the array readers of the context.
+ */
+public class DoubleArrayJsonDeserializerTest extends AbstractJsonDeserializerTest<double[]> {
+
+    @Override
+    protected PrimitiveDoubleArrayJsonDeserializer createDeserializer() {
+        return PrimitiveDoubleArrayJsonDeserializer.getInstance();
+    }
+
+    @Override
+    @Test
+    public void testDeserializeValue() {
+        assertThat(deserialize("[]")).isEmpty();
+        assertThat(deserialize("[1.5, null, -2e3]")).containsExactly(1.5d, 0d, -2e3d);
+    }
+}
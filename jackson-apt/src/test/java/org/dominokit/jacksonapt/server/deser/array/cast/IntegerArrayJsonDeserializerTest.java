@@ -0,0 +1,39 @@
+package org.dominokit.jacksonapt.server.deser.array.cast;
+
+import org.dominokit.jacksonapt.deser.array.cast.PrimitiveIntegerArrayJsonDeserializer;
+import org.dominokit.jacksonapt.server.deser.AbstractJsonDeserializerTest;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test int array deserialization with the array readers of the context.
+ */
+public class IntegerArrayJsonDeserializerTest extends AbstractJsonDeserializerTest<int[]> {
+
+    @Override
+    protected PrimitiveIntegerArrayJsonDeserializer createDeserializer() {
+        return PrimitiveIntegerArrayJsonDeserializer.getInstance();
+    }
+
+    @Override
+    @Test
+    public void testDeserializeValue() {
+        assertThat(deserialize("[]")).isEmpty();
+        assertThat(deserialize("[1, null, 3]")).containsExactly(1, 0, 3);
+    }
+
+    @Test
+    public void testDeserializeArrayLargerThanTheBuffer() {
+        for (int length : new int[]{16, 17, 64, 100}) {
+            StringBuilder json = new StringBuilder("[");
+            int[] expected = new int[length];
+            for (int i = 0; i < length; i++) {
+                expected[i] = i * 3;
+                json.append(i == 0 ? "" : ",").append(i * 3);
+            }
+            json.append("]");
+            assertThat(deserialize(json.toString())).containsExactly(expected);
+        }
+    }
+}
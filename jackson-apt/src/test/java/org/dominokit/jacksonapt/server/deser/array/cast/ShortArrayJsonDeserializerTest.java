@@ -0,0 +1,25 @@
+package org.dominokit.jacksonapt.server.deser.array.cast;
+
+import org.dominokit.jacksonapt.deser.array.cast.PrimitiveShortArrayJsonDeserializer;
+import org.dominokit.jacksonapt.server.deser.AbstractJsonDeserializerTest;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test short array deserialization with the array readers of the context.
+ */
+public class ShortArrayJsonDeserializerTest extends AbstractJsonDeserializerTest<short[]> {
+
+    @Override
+    protected PrimitiveShortArrayJsonDeserializer createDeserializer() {
+        return PrimitiveShortArrayJsonDeserializer.getInstance();
+    }
+
+    @Override
+    @Test
+    public void testDeserializeValue() {
+        assertThat(deserialize("[]")).isEmpty();
+        assertThat(deserialize("[1, null, -32768]")).containsExactly((short) 1, (short) 0, Short.MIN_VALUE);
+    }
+}
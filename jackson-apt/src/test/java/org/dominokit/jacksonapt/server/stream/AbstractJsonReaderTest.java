@@ -20,12 +20,16 @@ import org.dominokit.jacksonapt.exception.JsonDeserializationException;
 import org.dominokit.jacksonapt.server.ServerJacksonTestCase;
 import org.dominokit.jacksonapt.stream.JsonReader;
 import org.dominokit.jacksonapt.stream.JsonToken;
+import org.dominokit.jacksonapt.stream.PropertyNameIndex;
+import org.dominokit.jacksonapt.stream.RawJson;
 import org.dominokit.jacksonapt.stream.impl.MalformedJsonException;
 import org.dominokit.jacksonapt.stream.impl.StringReader;
 import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.logging.Logger;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -49,6 +53,76 @@ public abstract class AbstractJsonReaderTest extends ServerJacksonTestCase {
         assertThat(JsonToken.END_DOCUMENT).isEqualTo(reader.peek());
     }
 
+    @Test
+	public void testNextNameIndex() {
+        PropertyNameIndex names = new PropertyNameIndex("a", "bb", "c\"d");
+        JsonReader reader = newJsonReader("{\"bb\": 1, \"unknown\": 2, \"a\": 3, \"c\\\"d\": 4, \"\\u0061\": 5}");
+        reader.beginObject();
+        assertThat(reader.nextNameIndex(names)).isEqualTo(1);
+        assertThat(reader.nextInt()).isEqualTo(1);
+        assertThat(reader.nextNameIndex(names)).isEqualTo(-1);
+        assertThat(reader.nextName()).isEqualTo("unknown");
+        assertThat(reader.nextInt()).isEqualTo(2);
+        assertThat(reader.nextNameIndex(names)).isEqualTo(0);
+        assertThat(reader.nextInt()).isEqualTo(3);
+        // escaped names are read with nextName
+        assertThat(reader.nextNameIndex(names)).isEqualTo(-1);
+        assertThat(reader.nextName()).isEqualTo("c\"d");
+        assertThat(reader.nextInt()).isEqualTo(4);
+        assertThat(reader.nextNameIndex(names)).isEqualTo(-1);
+        assertThat(reader.nextName()).isEqualTo("a");
+        assertThat(reader.nextInt()).isEqualTo(5);
+        reader.endObject();
+        assertThat(JsonToken.END_DOCUMENT).isEqualTo(reader.peek());
+    }
+
+    @Test
+	public void testMarkReset() {
+        JsonReader reader = newJsonReader("{\"a\": [1, {\"b\": null}],\n \"c\": 12345678901, \"type\": \"t\", \"d\": \"x\"}");
+        if (!reader.markSupported()) {
+            return;
+        }
+        reader.beginObject();
+        reader.mark();
+        assertThat(reader.nextName()).isEqualTo("a");
+        reader.skipValue();
+        assertThat(reader.nextName()).isEqualTo("c");
+        assertThat(reader.peek()).isEqualTo(JsonToken.NUMBER);
+        reader.skipValue();
+        assertThat(reader.nextName()).isEqualTo("type");
+        assertThat(reader.nextString()).isEqualTo("t");
+        reader.reset();
+
+        assertThat(reader.nextName()).isEqualTo("a");
+        reader.beginArray();
+        assertThat(reader.nextInt()).isEqualTo(1);
+        reader.beginObject();
+        assertThat(reader.nextName()).isEqualTo("b");
+        reader.nextNull();
+        reader.endObject();
+        reader.endArray();
+        assertThat(reader.nextName()).isEqualTo("c");
+        assertThat(reader.getLineNumber()).isEqualTo(2);
+        assertThat(reader.nextLong()).isEqualTo(12345678901L);
+        assertThat(reader.nextName()).isEqualTo("type");
+        reader.skipValue();
+        assertThat(reader.nextName()).isEqualTo("d");
+        assertThat(reader.nextString()).isEqualTo("x");
+        reader.endObject();
+        assertThat(JsonToken.END_DOCUMENT).isEqualTo(reader.peek());
+    }
+
+    @Test
+	public void testResetWithoutMark() {
+        JsonReader reader = newJsonReader("{}");
+        try {
+            reader.reset();
+            fail("failed");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
     @Test
 	public void testReadEmptyArray() {
         JsonReader reader = newJsonReader("[]");
@@ -1807,6 +1881,185 @@ public abstract class AbstractJsonReaderTest extends ServerJacksonTestCase {
         assertThat(JsonToken.END_DOCUMENT).isEqualTo(reader.peek());
     }
 
+    @Test
+	public void testNextFloat() {
+        JsonReader reader = newJsonReader("[1.5, 3, -0.1, 0.30000001192092896, 1e39, 1.401298464324817E-45, \"2.5\"]");
+        reader.beginArray();
+        assertThat(reader.nextFloat()).isEqualTo(1.5f);
+        assertThat(reader.nextFloat()).isEqualTo(3f);
+        assertThat(reader.nextFloat()).isEqualTo(-0.1f);
+        assertThat(reader.nextFloat()).isEqualTo(Float.parseFloat("0.30000001192092896"));
+        assertThat(reader.nextFloat()).isEqualTo(Float.POSITIVE_INFINITY);
+        assertThat(reader.nextFloat()).isEqualTo(Float.MIN_VALUE);
+        assertThat(reader.nextFloat()).isEqualTo(2.5f);
+        reader.endArray();
+        assertThat(JsonToken.END_DOCUMENT).isEqualTo(reader.peek());
+    }
+
+    @Test
+	public void testNegativeZero() {
+        JsonReader reader = newJsonReader("[-0, -0, 0, -0.0, \"-0\"]");
+        reader.beginArray();
+        assertThat(Float.floatToIntBits(reader.nextFloat())).isEqualTo(Float.floatToIntBits(-0.0f));
+        assertThat(Double.doubleToLongBits(reader.nextDouble())).isEqualTo(Double.doubleToLongBits(-0.0));
+        assertThat(Float.floatToIntBits(reader.nextFloat())).isEqualTo(Float.floatToIntBits(0.0f));
+        assertThat(Float.floatToIntBits(reader.nextFloat())).isEqualTo(Float.floatToIntBits(-0.0f));
+        assertThat(Float.floatToIntBits(reader.nextFloat())).isEqualTo(Float.floatToIntBits(-0.0f));
+        reader.endArray();
+        assertThat(JsonToken.END_DOCUMENT).isEqualTo(reader.peek());
+    }
+
+    @Test
+	public void testNextBigDecimal() {
+        JsonReader reader = newJsonReader("[1.50, 3, -0.001, 1234567890.1234567890123, 1E+3, 2.5e-5, \"7.25\"]");
+        reader.beginArray();
+        assertThat(reader.nextBigDecimal()).isEqualTo(new BigDecimal("1.50"));
+        assertThat(reader.nextBigDecimal()).isEqualTo(new BigDecimal("3"));
+        assertThat(reader.nextBigDecimal()).isEqualTo(new BigDecimal("-0.001"));
+        assertThat(reader.nextBigDecimal()).isEqualTo(new BigDecimal("1234567890.1234567890123"));
+        assertThat(reader.nextBigDecimal()).isEqualTo(new BigDecimal("1E+3"));
+        assertThat(reader.nextBigDecimal()).isEqualTo(new BigDecimal("2.5e-5"));
+        assertThat(reader.nextBigDecimal()).isEqualTo(new BigDecimal("7.25"));
+        reader.endArray();
+        assertThat(JsonToken.END_DOCUMENT).isEqualTo(reader.peek());
+    }
+
+    @Test
+	public void testNextDoubleInPlace() {
+        String[] numbers = {"0.1", "-0.0", "123.456e-7", "9007199254740993.0", "1.7976931348623157E308", "4.9E-324",
+                "0.000000000000000000000000000001", "2.2250738585072014E-308", "1e22", "1e23", "123456789012345678.9"};
+        StringBuilder input = new StringBuilder("[");
+        for (int i = 0; i < numbers.length; i++) {
+            input.append(i == 0 ? "" : ",").append(numbers[i]);
+        }
+        JsonReader reader = newJsonReader(input.append(']').toString());
+        reader.beginArray();
+        for (String number : numbers) {
+            assertThat(reader.nextDouble()).isEqualTo(Double.parseDouble(number));
+        }
+        reader.endArray();
+        try {
+            JsonReader overflow = newJsonReader("[1e400]");
+            overflow.beginArray();
+            overflow.nextDouble();
+            fail("failed");
+        } catch (JsonDeserializationException expected) {
+        }
+    }
+
+
+    @Test
+	public void testNextBinary() {
+        byte[] large = new byte[5000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = (byte) (i * 31);
+        }
+        String encoded = Base64.getEncoder().encodeToString(large);
+        JsonReader reader = newJsonReader("[\"AGScAA==\",\"AQI\",\"\",\"" + encoded + "\",\"" + encoded.replace("/", "\\/") + "\"]");
+        reader.beginArray();
+        assertThat(reader.nextBinary()).isEqualTo(new byte[]{0, 100, -100, 0});
+        assertThat(reader.nextBinary()).isEqualTo(new byte[]{1, 2});
+        assertThat(reader.nextBinary()).isEmpty();
+        assertThat(reader.nextBinary()).isEqualTo(large);
+        assertThat(reader.nextBinary()).isEqualTo(large);
+        reader.endArray();
+        assertThat(JsonToken.END_DOCUMENT).isEqualTo(reader.peek());
+
+        try {
+            JsonReader illegal = newJsonReader("[\"AG!cAA==\"]");
+            illegal.beginArray();
+            illegal.nextBinary();
+            fail("failed");
+        } catch (JsonDeserializationException expected) {
+        }
+    }
+
+    @Test
+    public void testPlainAndEscapedStrings() {
+        String plain = repeat('a', 3000);
+        String escaped = repeat('b', 5000) + "\\n" + repeat('c', 1500);
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < 200; i++) {
+            json.append("\"name").append(i).append("\":\"value\\t").append(i).append("\",");
+        }
+        json.append("\"plain\":\"").append(plain).append("\",");
+        json.append("\"esc\\u0061ped\":\"").append(escaped).append("\",");
+        json.append("\"after\":[\"x\\\"y\",\"\",\"z\"]}");
+
+        JsonReader reader = newJsonReader(json.toString());
+        reader.beginObject();
+        for (int i = 0; i < 200; i++) {
+            assertThat(reader.nextName()).isEqualTo("name" + i);
+            assertThat(reader.nextString()).isEqualTo("value\t" + i);
+        }
+        assertThat(reader.nextName()).isEqualTo("plain");
+        assertThat(reader.nextString()).isEqualTo(plain);
+        assertThat(reader.nextName()).isEqualTo("escaped");
+        assertThat(reader.nextString()).isEqualTo(repeat('b', 5000) + "\n" + repeat('c', 1500));
+        assertThat(reader.nextName()).isEqualTo("after");
+        reader.beginArray();
+        assertThat(reader.nextString()).isEqualTo("x\"y");
+        assertThat(reader.nextString()).isEmpty();
+        assertThat(reader.nextString()).isEqualTo("z");
+        reader.endArray();
+        reader.endObject();
+        assertThat(JsonToken.END_DOCUMENT).isEqualTo(reader.peek());
+    }
+
+    @Test
+	public void testNextRawValue() {
+        String payload = "{ \"a\": [1, 2.5e3, -7, \"x\\\"y\"],\n \"b\": {\"c\": null, \"d\": false} }";
+        JsonReader reader = newJsonReader("{\"payload\": " + payload + ", \"s\": \"\\u0041\", \"i\": 12345678901,"
+                + " \"d\": -0.5, \"t\": true, \"f\": false, \"n\": null, \"e\": [], \"last\": 1}");
+        reader.beginObject();
+        assertThat(reader.nextName()).isEqualTo("payload");
+        assertThat(reader.nextRawValue().toString()).isEqualTo(payload);
+        assertThat(reader.nextName()).isEqualTo("s");
+        assertThat(reader.nextRawValue()).isEqualTo(RawJson.of("\"\\u0041\""));
+        assertThat(reader.nextName()).isEqualTo("i");
+        assertThat(reader.peek()).isEqualTo(JsonToken.NUMBER);
+        assertThat(reader.nextRawValue().toString()).isEqualTo("12345678901");
+        assertThat(reader.nextName()).isEqualTo("d");
+        assertThat(reader.nextRawValue().toString()).isEqualTo("-0.5");
+        assertThat(reader.nextName()).isEqualTo("t");
+        assertThat(reader.nextRawValue().toString()).isEqualTo("true");
+        assertThat(reader.nextName()).isEqualTo("f");
+        assertThat(reader.nextRawValue().toString()).isEqualTo("false");
+        assertThat(reader.nextName()).isEqualTo("n");
+        assertThat(reader.nextRawValue()).isEqualTo(RawJson.NULL);
+        assertThat(reader.nextName()).isEqualTo("e");
+        assertThat(reader.nextRawValue().toString()).isEqualTo("[]");
+        assertThat(reader.nextName()).isEqualTo("last");
+        assertThat(reader.nextInt()).isEqualTo(1);
+        reader.endObject();
+        assertThat(JsonToken.END_DOCUMENT).isEqualTo(reader.peek());
+    }
+
+    @Test
+	public void testNextRawValueOfLargeValue() {
+        StringBuilder large = new StringBuilder("[");
+        for (int i = 0; i < 2000; i++) {
+            large.append(i == 0 ? "" : ", ").append("{\"i\": ").append(i).append(", \"s\": \"v\\t").append(i).append("\"}");
+        }
+        large.append("]");
+        JsonReader reader = newJsonReader("[" + large + ", " + large + "]");
+        reader.beginArray();
+        assertThat(reader.nextRawValue().toString()).isEqualTo(large.toString());
+        assertThat(reader.nextRawValue().toString()).isEqualTo(large.toString());
+        reader.endArray();
+        assertThat(JsonToken.END_DOCUMENT).isEqualTo(reader.peek());
+    }
+
+    @Test
+	public void testNextRawValueOnName() {
+        JsonReader reader = newJsonReader("{\"a\": 1}");
+        reader.beginObject();
+        try {
+            reader.nextRawValue();
+            fail("failed");
+        } catch (IllegalStateException expected) {
+        }
+    }
 
     private void assertDocument(String document, Object... expectations) {
         JsonReader reader = newJsonReader(document);
@@ -18,11 +18,14 @@ package org.dominokit.jacksonapt.server.stream;
 
 import org.dominokit.jacksonapt.server.ServerJacksonTestCase;
 import org.dominokit.jacksonapt.stream.JsonWriter;
+import org.dominokit.jacksonapt.stream.RawJson;
 import org.junit.Ignore;
 import org.junit.Test;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Base64;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Fail.fail;
@@ -221,6 +224,36 @@ public abstract class AbstractJsonWriterTest extends ServerJacksonTestCase {
         assertThat("[0," + "9223372036854775808," + "-9223372036854775809," + "3.141592653589793238462643383]").isEqualTo(jsonWriter.getOutput());
     }
 
+    @Test
+	public void testBoxedNumbers() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginArray();
+        jsonWriter.value(Integer.valueOf(Integer.MIN_VALUE));
+        jsonWriter.value(Long.valueOf(Long.MIN_VALUE));
+        jsonWriter.value(Short.valueOf((short) -12));
+        jsonWriter.value(Byte.valueOf((byte) 7));
+        jsonWriter.value(Double.valueOf(0.1));
+        jsonWriter.value(Float.valueOf(0.1f));
+        jsonWriter.value(Double.valueOf(1e21));
+        jsonWriter.endArray();
+        jsonWriter.close();
+        assertThat(jsonWriter.getOutput()).isEqualTo("[-2147483648,-9223372036854775808,-12,7,0.1,0.1,1.0E21]");
+    }
+
+    @Test
+    public void testBoxedFloats() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginArray();
+        jsonWriter.value(Float.valueOf(1.1f));
+        jsonWriter.value(Float.valueOf(-100f));
+        jsonWriter.value(Float.valueOf(1e10f));
+        jsonWriter.value(Float.valueOf(Float.MAX_VALUE));
+        jsonWriter.value(Float.valueOf(Float.MIN_VALUE));
+        jsonWriter.endArray();
+        jsonWriter.close();
+        assertThat(jsonWriter.getOutput()).isEqualTo("[1.1,-100.0,1.0E10,3.4028235E38,1.4E-45]");
+    }
+
     @Test
 	public void testBooleans() {
         JsonWriter jsonWriter = newJsonWriter();
@@ -532,6 +565,21 @@ public abstract class AbstractJsonWriterTest extends ServerJacksonTestCase {
         assertThat("{\"\\\"json\\\"\":\"{\\\"key\\\":\\\"value\\\"}\"}").isEqualTo(jsonWriter.getOutput());
     }
 
+    @Test
+	public void testEscapingRuns() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginObject();
+        jsonWriter.name("a\tb");
+        jsonWriter.value("plain \u0001 text\\ café\n");
+        jsonWriter.name("c");
+        jsonWriter.value("no escape at all");
+        jsonWriter.endObject();
+        jsonWriter.close();
+
+        assertThat(jsonWriter.getOutput())
+                .isEqualTo("{\"a\\tb\":\"plain \\u0001 text\\\\ café\\n\",\"c\":\"no escape at all\"}");
+    }
+
     @Test
 	public void testNoEscaping() {
         JsonWriter jsonWriter = newJsonWriter();
@@ -545,4 +593,40 @@ public abstract class AbstractJsonWriterTest extends ServerJacksonTestCase {
     }
 
 
+    @Test
+	public void testBinaryValue() {
+        byte[] large = new byte[5000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = (byte) (i * 31);
+        }
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginArray();
+        jsonWriter.binaryValue(new byte[]{0, 100, -100, 0}, 0, 4);
+        jsonWriter.binaryValue(new byte[]{9, 1, 2, 9}, 1, 2);
+        jsonWriter.binaryValue(new byte[0], 0, 0);
+        jsonWriter.binaryValue(null, 0, 0);
+        jsonWriter.binaryValue(large, 1, large.length - 1);
+        jsonWriter.endArray();
+        jsonWriter.close();
+
+        assertThat(jsonWriter.getOutput()).isEqualTo("[\"AGScAA==\",\"AQI=\",\"\",null,\""
+                + Base64.getEncoder().encodeToString(Arrays.copyOfRange(large, 1, large.length)) + "\"]");
+    }
+
+    @Test
+	public void testRawJsonValue() {
+        String source = "{\"payload\": {\"a\": [1, \"\\u00e9\"]}}";
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginObject();
+        jsonWriter.name("payload").rawValue(RawJson.of(source, 12, source.length() - 1));
+        jsonWriter.name("number").rawValue(RawJson.of("1.50"));
+        jsonWriter.name("object").rawValue((Object) RawJson.of("[true]"));
+        jsonWriter.name("none").rawValue((RawJson) null);
+        jsonWriter.endObject();
+        jsonWriter.close();
+
+        assertThat(jsonWriter.getOutput())
+                .isEqualTo("{\"payload\":{\"a\": [1, \"\\u00e9\"]},\"number\":1.50,\"object\":[true],\"none\":null}");
+    }
+
 }
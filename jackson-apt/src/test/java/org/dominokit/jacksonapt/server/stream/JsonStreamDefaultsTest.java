@@ -0,0 +1,314 @@
+package org.dominokit.jacksonapt.server.stream;
+
+import org.dominokit.jacksonapt.server.ServerJacksonTestCase;
+import org.dominokit.jacksonapt.stream.JsonReader;
+import org.dominokit.jacksonapt.stream.JsonToken;
+import org.dominokit.jacksonapt.stream.JsonWriter;
+import org.dominokit.jacksonapt.stream.PropertyNameIndex;
+import org.dominokit.jacksonapt.stream.RawJson;
+import org.dominokit.jacksonapt.stream.impl.FastJsonWriter;
+import org.dominokit.jacksonapt.stream.impl.NonBufferedJsonReader;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks the default methods of {@link JsonReader} and {@link JsonWriter} with implementations written against the
+ * methods the interfaces had before.
+ */
+public class JsonStreamDefaultsTest extends ServerJacksonTestCase {
+
+    @Test
+    public void testReaderDefaults() {
+        JsonReader reader = new LegacyJsonReader("{\"name\":1.5,\"price\":2.50,\"data\":\"AQID\",\"raw\":{\"a\":[1,2]}}");
+        reader.beginObject();
+        assertThat(reader.nextNameIndex(new PropertyNameIndex("name"))).isEqualTo(-1);
+        assertThat(reader.nextName()).isEqualTo("name");
+        assertThat(reader.nextFloat()).isEqualTo(1.5f);
+        assertThat(reader.nextName()).isEqualTo("price");
+        assertThat(reader.nextBigDecimal()).isEqualTo(new BigDecimal("2.50"));
+        assertThat(reader.nextName()).isEqualTo("data");
+        assertThat(reader.nextBinary()).containsExactly(1, 2, 3);
+        assertThat(reader.nextName()).isEqualTo("raw");
+        assertThat(reader.nextRawValue().toString()).isEqualTo("{\"a\":[1,2]}");
+        reader.endObject();
+        assertThat(reader.peek()).isEqualTo(JsonToken.END_DOCUMENT);
+    }
+
+    @Test
+    public void testReaderWithoutMark() {
+        JsonReader reader = new LegacyJsonReader("[1]");
+        assertThat(reader.markSupported()).isFalse();
+        try {
+            reader.mark();
+            fail("mark() is not supported");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            reader.reset();
+            fail("the reader is not marked");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testWriterDefaults() {
+        JsonWriter writer = new LegacyJsonWriter();
+        writer.beginArray();
+        writer.binaryValue(new byte[]{0, 1, 2, 3}, 1, 3);
+        writer.binaryValue(null, 0, 0);
+        writer.rawValue(RawJson.of("{\"a\":1}"));
+        writer.rawValue((RawJson) null);
+        writer.endArray();
+        assertThat(writer.getOutput()).isEqualTo("[\"AQID\",null,{\"a\":1},null]");
+    }
+
+    private static class LegacyJsonReader implements JsonReader {
+
+        private final JsonReader reader;
+
+        private LegacyJsonReader(String input) {
+            this.reader = new NonBufferedJsonReader(input);
+        }
+
+        @Override
+        public void setLenient(boolean lenient) {
+            reader.setLenient(lenient);
+        }
+
+        @Override
+        public void beginArray() {
+            reader.beginArray();
+        }
+
+        @Override
+        public void endArray() {
+            reader.endArray();
+        }
+
+        @Override
+        public void beginObject() {
+            reader.beginObject();
+        }
+
+        @Override
+        public void endObject() {
+            reader.endObject();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return reader.hasNext();
+        }
+
+        @Override
+        public JsonToken peek() {
+            return reader.peek();
+        }
+
+        @Override
+        public String nextName() {
+            return reader.nextName();
+        }
+
+        @Override
+        public String nextString() {
+            return reader.nextString();
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return reader.nextBoolean();
+        }
+
+        @Override
+        public void nextNull() {
+            reader.nextNull();
+        }
+
+        @Override
+        public double nextDouble() {
+            return reader.nextDouble();
+        }
+
+        @Override
+        public long nextLong() {
+            return reader.nextLong();
+        }
+
+        @Override
+        public int nextInt() {
+            return reader.nextInt();
+        }
+
+        @Override
+        public void close() {
+            reader.close();
+        }
+
+        @Override
+        public void skipValue() {
+            reader.skipValue();
+        }
+
+        @Override
+        public String nextValue() {
+            return reader.nextValue();
+        }
+
+        @Override
+        public int getLineNumber() {
+            return reader.getLineNumber();
+        }
+
+        @Override
+        public int getColumnNumber() {
+            return reader.getColumnNumber();
+        }
+
+        @Override
+        public String getInput() {
+            return reader.getInput();
+        }
+
+        @Override
+        public Number nextNumber() {
+            return reader.nextNumber();
+        }
+    }
+
+    private static class LegacyJsonWriter implements JsonWriter {
+
+        private final JsonWriter writer = new FastJsonWriter(new StringBuilder());
+
+        @Override
+        public void setIndent(String indent) {
+            writer.setIndent(indent);
+        }
+
+        @Override
+        public void setLenient(boolean lenient) {
+            writer.setLenient(lenient);
+        }
+
+        @Override
+        public void setSerializeNulls(boolean serializeNulls) {
+            writer.setSerializeNulls(serializeNulls);
+        }
+
+        @Override
+        public boolean getSerializeNulls() {
+            return writer.getSerializeNulls();
+        }
+
+        @Override
+        public JsonWriter beginArray() {
+            writer.beginArray();
+            return this;
+        }
+
+        @Override
+        public JsonWriter endArray() {
+            writer.endArray();
+            return this;
+        }
+
+        @Override
+        public JsonWriter beginObject() {
+            writer.beginObject();
+            return this;
+        }
+
+        @Override
+        public JsonWriter endObject() {
+            writer.endObject();
+            return this;
+        }
+
+        @Override
+        public JsonWriter name(String name) {
+            writer.name(name);
+            return this;
+        }
+
+        @Override
+        public JsonWriter unescapeName(String name) {
+            writer.unescapeName(name);
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(String value) {
+            writer.value(value);
+            return this;
+        }
+
+        @Override
+        public JsonWriter unescapeValue(String value) {
+            writer.unescapeValue(value);
+            return this;
+        }
+
+        @Override
+        public JsonWriter nullValue() {
+            writer.nullValue();
+            return this;
+        }
+
+        @Override
+        public JsonWriter cancelName() {
+            writer.cancelName();
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(boolean value) {
+            writer.value(value);
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(double value) {
+            writer.value(value);
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(long value) {
+            writer.value(value);
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(Number value) {
+            writer.value(value);
+            return this;
+        }
+
+        @Override
+        public JsonWriter rawValue(Object value) {
+            writer.rawValue(value);
+            return this;
+        }
+
+        @Override
+        public void flush() {
+            writer.flush();
+        }
+
+        @Override
+        public void close() {
+            writer.close();
+        }
+
+        @Override
+        public String getOutput() {
+            return writer.getOutput();
+        }
+    }
+}
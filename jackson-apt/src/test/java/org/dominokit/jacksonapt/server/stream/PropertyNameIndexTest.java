@@ -0,0 +1,55 @@
+package org.dominokit.jacksonapt.server.stream;
+
+import org.dominokit.jacksonapt.server.ServerJacksonTestCase;
+import org.dominokit.jacksonapt.stream.PropertyNameIndex;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PropertyNameIndexTest extends ServerJacksonTestCase {
+
+    @Test
+    public void testIndexOf() {
+        PropertyNameIndex index = new PropertyNameIndex("id", "name", "firstName", "");
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.indexOf("id")).isEqualTo(0);
+        assertThat(index.indexOf("name")).isEqualTo(1);
+        assertThat(index.indexOf("firstName")).isEqualTo(2);
+        assertThat(index.indexOf("")).isEqualTo(3);
+        assertThat(index.indexOf("Name")).isEqualTo(-1);
+        assertThat(index.indexOf("names")).isEqualTo(-1);
+        assertThat(index.getName(2)).isEqualTo("firstName");
+    }
+
+    @Test
+    public void testIndexOfRegion() {
+        PropertyNameIndex index = new PropertyNameIndex("id", "name");
+        assertThat(index.indexOf("{\"name\":1}", 2, 6)).isEqualTo(1);
+        assertThat(index.indexOf("{\"name\":1}".toCharArray(), 2, 6)).isEqualTo(1);
+        assertThat(index.indexOf("{\"name\":1}".toCharArray(), 2, 5)).isEqualTo(-1);
+    }
+
+    @Test
+    public void testSameHashCode() {
+        // "Aa" and "BB" have the same hash code, they can only be told apart by comparing them
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        PropertyNameIndex index = new PropertyNameIndex("Aa", "BB", "C");
+        assertThat(index.indexOf("Aa")).isEqualTo(0);
+        assertThat(index.indexOf("BB")).isEqualTo(1);
+        assertThat(index.indexOf("C")).isEqualTo(2);
+        assertThat(index.indexOf("AaBB")).isEqualTo(-1);
+    }
+
+    @Test
+    public void testManyNames() {
+        String[] names = new String[200];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "property" + i;
+        }
+        PropertyNameIndex index = new PropertyNameIndex(names);
+        for (int i = 0; i < names.length; i++) {
+            assertThat(index.indexOf(names[i].toCharArray(), 0, names[i].length())).isEqualTo(i);
+        }
+        assertThat(index.indexOf("property200")).isEqualTo(-1);
+    }
+}
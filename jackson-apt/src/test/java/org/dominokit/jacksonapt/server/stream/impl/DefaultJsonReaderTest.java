@@ -32,6 +32,20 @@ public class DefaultJsonReaderTest extends AbstractJsonReaderTest {
         }
     }
 
+    @Test
+    public void testStringsAcrossSmallBuffer() {
+        JsonReader reader = new DefaultJsonReader(new StringReader("[\"abcdefgh\",\"0123456789\",\"a\\tb\",\"" + repeat('x', 40)
+                + "\",\"12345678901234567890\\\\\"]"), DefaultJsonReader.MIN_BUFFER_SIZE);
+        reader.beginArray();
+        assertThat(reader.nextString()).isEqualTo("abcdefgh");
+        assertThat(reader.nextString()).isEqualTo("0123456789");
+        assertThat(reader.nextString()).isEqualTo("a\tb");
+        assertThat(reader.nextString()).isEqualTo(repeat('x', 40));
+        assertThat(reader.nextString()).isEqualTo("12345678901234567890\\");
+        reader.endArray();
+        assertThat(JsonToken.END_DOCUMENT).isEqualTo(reader.peek());
+    }
+
     @Test
     public void testLenientVeryLongNumber() {
         JsonReader reader = newJsonReader("[0." + repeat('9', 8192) + "]");
@@ -19,6 +19,9 @@ package org.dominokit.jacksonapt.server.stream.impl;
 import org.dominokit.jacksonapt.server.stream.AbstractJsonWriterTest;
 import org.dominokit.jacksonapt.stream.JsonWriter;
 import org.dominokit.jacksonapt.stream.impl.FastJsonWriter;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * @author Nicolas Morel
@@ -29,4 +32,21 @@ public class FastJsonWriterTest extends AbstractJsonWriterTest {
     public JsonWriter newJsonWriter() {
         return new FastJsonWriter(new StringBuilder());
     }
+
+    @Test
+    public void testReset() {
+        FastJsonWriter writer = new FastJsonWriter(new StringBuilder());
+        writer.setIndent("  ");
+        writer.beginObject();
+        writer.name("a");
+        writer.beginArray();
+        writer.value(1);
+
+        writer.reset();
+        writer.beginArray();
+        writer.value("b");
+        writer.endArray();
+        writer.close();
+        assertThat(writer.getOutput()).isEqualTo("[\"b\"]");
+    }
 }
@@ -0,0 +1,44 @@
+package org.dominokit.jacksonapt.server.stream.impl;
+
+import org.dominokit.jacksonapt.server.ServerJacksonTestCase;
+import org.dominokit.jacksonapt.stream.impl.FastJsonWriter;
+import org.dominokit.jacksonapt.stream.impl.JsonStreamCache;
+import org.dominokit.jacksonapt.stream.impl.NonBufferedJsonReader;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonStreamCacheTest extends ServerJacksonTestCase {
+
+    @Test
+    public void testReuseReader() {
+        JsonStreamCache cache = new JsonStreamCache();
+        NonBufferedJsonReader reader = cache.acquireReader("[1]");
+        // the reader is in use, a nested read gets another one
+        NonBufferedJsonReader nested = cache.acquireReader("2");
+        assertThat(nested).isNotSameAs(reader);
+        cache.releaseReader(nested);
+        cache.releaseReader(reader);
+
+        NonBufferedJsonReader reused = cache.acquireReader("[3]");
+        assertThat(reused).isSameAs(reader);
+        reused.beginArray();
+        assertThat(reused.nextInt()).isEqualTo(3);
+        reused.endArray();
+    }
+
+    @Test
+    public void testReuseWriter() {
+        JsonStreamCache cache = new JsonStreamCache();
+        FastJsonWriter writer = cache.acquireWriter();
+        writer.beginArray().value("abc").endArray();
+        assertThat(writer.getOutput()).isEqualTo("[\"abc\"]");
+        cache.releaseWriter(writer);
+
+        FastJsonWriter reused = cache.acquireWriter();
+        assertThat(reused).isSameAs(writer);
+        assertThat(cache.acquireWriter()).isNotSameAs(writer);
+        reused.beginObject().name("a").value(1).endObject();
+        assertThat(reused.getOutput()).isEqualTo("{\"a\":1}");
+    }
+}
@@ -18,7 +18,12 @@ package org.dominokit.jacksonapt.server.stream.impl;
 
 import org.dominokit.jacksonapt.server.stream.AbstractJsonReaderTest;
 import org.dominokit.jacksonapt.stream.JsonReader;
+import org.dominokit.jacksonapt.stream.JsonToken;
+import org.dominokit.jacksonapt.stream.RawJson;
 import org.dominokit.jacksonapt.stream.impl.NonBufferedJsonReader;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * @author Nicolas Morel
@@ -29,4 +34,47 @@ public class NonBufferedJsonReaderTest extends AbstractJsonReaderTest {
     public JsonReader newJsonReader(String input) {
         return new NonBufferedJsonReader(input);
     }
+
+    @Test
+    public void testResetInput() {
+        NonBufferedJsonReader reader = new NonBufferedJsonReader("{\"a\": [1, 2");
+        reader.beginObject();
+        assertThat(reader.nextName()).isEqualTo("a");
+        reader.beginArray();
+        assertThat(reader.nextInt()).isEqualTo(1);
+
+        reader.reset("\ufeff[\"b\",\n3]");
+        reader.beginArray();
+        assertThat(reader.nextString()).isEqualTo("b");
+        assertThat(reader.nextInt()).isEqualTo(3);
+        assertThat(reader.getLineNumber()).isEqualTo(2);
+        reader.endArray();
+        assertThat(reader.peek()).isEqualTo(JsonToken.END_DOCUMENT);
+    }
+
+    @Test
+    public void testReadRawValueInPlace() {
+        String input = "{\"a\":1,\"b\":{\"c\":[true,\"d\"]},\"e\":2}";
+        NonBufferedJsonReader reader = new NonBufferedJsonReader(input);
+        reader.beginObject();
+        reader.nextName();
+        reader.skipValue();
+        reader.nextName();
+        RawJson raw = reader.nextRawValue();
+
+        reader = new NonBufferedJsonReader(raw.getSource(), raw.getStart(), raw.getEnd());
+        reader.beginObject();
+        assertThat(reader.nextName()).isEqualTo("c");
+        reader.beginArray();
+        assertThat(reader.nextBoolean()).isTrue();
+        assertThat(reader.nextString()).isEqualTo("d");
+        reader.endArray();
+        reader.endObject();
+        assertThat(reader.peek()).isEqualTo(JsonToken.END_DOCUMENT);
+
+        reader.setLenient(true);
+        reader.reset(input, input.indexOf('2'), input.length() - 1);
+        assertThat(reader.nextInt()).isEqualTo(2);
+        assertThat(reader.peek()).isEqualTo(JsonToken.END_DOCUMENT);
+    }
 }
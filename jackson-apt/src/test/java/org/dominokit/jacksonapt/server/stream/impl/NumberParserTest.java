@@ -0,0 +1,74 @@
+package org.dominokit.jacksonapt.server.stream.impl;
+
+import org.dominokit.jacksonapt.server.ServerJacksonTestCase;
+import org.dominokit.jacksonapt.stream.impl.NumberParser;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NumberParserTest extends ServerJacksonTestCase {
+
+    private static final String[] NUMBERS = {"0", "-0", "0.0", "-0.0", "1", "-1", "0.1", "0.2", "0.3", "1.5", "3.14159",
+            "123456789", "9007199254740992", "9007199254740993", "123456789012345678", "1234567890123456789",
+            "12345678901234567890.123", "1e22", "1e23", "1E-22", "1e-23", "5e-324", "4.9E-324", "1.7976931348623157e308",
+            "1e309", "1e-400", "0.000001", "100000.0e-5", "2.2250738585072014E-308", "16777216", "16777217", "3.4028235E38",
+            "1.4E-45", "0.00000000000000000000001", "1e1000000", "12.5E+3", "7e0", "99999999999999999999e-20"};
+
+    private final NumberParser parser = new NumberParser();
+
+    @Test
+    public void testParseDouble() {
+        for (String number : NUMBERS) {
+            assertThat(parser.parseDouble(number, 0, number.length())).as(number).isEqualTo(Double.parseDouble(number));
+            assertThat(parser.parseDouble(number.toCharArray(), 0, number.length())).as(number)
+                    .isEqualTo(Double.parseDouble(number));
+        }
+    }
+
+    @Test
+    public void testParseFloat() {
+        for (String number : NUMBERS) {
+            assertThat(parser.parseFloat(number, 0, number.length())).as(number).isEqualTo(Float.parseFloat(number));
+        }
+    }
+
+    @Test
+    public void testParseBigDecimal() {
+        for (String number : NUMBERS) {
+            assertThat(parser.parseBigDecimal(number, 0, number.length())).as(number).isEqualTo(new BigDecimal(number));
+        }
+    }
+
+    @Test
+    public void testParseRegion() {
+        String input = "[12.75,-3e2]";
+        assertThat(parser.parseDouble(input, 1, 6)).isEqualTo(12.75d);
+        assertThat(parser.parseDouble(input, 7, 11)).isEqualTo(-300d);
+        assertThat(parser.parseBigDecimal(input.toCharArray(), 7, 11)).isEqualTo(new BigDecimal("-3e2"));
+    }
+
+    @Test
+    public void testRandomNumbers() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            StringBuilder number = new StringBuilder();
+            if (random.nextBoolean()) {
+                number.append('-');
+            }
+            number.append(random.nextInt(100000));
+            if (random.nextBoolean()) {
+                number.append('.').append(random.nextInt(1000000000));
+            }
+            if (random.nextInt(3) == 0) {
+                number.append('e').append(random.nextInt(60) - 30);
+            }
+            String value = number.toString();
+            assertThat(parser.parseDouble(value, 0, value.length())).as(value).isEqualTo(Double.parseDouble(value));
+            assertThat(parser.parseFloat(value, 0, value.length())).as(value).isEqualTo(Float.parseFloat(value));
+            assertThat(parser.parseBigDecimal(value, 0, value.length())).as(value).isEqualTo(new BigDecimal(value));
+        }
+    }
+}
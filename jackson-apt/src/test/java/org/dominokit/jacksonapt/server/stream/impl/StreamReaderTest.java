@@ -0,0 +1,87 @@
+package org.dominokit.jacksonapt.server.stream.impl;
+
+import org.dominokit.jacksonapt.DefaultJsonDeserializationContext;
+import org.dominokit.jacksonapt.JsonDeserializationContext;
+import org.dominokit.jacksonapt.exception.JsonDeserializationException;
+import org.dominokit.jacksonapt.server.stream.AbstractJsonReaderTest;
+import org.dominokit.jacksonapt.stream.JsonReader;
+import org.dominokit.jacksonapt.stream.JsonToken;
+import org.dominokit.jacksonapt.stream.impl.DefaultJsonReader;
+import org.dominokit.jacksonapt.stream.impl.StreamReader;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class StreamReaderTest extends AbstractJsonReaderTest {
+
+    @Override
+    public JsonReader newJsonReader(String input) {
+        return new DefaultJsonReader(new StreamReader(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    public void testReader() {
+        JsonReader reader = new DefaultJsonReader(new StreamReader(new StringReader("{\"name\":\"été\",\"count\":3}")));
+        reader.beginObject();
+        assertThat(reader.nextName()).isEqualTo("name");
+        assertThat(reader.nextString()).isEqualTo("été");
+        assertThat(reader.nextName()).isEqualTo("count");
+        assertThat(reader.nextInt()).isEqualTo(3);
+        reader.endObject();
+        assertThat(reader.peek()).isEqualTo(JsonToken.END_DOCUMENT);
+    }
+
+    @Test
+    public void testSmallBuffer() {
+        String value = repeat('a', 100) + "😀" + repeat('b', 100);
+        JsonReader reader = new DefaultJsonReader(new StreamReader(new StringReader("[\"" + value + "\", 123456789, true, null]")),
+                DefaultJsonReader.MIN_BUFFER_SIZE);
+        reader.beginArray();
+        assertThat(reader.nextString()).isEqualTo(value);
+        assertThat(reader.nextInt()).isEqualTo(123456789);
+        assertThat(reader.nextBoolean()).isTrue();
+        reader.nextNull();
+        reader.endArray();
+        assertThat(reader.peek()).isEqualTo(JsonToken.END_DOCUMENT);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBufferTooSmall() {
+        new DefaultJsonReader(new StreamReader(new StringReader("[]")), DefaultJsonReader.MIN_BUFFER_SIZE - 1);
+    }
+
+    @Test
+    public void testContextReadBufferSize() {
+        JsonDeserializationContext ctx = DefaultJsonDeserializationContext.builder()
+                .readBufferSize(DefaultJsonReader.MIN_BUFFER_SIZE)
+                .build();
+        JsonReader reader = ctx.newJsonReader(new StringReader("[\"" + repeat('x', 50) + "\"]"));
+        reader.beginArray();
+        assertThat(reader.nextString()).isEqualTo(repeat('x', 50));
+        reader.endArray();
+    }
+
+    @Test
+    public void testIOExceptionIsWrapped() {
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("broken");
+            }
+        };
+        JsonReader reader = new DefaultJsonReader(new StreamReader(failing));
+        try {
+            reader.peek();
+            fail("expected a JsonDeserializationException");
+        } catch (JsonDeserializationException e) {
+            assertThat(e.getCause()).isInstanceOf(IOException.class);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.dominokit.jacksonapt.server.stream.impl;
+
+import org.dominokit.jacksonapt.server.stream.AbstractJsonReaderTest;
+import org.dominokit.jacksonapt.stream.JsonReader;
+import org.dominokit.jacksonapt.stream.JsonToken;
+import org.dominokit.jacksonapt.stream.impl.DefaultJsonReader;
+import org.dominokit.jacksonapt.stream.impl.Utf8ByteBufferReader;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class Utf8ByteBufferReaderTest extends AbstractJsonReaderTest {
+
+    @Override
+    public JsonReader newJsonReader(String input) {
+        return new DefaultJsonReader(new Utf8ByteBufferReader(input.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testMultiBytesCharacters() {
+        JsonReader reader = newJsonReader("[\"café\", \"€\", \"😀\"]");
+        reader.beginArray();
+        assertThat(reader.nextString()).isEqualTo("café");
+        assertThat(reader.nextString()).isEqualTo("€");
+        assertThat(reader.nextString()).isEqualTo("😀");
+        reader.endArray();
+        assertThat(reader.peek()).isEqualTo(JsonToken.END_DOCUMENT);
+    }
+
+    @Test
+    public void testSupplementaryCharacterAcrossBufferBoundary() {
+        String value = repeat('a', 1022) + "😀" + repeat('b', 10);
+        JsonReader reader = newJsonReader("[\"" + value + "\"]");
+        reader.beginArray();
+        assertThat(reader.nextString()).isEqualTo(value);
+        reader.endArray();
+    }
+
+    @Test
+    public void testDirectByteBuffer() {
+        byte[] bytes = "{\"name\":\"été\",\"count\":3}".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes);
+        buffer.flip();
+
+        JsonReader reader = new DefaultJsonReader(new Utf8ByteBufferReader(buffer));
+        reader.beginObject();
+        assertThat(reader.nextName()).isEqualTo("name");
+        assertThat(reader.nextString()).isEqualTo("été");
+        assertThat(reader.nextName()).isEqualTo("count");
+        assertThat(reader.nextInt()).isEqualTo(3);
+        reader.endObject();
+        assertThat(buffer.position()).isEqualTo(0);
+    }
+
+    @Test
+    public void testMalformedSequencesAreReplaced() {
+        byte[] bytes = new byte[]{'[', '"', 'a', (byte) 0xC3, 'b', (byte) 0x80, '"', ']'};
+        JsonReader reader = new DefaultJsonReader(new Utf8ByteBufferReader(bytes));
+        reader.beginArray();
+        assertThat(reader.nextString()).isEqualTo(new String(new byte[]{'a', (byte) 0xC3, 'b', (byte) 0x80}, StandardCharsets.UTF_8));
+        reader.endArray();
+    }
+
+    @Test
+    public void testGetInput() {
+        String input = "{\"a\":\"é\"}";
+        JsonReader reader = newJsonReader(input);
+        reader.beginObject();
+        assertThat(reader.getInput()).isEqualTo(input);
+    }
+}
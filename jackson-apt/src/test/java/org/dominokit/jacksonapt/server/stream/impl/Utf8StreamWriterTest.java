@@ -0,0 +1,127 @@
+package org.dominokit.jacksonapt.server.stream.impl;
+
+import org.dominokit.jacksonapt.exception.JsonSerializationException;
+import org.dominokit.jacksonapt.server.stream.AbstractJsonWriterTest;
+import org.dominokit.jacksonapt.stream.JsonWriter;
+import org.dominokit.jacksonapt.stream.impl.DefaultJsonWriter;
+import org.dominokit.jacksonapt.stream.impl.Utf8StreamWriter;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class Utf8StreamWriterTest extends AbstractJsonWriterTest {
+
+    @Override
+    public JsonWriter newJsonWriter() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        return new DefaultJsonWriter(new Utf8StreamWriter(out, Utf8StreamWriter.MIN_BUFFER_SIZE) {
+            @Override
+            public String getOutput() {
+                flush();
+                return new String(out.toByteArray(), StandardCharsets.UTF_8);
+            }
+        });
+    }
+
+    @Test
+    public void testMultiBytesCharacters() {
+        String value = "café € 😀 \u2028";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonWriter writer = new DefaultJsonWriter(new Utf8StreamWriter(out, Utf8StreamWriter.MIN_BUFFER_SIZE));
+        writer.beginArray();
+        writer.value(value);
+        writer.endArray();
+        writer.flush();
+        assertThat(out.toByteArray()).isEqualTo("[\"café € 😀 \\u2028\"]".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testUnpairedSurrogates() {
+        String value = "a\uD83Db\uDE00c";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonWriter writer = new DefaultJsonWriter(new Utf8StreamWriter(out));
+        writer.beginArray();
+        writer.value(value);
+        writer.endArray();
+        writer.flush();
+        assertThat(out.toByteArray()).isEqualTo(("[\"" + value + "\"]").getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testNumbersAcrossBuffer() {
+        StringBuilder expected = new StringBuilder();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonWriter writer = new DefaultJsonWriter(new Utf8StreamWriter(out, 32));
+        writer.beginArray();
+        long value = 1;
+        for (int i = 0; i < 60; i++) {
+            value = value * 3 + i;
+            double d = value / 7.0;
+            writer.value(i % 2 == 0 ? value : -value);
+            writer.value(d);
+            expected.append(i == 0 ? "" : ",").append(i % 2 == 0 ? value : -value).append(',').append(d);
+        }
+        writer.endArray();
+        writer.close();
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("[" + expected + "]");
+    }
+
+    @Test
+    public void testChannel() {
+        StringBuilder expected = new StringBuilder();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonWriter writer = new DefaultJsonWriter(new Utf8StreamWriter(Channels.newChannel(out), 16));
+        writer.beginArray();
+        for (int i = 0; i < 100; i++) {
+            writer.value("été" + i);
+            expected.append(i == 0 ? "" : ",").append("\"été").append(i).append('"');
+        }
+        writer.endArray();
+        writer.close();
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("[" + expected + "]");
+    }
+
+    @Test
+    public void testNothingWrittenBeforeFlush() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonWriter writer = new DefaultJsonWriter(new Utf8StreamWriter(out));
+        writer.beginObject();
+        writer.name("a").value(1);
+        writer.endObject();
+        assertThat(out.size()).isEqualTo(0);
+        assertThat(writer.getOutput()).isNull();
+        writer.flush();
+        assertThat(out.toByteArray()).isEqualTo("{\"a\":1}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testIOExceptionIsWrapped() {
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("broken");
+            }
+        };
+        JsonWriter writer = new DefaultJsonWriter(new Utf8StreamWriter(failing));
+        writer.beginArray();
+        writer.endArray();
+        try {
+            writer.flush();
+            fail("expected a JsonSerializationException");
+        } catch (JsonSerializationException e) {
+            assertThat(e.getCause()).isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBufferTooSmall() {
+        new Utf8StreamWriter(new ByteArrayOutputStream(), Utf8StreamWriter.MIN_BUFFER_SIZE - 1);
+    }
+}
@@ -0,0 +1,60 @@
+package org.dominokit.jacksonapt.server.utils;
+
+import org.dominokit.jacksonapt.server.ServerJacksonTestCase;
+import org.dominokit.jacksonapt.utils.Base64Utils;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Fail.fail;
+
+public class Base64UtilsTest extends ServerJacksonTestCase {
+
+    @Test
+    public void testRoundTrip() {
+        Random random = new Random(42);
+        for (int length = 0; length < 100; length++) {
+            byte[] data = new byte[length];
+            random.nextBytes(data);
+            String encoded = Base64.getEncoder().encodeToString(data);
+            assertThat(Base64Utils.toBase64(data)).isEqualTo(encoded);
+            assertThat(Base64Utils.fromBase64(encoded)).isEqualTo(data);
+        }
+    }
+
+    @Test
+    public void testEncodeRange() {
+        byte[] data = {1, 2, 3, 4, 5, 6, 7};
+        char[] chars = new char[Base64Utils.encodedLength(5) + 2];
+        int end = Base64Utils.encode(data, 1, 5, chars, 2);
+        assertThat(end).isEqualTo(chars.length);
+        assertThat(new String(chars, 2, end - 2)).isEqualTo(Base64.getEncoder().encodeToString(Arrays.copyOfRange(data, 1, 6)));
+    }
+
+    @Test
+    public void testDecodeWithoutPadding() {
+        assertThat(Base64Utils.fromBase64("AQI")).isEqualTo(new byte[]{1, 2});
+        assertThat(Base64Utils.fromBase64("AQ")).isEqualTo(new byte[]{1});
+        char[] chars = "xxAQIDBAx".toCharArray();
+        byte[] bytes = new byte[Base64Utils.decodedLength("AQIDBA", 0, 6)];
+        assertThat(Base64Utils.decode(chars, 2, 8, bytes, 0)).isEqualTo(4);
+        assertThat(bytes).isEqualTo(new byte[]{1, 2, 3, 4});
+    }
+
+    @Test
+    public void testDecodeIllegalData() {
+        try {
+            Base64Utils.fromBase64("AQ!D");
+            fail("failed");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            Base64Utils.fromBase64("AQIDB");
+            fail("failed");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.dominokit.jacksonapt.server.utils;
+
+import org.dominokit.jacksonapt.server.ServerJacksonTestCase;
+import org.dominokit.jacksonapt.utils.DefaultDateFormat;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DefaultDateFormatTest extends ServerJacksonTestCase {
+
+    private final DefaultDateFormat dateFormat = new DefaultDateFormat();
+
+    @Test
+    public void testFormatterIsCached() {
+        ZoneId paris = ZoneId.of("Europe/Paris");
+        assertThat(DefaultDateFormat.getFormatter("dd/MM/yyyy", paris)).isSameAs(DefaultDateFormat.getFormatter("dd/MM/yyyy", paris));
+        assertThat(DefaultDateFormat.getFormatter("dd/MM/yyyy", paris)).isNotSameAs(DefaultDateFormat.getFormatter("dd/MM/yyyy", ZoneOffset.UTC));
+        assertThat(DefaultDateFormat.getFormatter("dd/MM/yyyy", paris).getZone()).isEqualTo(paris);
+    }
+
+    @Test
+    public void testParseWithoutTimezoneUsesUTC() {
+        assertThat(dateFormat.parse(false, "dd/MM/yyyy", null, "18/08/2012")).isEqualTo(getUTCDate(2012, 8, 18, 0, 0, 0, 0));
+        assertThat(dateFormat.parse(false, "dd/MM/yyyy HH:mm", null, "18/08/2012 15:45")).isEqualTo(getUTCDate(2012, 8, 18, 15, 45, 0, 0));
+    }
+
+    @Test
+    public void testParseHalfDayHoursWithoutMarker() {
+        assertThat(dateFormat.parse(false, "yyyy-MM-dd hh:mm", null, "2020-01-05 03:30")).isEqualTo(getUTCDate(2020, 1, 5, 3, 30, 0, 0));
+    }
+
+    @Test
+    public void testParseTimeOnly() {
+        assertThat(dateFormat.parse(false, "HH:mm:ss", null, "10:11:12")).isEqualTo(getUTCDate(1970, 1, 1, 10, 11, 12, 0));
+    }
+
+    @Test
+    public void testParseFieldsWithoutPadding() {
+        assertThat(dateFormat.parse(false, "yyyy-MM-dd", null, "2020-1-5")).isEqualTo(getUTCDate(2020, 1, 5, 0, 0, 0, 0));
+    }
+
+    @Test
+    public void testParseWithHasTz() {
+        Date expected = Date.from(LocalDateTime.of(2020, 1, 5, 3, 30).atZone(ZoneId.systemDefault()).toInstant());
+        assertThat(dateFormat.parse(false, "yyyy-MM-dd HH:mm", true, "2020-01-05 03:30")).isEqualTo(expected);
+        assertThat(dateFormat.parse(false, "yyyy-MM-dd HH:mm", false, "2020-01-05 03:30")).isEqualTo(getUTCDate(2020, 1, 5, 3, 30, 0, 0));
+    }
+
+    @Test
+    public void testParseWithTimezone() {
+        assertThat(dateFormat.parse(false, "yyyy-MM-dd'T'HH:mm:ss.SSSZ", null, "2012-08-18T17:45:56.543+0200"))
+                .isEqualTo(getUTCDate(2012, 8, 18, 15, 45, 56, 543));
+        assertThat(dateFormat.parse(true, "yyyy-MM-dd'T'HH:mm:ss.SSSZ", null, "2012-08-18T17:45:56.543+0200"))
+                .isEqualTo(getUTCDate(2012, 8, 18, 15, 45, 56, 543));
+    }
+
+    @Test
+    public void testConcurrentParseAndFormat() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                final int day = 1 + i % 28;
+                results.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() {
+                        Date expected = getUTCDate(2012, 8, day, 10, 20, 30, 0);
+                        String formatted = DefaultDateFormat.getFormatter("dd/MM/yyyy HH:mm:ss", ZoneOffset.UTC).format(expected.toInstant());
+                        return expected.equals(dateFormat.parse(false, "dd/MM/yyyy HH:mm:ss", null, formatted));
+                    }
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.dominokit.jacksonapt.server.utils;
+
+import org.dominokit.jacksonapt.server.ServerJacksonTestCase;
+import org.dominokit.jacksonapt.utils.DefaultDateFormat;
+import org.dominokit.jacksonapt.utils.Iso8601;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class Iso8601Test extends ServerJacksonTestCase {
+
+    @Test
+    public void testParse() {
+        long expected = getUTCTime(2012, 8, 18, 15, 45, 56, 543);
+        assertThat(Iso8601.parse("2012-08-18T15:45:56.543Z")).isEqualTo(expected);
+        assertThat(Iso8601.parse("2012-08-18T17:45:56.543+02:00")).isEqualTo(expected);
+        assertThat(Iso8601.parse("2012-08-18T17:45:56.543+0200")).isEqualTo(expected);
+        assertThat(Iso8601.parse("2012-08-18T13:15:56.543-02:30")).isEqualTo(expected);
+        assertThat(Iso8601.parse("2012-08-18T15:45:56.543999Z")).isEqualTo(expected);
+        assertThat(Iso8601.parse("2012-08-18T15:45:56.5Z")).isEqualTo(getUTCTime(2012, 8, 18, 15, 45, 56, 500));
+        assertThat(Iso8601.parse("2012-08-18T15:45:56Z")).isEqualTo(getUTCTime(2012, 8, 18, 15, 45, 56, 0));
+        assertThat(Iso8601.parse("2012-08-18T15:45Z")).isEqualTo(getUTCTime(2012, 8, 18, 15, 45, 0, 0));
+        assertThat(Iso8601.parse("1969-12-31T23:59:59.999Z")).isEqualTo(-1L);
+        assertThat(Iso8601.parse("2012-02-29T00:00:00Z")).isEqualTo(getUTCTime(2012, 2, 29, 0, 0, 0, 0));
+    }
+
+    @Test
+    public void testParseUnsupported() {
+        assertThat(Iso8601.parse("2012-08-18")).isEqualTo(Iso8601.INVALID);
+        assertThat(Iso8601.parse("2012-08-18T15:45:56.543")).isEqualTo(Iso8601.INVALID);
+        assertThat(Iso8601.parse("2012-08-18T15:45:56.Z")).isEqualTo(Iso8601.INVALID);
+        assertThat(Iso8601.parse("2012-08-18T15:45:56.543+02:00[Europe/Paris]")).isEqualTo(Iso8601.INVALID);
+        assertThat(Iso8601.parse("2011-02-29T00:00:00Z")).isEqualTo(Iso8601.INVALID);
+        assertThat(Iso8601.parse("2012-13-01T00:00:00Z")).isEqualTo(Iso8601.INVALID);
+        assertThat(Iso8601.parse("2012-08-18T24:00:00Z")).isEqualTo(Iso8601.INVALID);
+        assertThat(Iso8601.parse("2012-08-1aT15:45:56Z")).isEqualTo(Iso8601.INVALID);
+    }
+
+    @Test
+    public void testFormatUTC() {
+        assertThat(Iso8601.formatUTC(getUTCTime(2019, 9, 18, 9, 40, 10, 50))).isEqualTo("2019-09-18T09:40:10.050+0000");
+        assertThat(Iso8601.formatUTC(-1L)).isEqualTo("1969-12-31T23:59:59.999+0000");
+        assertThat(Iso8601.formatUTC(Instant.parse("+10000-01-01T00:00:00Z").toEpochMilli())).isNull();
+    }
+
+    @Test
+    public void testSameAsFormatter() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            long millis = (long) ((random.nextDouble() - 0.5) * 2 * 253402300799999L);
+            if (millis < -62135596800000L) {
+                // before year 1, not handled
+                millis = -millis;
+            }
+            String expected = DefaultDateFormat.DATE_FORMAT_STR_ISO8601.withZone(DefaultDateFormat.UTC_TIMEZONE)
+                    .format(Instant.ofEpochMilli(millis));
+            assertThat(Iso8601.formatUTC(millis)).isEqualTo(expected);
+            assertThat(Iso8601.parse(expected)).isEqualTo(millis);
+        }
+    }
+}